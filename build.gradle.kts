@@ -6,20 +6,94 @@ plugins {
     id("com.mineplex.sdk.plugin") version "1.3.12"
     id("net.minecrell.plugin-yml.paper") version "0.6.0"
     id("com.diffplug.spotless") version "6.25.0"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 repositories {
     mavenLocal()
+    // JMH and MockBukkit, only used by the jmh source set
+    mavenCentral()
+    // Paper API required by MockBukkit
+    maven("https://repo.papermc.io/repository/maven-public/")
+}
+
+dependencies {
+    // Mocked server for the benchmarks requiring online players and item stacks
+    jmh("org.mockbukkit.mockbukkit:mockbukkit-v1.21:4.0.0")
 }
 
 group = "com.mineplex.studio.example.survivalgames"
 version = "1.0.0"
 description = "SurvivalGames"
 
+sourceSets {
+    // Headless match simulator, run through the simulate task
+    create("simulation") {
+        compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+        runtimeClasspath += output + compileClasspath
+    }
+
+    // Hot path benchmarks, run through the jmh task
+    named("jmh") {
+        compileClasspath += sourceSets.main.get().compileClasspath + sourceSets["simulation"].output
+        runtimeClasspath += sourceSets.main.get().compileClasspath + sourceSets["simulation"].output
+    }
+}
+
+configurations {
+    named("simulationAnnotationProcessor") {
+        extendsFrom(annotationProcessor.get())
+    }
+}
+
 tasks {
     build {
         dependsOn(named("generatePaperPluginDescription"))
     }
+
+    val compileLootPack =
+        register<JavaExec>("compileLootPack") {
+            group = "build"
+            description = "Compiles the loot type files into the binary loot pack"
+            val pack = layout.buildDirectory.file("generated/loot/loot.pack")
+            // Only the compiled classes, the resources contain the pack itself
+            classpath = files(sourceSets.main.get().java.classesDirectory) + sourceSets.main.get().compileClasspath
+            mainClass = "com.mineplex.studio.example.survivalgames.game.loot.LootPackCompiler"
+            args(pack.get().asFile.path)
+            inputs.files("assets/configs/tier1.json", "assets/configs/tier2.json")
+            outputs.file(pack)
+        }
+
+    // Bundle the loot pack with the plugin
+    processResources {
+        from(compileLootPack)
+    }
+
+    register<JavaExec>("simulate") {
+        group = "verification"
+        description = "Runs the headless match model simulator, e.g. -PsimulationArgs=\"players=100 seed=42\""
+        classpath = sourceSets["simulation"].runtimeClasspath
+        mainClass = "com.mineplex.studio.example.survivalgames.simulation.MatchSimulator"
+        args = (findProperty("simulationArgs") as String?)?.split(" ") ?: emptyList()
+    }
+
+    register<JavaExec>("simulateLoot") {
+        group = "verification"
+        description = "Runs the loot distribution simulator, e.g. -PlootSimulationArgs=\"containers=100000000 seed=42\""
+        classpath = sourceSets["simulation"].runtimeClasspath
+        mainClass = "com.mineplex.studio.example.survivalgames.simulation.LootDistributionSimulator"
+        args = (findProperty("lootSimulationArgs") as String?)?.split(" ") ?: emptyList()
+    }
+}
+
+jmh {
+    jmhVersion = "1.37"
+    profilers = listOf("gc")
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+    // Run a subset of the benchmarks, e.g. -PjmhIncludes=SpawnAllocatorBenchmark
+    (findProperty("jmhIncludes") as String?)?.let { includes = listOf(it) }
 }
 
 paper {
@@ -0,0 +1,152 @@
+package com.mineplex.studio.example.survivalgames.benchmark;
+
+import com.mineplex.studio.example.survivalgames.game.mechanic.ChunkGrid;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks the closest alive player search of the tracking compass with and without the {@link ChunkGrid}.
+ * <p>
+ * The world scan replays the former search: every player of the world, spectators included, is checked through a
+ * player state lookup and measured with a square root distance. The grid only holds the alive players and searches the
+ * chunks around the compass user, so its cost should stay flat as spectators and players are added.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChunkGridBenchmark {
+    /**
+     * The number of alive players.
+     */
+    @Param({"24", "100", "500"})
+    public int players;
+
+    /**
+     * The number of spectators in the same world.
+     */
+    @Param({"0", "100", "1000"})
+    public int spectators;
+
+    /**
+     * All players of the world, alive players first.
+     */
+    private Target[] world;
+
+    /**
+     * The alive state of every player, standing in for the player state lookup of the game.
+     */
+    private Map<Target, Boolean> states;
+
+    /**
+     * The grid of all alive players.
+     */
+    private ChunkGrid<Target> grid;
+
+    /**
+     * The index of the next compass user.
+     */
+    private int next;
+
+    /**
+     * Scatters the players and spectators over the map.
+     */
+    @Setup
+    public void setup() {
+        final SplittableRandom random = new SplittableRandom(42);
+        this.world = new Target[this.players + this.spectators];
+        this.states = new HashMap<>();
+        this.grid = new ChunkGrid<>();
+        for (int i = 0; i < this.world.length; i++) {
+            final Target target = new Target(random.nextDouble(-200, 200), random.nextDouble(-200, 200));
+            this.world[i] = target;
+            this.states.put(target, i < this.players);
+            if (i < this.players) {
+                this.grid.put(target, target.x, target.z);
+            }
+        }
+    }
+
+    /**
+     * Returns the next alive compass user.
+     *
+     * @return the compass user
+     */
+    private Target nextUser() {
+        final Target user = this.world[this.next];
+        this.next = (this.next + 1) % this.players;
+        return user;
+    }
+
+    /**
+     * Replays the former search over every player of the world.
+     *
+     * @return the closest alive player
+     */
+    @Benchmark
+    public Target worldScan() {
+        final Target user = this.nextUser();
+        Target closest = null;
+        double distance = Double.MAX_VALUE;
+        for (final Target other : this.world) {
+            if (other == user || !this.states.get(other)) {
+                continue;
+            }
+
+            final double dx = other.x - user.x;
+            final double dz = other.z - user.z;
+            final double otherDistance = Math.sqrt(dx * dx + dz * dz);
+            if (distance > otherDistance) {
+                distance = otherDistance;
+                closest = other;
+            }
+        }
+        return closest;
+    }
+
+    /**
+     * Searches the grid ring by ring.
+     *
+     * @return the closest alive player
+     */
+    @Benchmark
+    public Target gridQuery() {
+        final Target user = this.nextUser();
+        return this.grid.nearest(user.x, user.z, other -> other != user);
+    }
+
+    /**
+     * A player position.
+     */
+    public static final class Target {
+        /**
+         * The x coordinate.
+         */
+        private final double x;
+
+        /**
+         * The z coordinate.
+         */
+        private final double z;
+
+        /**
+         * Constructs a new position.
+         *
+         * @param x the x coordinate
+         * @param z the z coordinate
+         */
+        private Target(final double x, final double z) {
+            this.x = x;
+            this.z = z;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.mineplex.studio.example.survivalgames.benchmark;
+
+import com.mineplex.studio.example.survivalgames.modules.performance.LatencyHistogram;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks the per call overhead the handler timing of the PerformanceModule adds.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LatencyHistogramBenchmark {
+    /**
+     * The histogram recorded to.
+     */
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    /**
+     * Times an empty handler, the same way a timed listener does.
+     */
+    @Benchmark
+    public void timedCall() {
+        final long start = System.nanoTime();
+        this.histogram.record(System.nanoTime() - start);
+    }
+}
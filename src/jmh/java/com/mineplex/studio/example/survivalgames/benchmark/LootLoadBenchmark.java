@@ -0,0 +1,85 @@
+package com.mineplex.studio.example.survivalgames.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mineplex.studio.example.survivalgames.game.loot.CompiledLootType;
+import com.mineplex.studio.example.survivalgames.game.loot.LootConfig;
+import com.mineplex.studio.example.survivalgames.game.loot.LootPack;
+import com.mineplex.studio.example.survivalgames.game.loot.LootPackCompiler;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks loading the loot catalog from the loot type files and from the compiled {@link LootPack}.
+ * <p>
+ * Both paths compile the same {@link CompiledLootType} the game uses. Neither decodes any item, the items of both are
+ * decoded on the main thread on their first roll.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LootLoadBenchmark {
+    /**
+     * The object mapper reading the loot type files.
+     */
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * The pack compiled from the loot type files.
+     */
+    private Path pack;
+
+    /**
+     * Compiles the loot type files into a temporary pack.
+     *
+     * @throws IOException If an I/O error occurs while compiling the pack.
+     */
+    @Setup
+    public void setup() throws IOException {
+        this.pack = Files.createTempFile("loot", ".pack");
+        LootPackCompiler.compile(LootConfig.TIER_ONE_FILE.toPath(), LootConfig.TIER_TWO_FILE.toPath(), this.pack);
+    }
+
+    /**
+     * Deletes the temporary pack.
+     *
+     * @throws IOException If an I/O error occurs while deleting the pack.
+     */
+    @TearDown
+    public void teardown() throws IOException {
+        Files.deleteIfExists(this.pack);
+    }
+
+    /**
+     * Parses both loot type files and compiles their loot types.
+     *
+     * @param blackhole consumes the compiled loot types
+     * @throws IOException If an I/O error occurs while reading the files.
+     */
+    @Benchmark
+    public void parseJson(final Blackhole blackhole) throws IOException {
+        blackhole.consume(CompiledLootType.fromJson(this.objectMapper.readTree(LootConfig.TIER_ONE_FILE)));
+        blackhole.consume(CompiledLootType.fromJson(this.objectMapper.readTree(LootConfig.TIER_TWO_FILE)));
+    }
+
+    /**
+     * Maps the pack and reads its tables.
+     *
+     * @return the loot config of the pack
+     * @throws IOException If an I/O error occurs while mapping the pack.
+     */
+    @Benchmark
+    public LootConfig mapPack() throws IOException {
+        return LootPack.open(this.pack).toConfig();
+    }
+}
@@ -0,0 +1,83 @@
+package com.mineplex.studio.example.survivalgames.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mineplex.studio.example.survivalgames.game.loot.CompiledLootTable;
+import com.mineplex.studio.example.survivalgames.game.loot.LootConfig;
+import java.io.IOException;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks rolling the loot of a single container from the tier one and tier two loot type files.
+ * <p>
+ * The {@link CompiledLootTable} of the game picks items through alias tables and writes the rolled items into the
+ * reused buffers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LootRollBenchmark {
+    /**
+     * The random generator of the rolls.
+     */
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    /**
+     * The buffer receiving the rolled items.
+     */
+    private final int[] rolled = new int[64];
+
+    /**
+     * The buffer receiving the rolled amounts.
+     */
+    private final int[] amounts = new int[64];
+
+    /**
+     * The compiled tier one loot table.
+     */
+    private CompiledLootTable compiledTierOne;
+
+    /**
+     * The compiled tier two loot table.
+     */
+    private CompiledLootTable compiledTierTwo;
+
+    /**
+     * Reads the loot type files.
+     *
+     * @throws IOException If an I/O error occurs while reading the loot type files.
+     */
+    @Setup
+    public void setup() throws IOException {
+        final ObjectMapper objectMapper = new ObjectMapper();
+        this.compiledTierOne = CompiledLootTable.fromJson(objectMapper.readTree(LootConfig.TIER_ONE_FILE));
+        this.compiledTierTwo = CompiledLootTable.fromJson(objectMapper.readTree(LootConfig.TIER_TWO_FILE));
+    }
+
+    /**
+     * Rolls a tier one container through the alias tables.
+     *
+     * @return the number of rolled items
+     */
+    @Benchmark
+    public int aliasTierOne() {
+        return this.compiledTierOne.roll(this.random, this.rolled, this.amounts);
+    }
+
+    /**
+     * Rolls a tier two container through the alias tables.
+     *
+     * @return the number of rolled items
+     */
+    @Benchmark
+    public int aliasTierTwo() {
+        return this.compiledTierTwo.roll(this.random, this.rolled, this.amounts);
+    }
+}
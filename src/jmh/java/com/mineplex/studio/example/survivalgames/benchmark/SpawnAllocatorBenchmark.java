@@ -0,0 +1,57 @@
+package com.mineplex.studio.example.survivalgames.benchmark;
+
+import com.mineplex.studio.example.survivalgames.game.spawn.SpawnAllocator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.bukkit.Location;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks the spawn selection of a match start through the {@link SpawnAllocator}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SpawnAllocatorBenchmark {
+    /**
+     * The number of participants, one spawn per participant.
+     */
+    @Param({"24", "100", "500"})
+    public int participants;
+
+    /**
+     * The spawn locations of the generated map.
+     */
+    private List<Location> spawns;
+
+    /**
+     * Places the spawns on a ring, like the spawn pads of the shipped maps.
+     */
+    @Setup
+    public void setup() {
+        this.spawns = new ArrayList<>(this.participants);
+        for (int i = 0; i < this.participants; i++) {
+            final double angle = 2 * Math.PI * i / this.participants;
+            this.spawns.add(new Location(null, Math.cos(angle) * 30, 64, Math.sin(angle) * 30));
+        }
+    }
+
+    /**
+     * Builds the allocator and allocates a spawn for every participant, the full work of a match start.
+     *
+     * @return the allocated spawn indexes
+     */
+    @Benchmark
+    public int[] allocateMatch() {
+        return new SpawnAllocator(this.spawns, new SplittableRandom(42)).allocate(this.participants);
+    }
+}
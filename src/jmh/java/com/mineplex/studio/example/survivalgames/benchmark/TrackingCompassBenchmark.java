@@ -0,0 +1,64 @@
+package com.mineplex.studio.example.survivalgames.benchmark;
+
+import com.mineplex.studio.example.survivalgames.game.mechanic.TrackingCompassMechanic;
+import java.util.concurrent.TimeUnit;
+import org.bukkit.inventory.ItemStack;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks creating tracking compass items through {@link TrackingCompassMechanic#createTrackingCompass(int)}.
+ * <p>
+ * {@link ItemStack} require a server, so the benchmark runs on a MockBukkit server. Compasses with up to 64 uses are
+ * copied from a cached template, compasses with more uses are built on every call.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TrackingCompassBenchmark {
+    /**
+     * The number of uses of the created compass.
+     */
+    @Param({"5", "100"})
+    public int uses;
+
+    /**
+     * The mechanic creating the compasses.
+     */
+    private TrackingCompassMechanic mechanic;
+
+    /**
+     * Starts the mocked server.
+     */
+    @Setup
+    public void setup() {
+        MockBukkit.mock();
+        this.mechanic = new TrackingCompassMechanic(null, null, null, player -> true);
+    }
+
+    /**
+     * Stops the mocked server.
+     */
+    @TearDown
+    public void teardown() {
+        MockBukkit.unmock();
+    }
+
+    /**
+     * Creates a tracking compass.
+     *
+     * @return the created compass
+     */
+    @Benchmark
+    public ItemStack createTrackingCompass() {
+        return this.mechanic.createTrackingCompass(this.uses);
+    }
+}
@@ -0,0 +1,143 @@
+package com.mineplex.studio.example.survivalgames.game.mechanic;
+
+import com.mineplex.studio.sdk.modules.game.BuiltInPlayerState;
+import com.mineplex.studio.sdk.modules.game.MineplexGame;
+import it.unimi.dsi.fastutil.doubles.DoubleObjectPair;
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.ServerMock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks the closest player search of the tracking compass.
+ * <p>
+ * The benchmark lives in the package of the {@link TrackingCompassMechanic} to call its package-private
+ * {@link TrackingCompassMechanic#findClosetPlayer(Player)} with players of a MockBukkit server. The game of the
+ * mechanic is a proxy reporting every player as alive. The primitive variant is the lower bound of a linear scan
+ * without any allocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ClosestPlayerBenchmark {
+    /**
+     * The number of players in the world.
+     */
+    @Param({"24", "100", "500"})
+    public int players;
+
+    /**
+     * The mocked server the players are online on.
+     */
+    private ServerMock server;
+
+    /**
+     * The mechanic tracking all players.
+     */
+    private TrackingCompassMechanic mechanic;
+
+    /**
+     * Every online player, the first one is searching.
+     */
+    private Player[] participants;
+
+    /**
+     * The x coordinate of every player.
+     */
+    private double[] xs;
+
+    /**
+     * The z coordinate of every player.
+     */
+    private double[] zs;
+
+    /**
+     * Scatters the players over the map and tracks them.
+     */
+    @Setup
+    public void setup() {
+        this.server = MockBukkit.mock();
+        final World world = this.server.addSimpleWorld("benchmark");
+
+        final MineplexGame game = (MineplexGame) Proxy.newProxyInstance(
+                MineplexGame.class.getClassLoader(), new Class<?>[] {MineplexGame.class}, (proxy, method, args) ->
+                        switch (method.getName()) {
+                            case "getPlayerState" -> BuiltInPlayerState.ALIVE;
+                            case "hashCode" -> System.identityHashCode(proxy);
+                            case "equals" -> proxy == args[0];
+                            case "toString" -> "BenchmarkGame";
+                            default -> throw new UnsupportedOperationException(method.getName());
+                        });
+        this.mechanic = new TrackingCompassMechanic(null, null, null, player -> true);
+        this.mechanic.setGame(game);
+
+        final SplittableRandom random = new SplittableRandom(42);
+        this.participants = new Player[this.players];
+        this.xs = new double[this.players];
+        this.zs = new double[this.players];
+        for (int i = 0; i < this.players; i++) {
+            this.xs[i] = random.nextDouble(-200, 200);
+            this.zs[i] = random.nextDouble(-200, 200);
+
+            final Player player = this.server.addPlayer();
+            player.teleport(new Location(world, this.xs[i], 64, this.zs[i]));
+            this.participants[i] = player;
+            this.mechanic.track(player);
+        }
+    }
+
+    /**
+     * Stops the mocked server.
+     */
+    @TearDown
+    public void teardown() {
+        MockBukkit.unmock();
+    }
+
+    /**
+     * Finds the closest player of the first player through the {@link TrackingCompassMechanic}.
+     *
+     * @return the distance to and the closest player
+     */
+    @Benchmark
+    public Optional<DoubleObjectPair<Player>> findClosetPlayer() {
+        return this.mechanic.findClosetPlayer(this.participants[0]);
+    }
+
+    /**
+     * Scans squared distances on primitive coordinates.
+     *
+     * @return the index of the closest player
+     */
+    @Benchmark
+    public int primitiveScan() {
+        final double x = this.xs[0];
+        final double z = this.zs[0];
+        int target = -1;
+        double distance = Double.MAX_VALUE;
+        for (int i = 1; i < this.players; i++) {
+            final double dx = this.xs[i] - x;
+            final double dz = this.zs[i] - z;
+            final double distanceSquared = dx * dx + dz * dz;
+            if (distance > distanceSquared) {
+                distance = distanceSquared;
+                target = i;
+            }
+        }
+        return target;
+    }
+}
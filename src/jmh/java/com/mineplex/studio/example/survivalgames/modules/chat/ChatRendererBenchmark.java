@@ -0,0 +1,145 @@
+package com.mineplex.studio.example.survivalgames.modules.chat;
+
+import com.mineplex.studio.example.survivalgames.game.stat.SurvivalGamesStats;
+import com.mineplex.studio.example.survivalgames.modules.prefix.ChatPrefixModule;
+import com.mineplex.studio.sdk.modules.game.BuiltInPlayerState;
+import com.mineplex.studio.sdk.modules.game.MineplexGame;
+import com.mineplex.studio.sdk.modules.game.MineplexGameModule;
+import com.mineplex.studio.sdk.modules.stats.StatsModule;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import net.kyori.adventure.text.Component;
+import org.bukkit.entity.Player;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the {@link SurvivalGamesChatModule} chat renderer.
+ * <p>
+ * The benchmark lives in the package of the {@link SurvivalGamesChatModule} to call its package-private
+ * {@link SurvivalGamesChatModule#render(Player, Component, Component)} for a player of a MockBukkit server. The stats
+ * and game modules are proxies, the sender is eliminated and has a kill and death stat, so every component of the
+ * message is rendered. The renderer is called once per viewer of a message, the shared variant renders once and
+ * shares the message with all viewers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChatRendererBenchmark {
+    /**
+     * The number of viewers of a chat message.
+     */
+    @Param({"24", "100", "500"})
+    public int viewers;
+
+    /**
+     * The module rendering the chat messages.
+     */
+    private SurvivalGamesChatModule chatModule;
+
+    /**
+     * The sender of the message.
+     */
+    private Player source;
+
+    /**
+     * The display name of the sender.
+     */
+    private Component displayName;
+
+    /**
+     * The sent message.
+     */
+    private Component message;
+
+    /**
+     * Creates the chat module, the sender and the message.
+     */
+    @Setup
+    public void setup() {
+        this.source = MockBukkit.mock().addPlayer();
+
+        final Map<String, Long> stats = Map.of(
+                SurvivalGamesStats.DEATHS.getStatName(), 12L, SurvivalGamesStats.KILLS.getStatName(), 34L);
+        final MineplexGame game = proxy(MineplexGame.class, (proxy, method, args) -> switch (method.getName()) {
+            case "getPlayerState" -> BuiltInPlayerState.ELIMINATED;
+            default -> throw new UnsupportedOperationException(method.getName());
+        });
+        final StatsModule statsModule = proxy(StatsModule.class, (proxy, method, args) -> switch (method.getName()) {
+            case "getPlayerStats" -> stats;
+            default -> throw new UnsupportedOperationException(method.getName());
+        });
+        final MineplexGameModule gameModule =
+                proxy(MineplexGameModule.class, (proxy, method, args) -> switch (method.getName()) {
+                    case "getCurrentGame" -> Optional.of(game);
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        this.chatModule = new SurvivalGamesChatModule(statsModule, new ChatPrefixModule(null), gameModule);
+
+        this.displayName = Component.text(this.source.getName());
+        this.message = Component.text("gg, that was close");
+    }
+
+    /**
+     * Stops the mocked server.
+     */
+    @TearDown
+    public void teardown() {
+        MockBukkit.unmock();
+    }
+
+    /**
+     * Renders the message once per viewer, like the chat renderer is called.
+     *
+     * @param blackhole consumes the rendered messages
+     */
+    @Benchmark
+    public void renderPerViewer(final Blackhole blackhole) {
+        for (int i = 0; i < this.viewers; i++) {
+            blackhole.consume(this.chatModule.render(this.source, this.displayName, this.message));
+        }
+    }
+
+    /**
+     * Renders the message once and shares it with all viewers.
+     *
+     * @param blackhole consumes the rendered messages
+     */
+    @Benchmark
+    public void renderShared(final Blackhole blackhole) {
+        final Component rendered = this.chatModule.render(this.source, this.displayName, this.message);
+        for (int i = 0; i < this.viewers; i++) {
+            blackhole.consume(rendered);
+        }
+    }
+
+    /**
+     * Creates a proxy of the interface answering the object methods by identity.
+     *
+     * @param type    the interface to proxy
+     * @param handler the handler of all other methods
+     * @param <T>     the type of the interface
+     * @return the proxy
+     */
+    private static <T> T proxy(final Class<T> type, final InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(
+                type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> type.getSimpleName();
+                    default -> handler.invoke(proxy, method, args);
+                }));
+    }
+}
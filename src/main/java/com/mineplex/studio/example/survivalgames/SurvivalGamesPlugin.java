@@ -1,8 +1,15 @@
 package com.mineplex.studio.example.survivalgames;
 
 import com.mineplex.studio.example.survivalgames.game.SurvivalGames;
+import com.mineplex.studio.example.survivalgames.game.cycle.GameCyclePipeline;
+import com.mineplex.studio.example.survivalgames.game.loot.LootCatalog;
+import com.mineplex.studio.example.survivalgames.game.loot.LootConfig;
+import com.mineplex.studio.example.survivalgames.game.loot.LootConfigWatcher;
+import com.mineplex.studio.example.survivalgames.game.world.MapCatalog;
+import com.mineplex.studio.example.survivalgames.modules.arena.ArenaModule;
 import com.mineplex.studio.example.survivalgames.modules.chat.SurvivalGamesChatModule;
 import com.mineplex.studio.example.survivalgames.modules.manager.GameManagerModule;
+import com.mineplex.studio.example.survivalgames.modules.performance.PerformanceModule;
 import com.mineplex.studio.example.survivalgames.modules.prefix.ChatPrefixModule;
 import com.mineplex.studio.example.survivalgames.modules.worlddemo.WorldDemoModule;
 import com.mineplex.studio.sdk.modules.MineplexModuleManager;
@@ -17,6 +24,7 @@ import com.mineplex.studio.sdk.modules.world.config.MineplexWorldConfig;
 import com.mineplex.studio.sdk.modules.world.config.WorldCreationConfig;
 import java.util.Locale;
 import java.util.ResourceBundle;
+import java.util.concurrent.ForkJoinPool;
 import lombok.extern.slf4j.Slf4j;
 import net.kyori.adventure.util.UTF8ResourceBundleControl;
 import org.bukkit.plugin.java.JavaPlugin;
@@ -31,6 +39,11 @@ public class SurvivalGamesPlugin extends JavaPlugin {
      */
     public static final boolean LOCAL_TESTING = System.getenv("LOCAL_TEST") != null;
 
+    /**
+     * Runs several {@link SurvivalGames} concurrently through the {@link ArenaModule} instead of a single {@link GameCycle}.
+     */
+    public static final boolean MULTI_ARENA = System.getenv("MULTI_ARENA") != null;
+
     /**
      * The {@link LobbyModule} manages the {@link org.bukkit.entity.Player} till the {@link MineplexGame} is started.
      */
@@ -39,6 +52,23 @@ public class SurvivalGamesPlugin extends JavaPlugin {
      * The {@link MineplexGameModule} is responsible for managing the {@link GameCycle} and to construct new {@link GameCycle} for {@link MineplexGame}.
      */
     private MineplexGameModule gameModule;
+    /**
+     * The {@link MapCatalog} caches the {@link com.mineplex.studio.example.survivalgames.game.world.MapMetadata} of
+     * every world template for all games.
+     */
+    private MapCatalog mapCatalog;
+    /**
+     * The {@link LootCatalog} holds the compiled loot shared by every {@link MineplexGame}.
+     */
+    private LootCatalog lootCatalog;
+    /**
+     * The {@link LootConfigWatcher} reloads the {@link LootCatalog} once the loot configuration changed on disk.
+     */
+    private LootConfigWatcher lootConfigWatcher;
+    /**
+     * The {@link GameCyclePipeline} prepares the next {@link MineplexGame} while the current one is ending.
+     */
+    private GameCyclePipeline cyclePipeline;
 
     /**
      * Method called when the plugin is enabled.
@@ -61,6 +91,7 @@ public class SurvivalGamesPlugin extends JavaPlugin {
         // Setup modules
         final MineplexModuleManager moduleManager = MineplexModuleManager.getInstance();
         moduleManager
+                .registerModule(new PerformanceModule(this))
                 .registerModule(new WorldDemoModule())
                 .registerModule(new ChatPrefixModule(this))
                 .registerModule(new SurvivalGamesChatModule())
@@ -83,12 +114,29 @@ public class SurvivalGamesPlugin extends JavaPlugin {
         this.lobbyModule.setActiveLobby(this.lobbyModule.createBasicLobby(lobby));
         this.lobbyModule.setup();
 
+        // Analyse the data points of every world template once, in parallel, before the first game is set up
+        this.mapCatalog = new MapCatalog(this);
+        this.mapCatalog.warm(ForkJoinPool.commonPool());
+
         // Setup SurvivalGames game cycle
+        // The bundled loot pack is extracted into the data folder to be memory-mapped
+        this.lootCatalog = new LootCatalog(this.getDataFolder().toPath().resolve(LootConfig.PACK_RESOURCE));
+        this.lootConfigWatcher = new LootConfigWatcher(this.lootCatalog);
+        this.lootConfigWatcher.start();
         this.gameModule = MineplexModuleManager.getRegisteredModule(MineplexGameModule.class);
+        if (MULTI_ARENA) {
+            // Every arena runs its own game cycle
+            moduleManager.registerModule(new ArenaModule(this, this.lootCatalog, this.mapCatalog));
+            return;
+        }
+
+        this.cyclePipeline = new GameCyclePipeline(this, this.lootCatalog);
+        this.cyclePipeline.setGameFactory(() -> new SurvivalGames(this, this.mapCatalog, this.cyclePipeline));
         this.gameModule.setGameCycle(new GameCycle() {
             @Override
             public MineplexGame createNextGame() {
-                return new SurvivalGames(SurvivalGamesPlugin.this);
+                // Prefer the game the GameCyclePipeline prepared with its map during the handover
+                return SurvivalGamesPlugin.this.cyclePipeline.nextGame();
             }
 
             @Override
@@ -108,7 +156,12 @@ public class SurvivalGamesPlugin extends JavaPlugin {
      */
     @Override
     public void onDisable() {
+        // The game defers releasing its world to the GameCyclePipeline, which runs the release on its teardown
         this.gameModule.teardown();
+        if (this.cyclePipeline != null) {
+            this.cyclePipeline.teardown();
+        }
+        this.lootConfigWatcher.stop();
         this.lobbyModule.teardown();
     }
 }
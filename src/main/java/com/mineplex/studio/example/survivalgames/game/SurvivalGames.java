@@ -1,16 +1,29 @@
 package com.mineplex.studio.example.survivalgames.game;
 
 import com.mineplex.studio.example.survivalgames.SurvivalGamesPlugin;
+import com.mineplex.studio.example.survivalgames.game.cycle.GameCyclePipeline;
 import com.mineplex.studio.example.survivalgames.game.kit.PlayerKit;
 import com.mineplex.studio.example.survivalgames.game.listeners.SurvivalGamesListener;
 import com.mineplex.studio.example.survivalgames.game.listeners.SurvivalGamesPreStartListener;
 import com.mineplex.studio.example.survivalgames.game.listeners.SurvivalGamesStartedListener;
+import com.mineplex.studio.example.survivalgames.game.loot.LootConfig;
 import com.mineplex.studio.example.survivalgames.game.loot.SurvivalGamesLootMechanic;
+import com.mineplex.studio.example.survivalgames.game.mechanic.AlivePlayerRoster;
 import com.mineplex.studio.example.survivalgames.game.mechanic.BorderMechanic;
+import com.mineplex.studio.example.survivalgames.game.mechanic.CustomItemMechanic;
 import com.mineplex.studio.example.survivalgames.game.mechanic.DamageGlowMechanic;
 import com.mineplex.studio.example.survivalgames.game.mechanic.HealingSoupMechanic;
+import com.mineplex.studio.example.survivalgames.game.mechanic.ParticipantEventMechanic;
+import com.mineplex.studio.example.survivalgames.game.mechanic.ParticipantPositions;
+import com.mineplex.studio.example.survivalgames.game.mechanic.PlayerStateTable;
 import com.mineplex.studio.example.survivalgames.game.mechanic.TrackingCompassMechanic;
+import com.mineplex.studio.example.survivalgames.game.spawn.SpawnAllocator;
+import com.mineplex.studio.example.survivalgames.game.start.MatchStartPipeline;
 import com.mineplex.studio.example.survivalgames.game.stat.SurvivalGamesStats;
+import com.mineplex.studio.example.survivalgames.game.world.LoadedMap;
+import com.mineplex.studio.example.survivalgames.game.world.MapCatalog;
+import com.mineplex.studio.example.survivalgames.game.world.MapMetadata;
+import com.mineplex.studio.example.survivalgames.modules.performance.PerformanceModule;
 import com.mineplex.studio.sdk.modules.MineplexModuleManager;
 import com.mineplex.studio.sdk.modules.game.*;
 import com.mineplex.studio.sdk.modules.game.event.PlayerStateChangeEvent;
@@ -33,6 +46,9 @@ import com.mineplex.studio.sdk.modules.stats.StatsModule;
 import com.mineplex.studio.sdk.modules.world.MineplexWorld;
 import com.mineplex.studio.sdk.util.selector.BuiltInGameStateSelector;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -43,11 +59,13 @@ import org.bukkit.Bukkit;
 import org.bukkit.GameMode;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.PlayerDeathEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
-import org.bukkit.event.player.PlayerTeleportEvent;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.util.Vector;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -62,19 +80,19 @@ import org.jetbrains.annotations.NotNull;
 @Getter
 public class SurvivalGames implements SingleWorldMineplexGame {
     /**
-     * The key for the {@link MineplexWorld} center data points.
+     * The {@link JavaPlugin} the {@link MineplexGame} is created from.
      */
-    private static final String WORLD_CENTER_KEY = "CENTER";
+    private final JavaPlugin plugin;
 
     /**
-     * The fallback center position if no data point was found.
+     * The {@link MapCatalog} picks and loads the {@link MineplexWorld} of this game.
      */
-    private static final Vector FALLBACK_CENTER = new Vector(0, 0, 0);
+    private final MapCatalog mapCatalog;
 
     /**
-     * The {@link JavaPlugin} the {@link MineplexGame} is created from.
+     * The {@link GameCyclePipeline} prepares the next game while this game is ending.
      */
-    private final JavaPlugin plugin;
+    private final GameCyclePipeline cyclePipeline;
 
     // Modules
     /**
@@ -97,11 +115,33 @@ public class SurvivalGames implements SingleWorldMineplexGame {
     private final LeaderboardModule leaderboardModule =
             MineplexModuleManager.getRegisteredModule(LeaderboardModule.class);
 
+    /**
+     * The {@link PerformanceModule} is responsible for timing the registered runnables and listeners.
+     */
+    private final PerformanceModule performanceModule =
+            MineplexModuleManager.getRegisteredModule(PerformanceModule.class);
+
     // Game mechanics
+    /**
+     * The {@link AlivePlayerRoster} keeps track of all alive {@link Player} and is shared with all mechanics.
+     */
+    private AlivePlayerRoster alivePlayerRoster;
+    /**
+     * The {@link ParticipantEventMechanic} dispatches the events of alive game participants to the mechanics.
+     */
+    private ParticipantEventMechanic participantEventMechanic;
+    /**
+     * The {@link ParticipantPositions} capture the positions of all alive {@link Player} once per tick while acquired.
+     */
+    private ParticipantPositions participantPositions;
     /**
      * The {@link GameStateListenerHelperMechanic} is a helper class to register {@link GameState} based {@link org.bukkit.event.Listener} and {@link org.bukkit.scheduler.BukkitTask}.
      */
     private GameStateListenerHelperMechanic<SurvivalGames> stateHelperMechanic;
+    /**
+     * The {@link Listener} registered through the {@link PerformanceModule}, unregistered on teardown.
+     */
+    private final List<Listener> listeners = new ArrayList<>();
     /**
      * The {@link SpectatorMechanic} is responsible for managing game spec and respawn logic.
      */
@@ -118,6 +158,14 @@ public class SurvivalGames implements SingleWorldMineplexGame {
      * The {@link GameWorldSelectorMechanic} is responsible selecting and loading {@link MineplexWorld} for our {@link MineplexGame}.
      */
     private GameWorldSelectorMechanic gameWorldSelectorMechanic;
+    /**
+     * The map loaded by the {@link MapCatalog}, selected and loaded by the {@link GameWorldSelectorMechanic}.
+     */
+    private LoadedMap loadedMap;
+    /**
+     * The {@link MapMetadata} of the {@link MineplexWorld}, containing all data points required by this game.
+     */
+    private MapMetadata mapMetadata;
     /**
      * The {@link SurvivalGamesLootMechanic} is responsible for filling our {@link org.bukkit.block.Container} with the pre-defined loot.
      */
@@ -131,6 +179,11 @@ public class SurvivalGames implements SingleWorldMineplexGame {
      */
     private LegacyMechanic legacyMechanic;
 
+    /**
+     * The {@link CustomItemMechanic} routes the interactions and clicks of custom items to their mechanic.
+     */
+    private CustomItemMechanic customItemMechanic;
+
     /**
      * The {@link DamageGlowMechanic} applies the {@link PotionEffectType#GLOWING} effect when the {@link Player} receives damages.
      */
@@ -154,6 +207,11 @@ public class SurvivalGames implements SingleWorldMineplexGame {
     @Delegate
     private final PlayerStateTracker playerStateTracker = new PlayerStateTracker(this, BuiltInPlayerState.SPECTATOR);
 
+    /**
+     * The {@link PlayerStateTable} mirrors the {@link PlayerStateTracker} for fast player state lookups.
+     */
+    private final PlayerStateTable playerStateTable = new PlayerStateTable(this::isParticipant);
+
     /**
      * Sets the minimum number of players required for this {@link MineplexGame} to start.
      *
@@ -168,73 +226,126 @@ public class SurvivalGames implements SingleWorldMineplexGame {
     @Delegate
     private final GameStateTracker gameStateTracker = new GameStateTracker(this, BuiltInGameState.PREPARING);
 
+    /**
+     * Sets the filter deciding which {@link Player} belong to this game.
+     * By default, every online player participates, arenas restrict this to the players assigned to them.
+     *
+     * @param participantFilter the participant filter to set
+     */
+    @Setter
+    @NonNull private Predicate<Player> participantFilter = player -> true;
+
+    /**
+     * Sets the action starting the next game once this game has ended.
+     * By default, the next game is started through the {@link MineplexGameModule}.
+     *
+     * @param nextGameStarter the next game starter to set
+     */
+    @Setter
+    @NonNull private Runnable nextGameStarter =
+            () -> MineplexModuleManager.getRegisteredModule(MineplexGameModule.class).startNextGame();
+
+    /**
+     * The {@link MatchStartPipeline} moves all participants into the game world on game start.
+     */
+    private final MatchStartPipeline startPipeline = new MatchStartPipeline(this);
+
+    /**
+     * Sets the seed used by the {@link SpawnAllocator} to distribute the {@link Player} on game start.
+     *
+     * @param spawnSeed the seed to set
+     */
+    @Setter
+    private long spawnSeed = ThreadLocalRandom.current().nextLong();
+
     /**
      * Method triggered when the {@link GameState} is set to {@link GameState#isReady}.
      * <p>
-     * This method adds all online players to the game and checks the game start condition.
+     * This method starts preloading the spawn chunks, adds all online participants to the game and checks the game
+     * start condition.
      */
     private void onPreStart() {
+        this.startPipeline.preloadChunks(this.getSpawnLocations());
+
         for (final Player player : Bukkit.getOnlinePlayers()) {
-            this.addPlayer(player, false);
+            if (this.isParticipant(player)) {
+                this.addPlayer(player, false);
+            }
         }
         this.checkGameStartCondition();
     }
 
     /**
-     * Method triggered when the {@link GameState} is set to {@link GameState#isInProgress}.
+     * Starts moving all participants into the game once the game start condition is met.
      * <p>
-     * This method performs the necessary actions to initialize the game after it has started.
-     * It cleans up players, teleports them to their spawn points, sets their game mode to adventure,
-     * grants them a kit, and assigns teams to players.
+     * This method picks the spawn points of all players and hands them to the {@link MatchStartPipeline}, which cleans
+     * up and teleports the players over multiple ticks. The game is started once all of them arrived.
      */
-    private void onStart() {
+    private void startMatch() {
         // Move all players into the game and do the necessary modifications.
-        final List<Location> spawns = new ArrayList<>(this.getSpawnLocations());
-        Collections.shuffle(spawns);
-
         final Location center = this.getWorldCenter();
+        final List<Location> spawnLocations = this.getSpawnLocations();
+        final SpawnAllocator spawnAllocator;
+        if (spawnLocations.isEmpty()) {
+            log.warn("Missing {} data point key, falling back to the world center.", MapMetadata.SPAWN_KEY);
+            spawnAllocator = new SpawnAllocator(List.of(center), new SplittableRandom(this.spawnSeed));
+        } else {
+            spawnAllocator = new SpawnAllocator(spawnLocations, new SplittableRandom(this.spawnSeed));
+        }
 
-        this.getPlayerStates().keySet().forEach(player -> {
-            // Reset hp, reset inventory, effects, etc...
-            this.cleanupPlayer(player);
-
-            // Teleport the player to a random spawn point
-            final Location spawn = this.getLocationAwayFromOtherLocations(
-                    spawns, this.getPlayerStates().keySet());
+        final List<Player> participants = new ArrayList<>(this.getPlayerStates().keySet());
+        final List<Location> spawns = new ArrayList<>(participants.size());
+        for (int i = 0; i < participants.size(); i++) {
+            // Pick the spawn point farthest away from all other picked spawns
+            final Location spawn = spawnAllocator.next();
             // Fix spawn look before teleport
             this.adjustSpawnLocation(spawn, center);
-            player.teleport(spawn, PlayerTeleportEvent.TeleportCause.PLUGIN);
+            spawns.add(spawn);
+        }
+
+        this.startPipeline.start(participants, spawns, this::onParticipantsArrived);
+    }
 
+    /**
+     * Method triggered by the {@link MatchStartPipeline} once all participants arrived at their spawn.
+     * <p>
+     * This method sets the game mode of all participants to adventure, grants them a kit and assigns teams to them.
+     * Afterward the {@link GameState} is set to {@link BuiltInGameState#STARTED} and the game end condition is checked,
+     * since participants may have left while the {@link MatchStartPipeline} was running.
+     *
+     * @param participants the participants that arrived at their spawn
+     */
+    private void onParticipantsArrived(final List<Player> participants) {
+        for (final Player player : participants) {
             // Adjust player gamemode
             player.setGameMode(GameMode.ADVENTURE);
 
             // Assign kit to player
             this.getKitMechanic().grantKit(player, PlayerKit.class);
-        });
+        }
 
         // Assign all alive players to the player team
         this.getTeamMechanic()
                 .assignTeams(
-                        new ArrayList<>(this.getPlayerStates().keySet()),
+                        new ArrayList<>(participants),
                         this.getTeamMechanic()
                                 .constructTeamAssigner(SingleTeamAssigner.class)
                                 .orElseThrow());
+
+        this.setGameState(BuiltInGameState.STARTED);
+
+        // Participants may have quit while the pipeline moved them, no later state change would end the game then
+        this.checkGameEndCondition();
     }
 
     /**
      * Retrieves the world center location for the current {@link SingleWorldMineplexGame}.
-     * If the data point for the world center is not found it will fallback to {@link SurvivalGames#FALLBACK_CENTER}.
+     * If the data point for the world center is not found the {@link MapMetadata} falls back to the world origin.
      *
      * @return The world center location for the current {@link SingleWorldMineplexGame}.
      */
     private Location getWorldCenter() {
-        final MineplexWorld world = this.getGameWorld();
-        final List<Location> locations = world.getDataPoints(WORLD_CENTER_KEY);
-        if (locations.isEmpty()) {
-            log.warn("Missing {} data point key, falling back to fallback value.", WORLD_CENTER_KEY);
-            return FALLBACK_CENTER.toLocation(world.getMinecraftWorld());
-        }
-        return locations.getFirst();
+        return this.mapMetadata.getCenter(this.getGameWorld().getMinecraftWorld());
     }
 
     /**
@@ -252,49 +363,6 @@ public class SurvivalGames implements SingleWorldMineplexGame {
                 center.toVector().setY(0).subtract(location.toVector().setY(0)).normalize());
     }
 
-    /**
-     * Find the best spawn locations for each player.
-     *
-     * @param locations spawn locations
-     * @param players   players who can spawn
-     * @return the best spawn location
-     */
-    private Location getLocationAwayFromOtherLocations(
-            final Iterable<Location> locations, final Iterable<Player> players) {
-        Location bestLocation = null;
-        double bestDist = Double.MIN_VALUE;
-
-        for (final Location location : locations) {
-            double closest = Double.MAX_VALUE;
-
-            for (final Player player : players) {
-                // Different Worlds
-                if (!player.getWorld().equals(location.getWorld())) {
-                    continue;
-                }
-
-                final double distanceSquared = player.getLocation().distanceSquared(location);
-                if (closest >= distanceSquared) {
-                    closest = distanceSquared;
-                }
-            }
-
-            if (closest > bestDist) {
-                bestLocation = location;
-                bestDist = closest;
-            }
-        }
-
-        return bestLocation;
-    }
-
-    private List<Player> getAlivePlayers() {
-        return this.getPlayerStates().entrySet().stream()
-                .filter(entry -> entry.getValue().isAlive())
-                .map(Map.Entry::getKey)
-                .toList();
-    }
-
     /**
      * Method triggered when the {@link GameState} is set to {@link GameState#isEnded}.
      * <p>
@@ -302,21 +370,25 @@ public class SurvivalGames implements SingleWorldMineplexGame {
      * If there are no alive players, it sends a message to all online players indicating that there was no winner
      * and sets their game mode to spectator. If there is a winner, it sends a message to all online players
      * indicating who the winner was, sets their game mode to spectator, and awards them with win stats and leaderboard score.
+     * Afterward the next game is started through {@link this#nextGameStarter}.
      */
     private void onEnded() {
-        final List<Player> alivePlayers = this.getAlivePlayers();
         // Check if a player is still alive or if the game ended without a winner
-        if (alivePlayers.isEmpty()) {
+        if (this.alivePlayerRoster.aliveCount() == 0) {
             // Inform all players that the game has no winner
             for (final Player online : Bukkit.getOnlinePlayers()) {
-                SurvivalGamesMessageComponent.GAME_END_NO_WINNER.send(online);
+                if (this.isParticipant(online)) {
+                    SurvivalGamesMessageComponent.GAME_END_NO_WINNER.send(online);
+                }
             }
         } else {
-            final Player winner = alivePlayers.getFirst();
+            final Player winner = this.alivePlayerRoster.getAlive(0);
 
             // Inform all players of the winner
             for (final Player online : Bukkit.getOnlinePlayers()) {
-                SurvivalGamesMessageComponent.GAME_END_HAS_WINNER.send(online, winner.displayName());
+                if (this.isParticipant(online)) {
+                    SurvivalGamesMessageComponent.GAME_END_HAS_WINNER.send(online, winner.displayName());
+                }
             }
 
             if (!SurvivalGamesPlugin.LOCAL_TESTING) {
@@ -326,8 +398,8 @@ public class SurvivalGames implements SingleWorldMineplexGame {
             }
         }
 
-        // Start the next game
-        MineplexModuleManager.getRegisteredModule(MineplexGameModule.class).startNextGame();
+        // Prepare the next game on the next tick, or after an opt-in celebration, and start it afterwards
+        this.cyclePipeline.handover(this.nextGameStarter);
     }
 
     /**
@@ -350,26 +422,77 @@ public class SurvivalGames implements SingleWorldMineplexGame {
         return "Survival Games";
     }
 
+    /**
+     * Selects and loads the map of this game through its own {@link GameWorldSelectorMechanic}, unless it is loaded
+     * already. Called by the {@link GameCyclePipeline} before the game is started, otherwise during the setup.
+     */
+    public void prepare() {
+        if (this.loadedMap != null) {
+            return;
+        }
+
+        this.loadedMap = this.mapCatalog.load(this);
+        this.gameWorldSelectorMechanic = this.loadedMap.getSelector();
+        this.mapMetadata = this.loadedMap.getMetadata();
+    }
+
+    /**
+     * Releases the map of this game, also used for prepared games that were never set up.
+     */
+    public void releaseMap() {
+        if (this.loadedMap != null) {
+            this.mapCatalog.release(this.loadedMap);
+            this.loadedMap = null;
+        }
+    }
+
+    /**
+     * Registers the timed {@link Listener} for the active {@link GameState}.
+     *
+     * @param listener     the listener to register
+     * @param activeStates the game states the listener is called in
+     */
+    private void registerListener(final Listener listener, final Predicate<GameState> activeStates) {
+        this.performanceModule.registerEvents(listener, this, activeStates);
+        this.listeners.add(listener);
+    }
+
     /**
      * Setting up all {@link com.mineplex.studio.sdk.modules.game.mechanics.GameMechanic} for this game.
      */
     @Override
     public void setup() {
+        // Read the loot config in the background while the world is loaded, unless it was prepared already
+        final CompletableFuture<LootConfig> lootConfig = this.cyclePipeline.takeLootConfig();
+
+        final SurvivalGamesStartedListener startedListener = new SurvivalGamesStartedListener(this);
+
         //noinspection unchecked
         this.stateHelperMechanic = this.gameMechanicFactory.construct(GameStateListenerHelperMechanic.class);
         this.stateHelperMechanic
                 // Function run once when the GameState changes to PRE_START
-                .registerRunnable(this::onPreStart, BuiltInGameStateSelector.ready())
-                // Function run once when the GameState changes to STARTED
-                .registerSingleRunnable(this::onStart, BuiltInGameStateSelector.inProgress())
+                .registerRunnable(
+                        this.performanceModule.timed("SurvivalGames#onPreStart", this::onPreStart),
+                        BuiltInGameStateSelector.ready())
                 // Function run once when the GameState changes to ENDED
-                .registerSingleRunnable(this::onEnded, BuiltInGameStateSelector.ended())
-                // Event listener that is listening during all GameStates
-                .registerEventListener(new SurvivalGamesListener(this), state -> true)
-                // Event listener that is listening during the PRE_START GameState
-                .registerEventListener(new SurvivalGamesPreStartListener(this), BuiltInGameStateSelector.ready())
-                // Event listener that is listening during the STARTED GameState
-                .registerEventListener(new SurvivalGamesStartedListener(this), BuiltInGameStateSelector.inProgress());
+                .registerSingleRunnable(
+                        this.performanceModule.timed("SurvivalGames#onEnded", this::onEnded),
+                        BuiltInGameStateSelector.ended());
+
+        // The state table and the roster need to be set up before any other mechanic to observe all state changes first
+        this.playerStateTable.setup(this);
+        this.alivePlayerRoster = new AlivePlayerRoster(this::isParticipant);
+        this.alivePlayerRoster.setup(this);
+
+        // Participant events are dispatched during the STARTED GameState, like the SurvivalGamesStartedListener
+        this.participantEventMechanic =
+                new ParticipantEventMechanic(this.plugin, this::isParticipant, GameState::isInProgress);
+        this.participantEventMechanic.setup(this);
+        this.participantEventMechanic.subscribe(
+                PlayerDeathEvent.class, EventPriority.NORMAL, false, PlayerState::isAlive, startedListener::onDeath);
+
+        this.participantPositions = new ParticipantPositions(this.alivePlayerRoster);
+        this.participantPositions.setup(this);
 
         this.spectatorMechanic = this.gameMechanicFactory.construct(SpectatorMechanic.class);
         this.spectatorMechanic
@@ -404,30 +527,37 @@ public class SurvivalGames implements SingleWorldMineplexGame {
 
         this.legacyMechanic = this.gameMechanicFactory.construct(LegacyMechanic.class);
 
-        this.gameWorldSelectorMechanic = this.gameMechanicFactory.construct(GameWorldSelectorMechanic.class);
         this.kitMechanic = this.gameMechanicFactory.construct(KitMechanic.class);
         this.abilityMechanic = this.gameMechanicFactory.construct(AbilityMechanic.class);
         this.teamMechanic = this.gameMechanicFactory.construct(TeamMechanic.class);
-        this.damageGlowMechanic = new DamageGlowMechanic();
-        this.healingSoupMechanic = new HealingSoupMechanic();
-        this.trackingCompassMechanic = new TrackingCompassMechanic(this.plugin);
-        this.lootContainerMechanic = new SurvivalGamesLootMechanic(this.trackingCompassMechanic);
-        this.borderMechanic = new BorderMechanic();
+        this.customItemMechanic = new CustomItemMechanic(this::isParticipant);
+        this.damageGlowMechanic = new DamageGlowMechanic(this.participantEventMechanic);
+        this.healingSoupMechanic = new HealingSoupMechanic(this.customItemMechanic, this.participantPositions);
+        this.trackingCompassMechanic = new TrackingCompassMechanic(
+                this.plugin, this.customItemMechanic, this.participantPositions, this::isParticipant);
+        this.lootContainerMechanic = new SurvivalGamesLootMechanic(
+                this.trackingCompassMechanic, this.cyclePipeline.getLootCatalog(), lootConfig);
+
+        // Load the map for ::getGameWorld, unless the GameCyclePipeline prepared this game with its map already.
+        // The MapCatalog blacklists the lobby from being selected as a game world.
+        this.prepare();
 
-        // Blacklist the lobby from being selected as a game world.
-        this.gameWorldSelectorMechanic.setFilter(name -> !"lobby".equalsIgnoreCase(name));
-        // Determine the next map for ::getGameWorld
-        this.gameWorldSelectorMechanic.setup(this);
+        // The BorderMechanic requires the MapMetadata of the selected map
+        this.borderMechanic = new BorderMechanic(this.alivePlayerRoster, this::isParticipant, this.mapMetadata);
 
         this.kitMechanic.setup(this);
         this.abilityMechanic.setup(this);
+        this.customItemMechanic.setup(this);
         this.trackingCompassMechanic.setup(this);
         this.borderMechanic.setup(this);
         this.lootContainerMechanic.setup(this);
         this.teamMechanic.setup(this);
         this.teamMechanic.registerTeam("Players", SurvivalGamesMessageComponent.PLAYERS_TEAM_NAME.apply());
 
-        this.kitMechanic.registerKit(this, PlayerKit.class, new PlayerKit(this.abilityMechanic, this.kitMechanic));
+        this.kitMechanic.registerKit(
+                this,
+                PlayerKit.class,
+                new PlayerKit(this.abilityMechanic, this.kitMechanic, this.participantEventMechanic));
 
         this.damageGlowMechanic.setup(this);
         this.healingSoupMechanic.setup(this);
@@ -435,36 +565,72 @@ public class SurvivalGames implements SingleWorldMineplexGame {
 
         this.stateHelperMechanic.setup(this);
 
+        // Event listener that is listening during all GameStates
+        this.registerListener(new SurvivalGamesListener(this), state -> true);
+        // Event listener that is listening during the PRE_START GameState
+        this.registerListener(new SurvivalGamesPreStartListener(this), GameState::isReady);
+        // Event listener that is listening during the STARTED GameState
+        this.registerListener(startedListener, GameState::isInProgress);
+
         // We need to indicate that we are ready after setting up all mechanics.
+        // The cycle ends with the setup, before the PRE_START listeners add the players and may start the game.
+        this.cyclePipeline.recordReady();
         this.setGameState(BuiltInGameState.PRE_START);
+        // The ended game is only released once this game is ready and received its players
+        this.cyclePipeline.completeHandover();
     }
 
     /**
      * Perform the teardown process for this {@link MineplexGame}.
      * This method should be called when the game is ending or being reset.
      * It cleans up all the {@link com.mineplex.studio.sdk.modules.game.mechanics.GameMechanic} and clears all {@link Player}.
+     * <p>
+     * The mechanics observing players or running tasks in every {@link GameState} are torn down immediately, so they
+     * never observe the next game. The {@link MineplexWorld}, the loot and the border are only active while the game is
+     * in progress and are released through {@link GameCyclePipeline#deferRelease(Runnable)} once the next game is
+     * ready.
      */
     @Override
     public void teardown() {
+        final long start = System.nanoTime();
+
         // Destroy game mechanics
+        this.cyclePipeline.cancelHandover();
         this.stateHelperMechanic.teardown();
+        this.listeners.forEach(HandlerList::unregisterAll);
+        this.listeners.clear();
+        this.startPipeline.teardown();
 
         this.healingSoupMechanic.teardown();
         this.damageGlowMechanic.teardown();
         this.kitMechanic.teardown();
         this.abilityMechanic.teardown();
         this.teamMechanic.teardown();
-        this.lootContainerMechanic.teardown();
-        this.gameWorldSelectorMechanic.teardown();
         this.trackingCompassMechanic.teardown();
-        this.borderMechanic.teardown();
+        this.customItemMechanic.teardown();
         this.legacyMechanic.teardown();
         this.spectatorMechanic.teardown();
+        this.participantEventMechanic.teardown();
+        this.participantPositions.teardown();
+        this.alivePlayerRoster.teardown();
+        this.playerStateTable.teardown();
 
         // Cleanup player data
         for (final Player player : this.getPlayerStates().keySet()) {
             this.cleanupPlayer(player);
         }
+
+        this.cyclePipeline.recordTeardown(System.nanoTime() - start);
+        this.cyclePipeline.deferRelease(this::release);
+    }
+
+    /**
+     * Releases the mechanics only active while the game is in progress and the {@link MineplexWorld} of this game.
+     */
+    private void release() {
+        this.lootContainerMechanic.teardown();
+        this.borderMechanic.teardown();
+        this.releaseMap();
     }
 
     /**
@@ -487,6 +653,44 @@ public class SurvivalGames implements SingleWorldMineplexGame {
         player.setInvulnerable(false);
     }
 
+    /**
+     * Returns the {@link PlayerState} of the {@link Player}.
+     * Participants are looked up in the {@link PlayerStateTable}, all other players in the {@link PlayerStateTracker}.
+     *
+     * @param player the player
+     * @return the state of the player
+     */
+    @Override
+    public @NotNull PlayerState getPlayerState(@NonNull final Player player) {
+        final PlayerState playerState = this.playerStateTable.getPlayerState(player);
+        if (playerState != null) {
+            return playerState;
+        }
+        return this.playerStateTracker.getPlayerState(player);
+    }
+
+    /**
+     * Removes the {@link PlayerState} of the {@link Player} from the {@link PlayerStateTracker} and the
+     * {@link PlayerStateTable}.
+     *
+     * @param player the player
+     */
+    @Override
+    public void removePlayerState(@NonNull final Player player) {
+        this.playerStateTracker.removePlayerState(player);
+        this.playerStateTable.remove(player);
+    }
+
+    /**
+     * Checks if the {@link Player} belongs to this game.
+     *
+     * @param player the player to check
+     * @return {@code true} if the player belongs to this game, {@code false} otherwise
+     */
+    public boolean isParticipant(final Player player) {
+        return this.participantFilter.test(player);
+    }
+
     /**
      * Add a {@link Player} to the game.
      * <p>
@@ -506,23 +710,26 @@ public class SurvivalGames implements SingleWorldMineplexGame {
     /**
      * Get the spawn locations in the game world.
      *
-     * @return A list of spawn locations in the game world.
+     * @return A new list of spawn locations in the game world.
      */
     public List<Location> getSpawnLocations() {
-        return this.getGameWorld().getDataPoints("SPAWN");
+        return this.mapMetadata.getSpawns(this.getGameWorld().getMinecraftWorld());
     }
 
     /**
      * This method checks if the number of alive {@link Player} in the game is equal to or greater than the minimum number of players
-     * required to start the game. If the condition is met, it sets the game state to {@link BuiltInGameState#STARTED}.
+     * required to start the game. If the condition is met, it moves all players into the game through the
+     * {@link MatchStartPipeline}, which sets the game state to {@link BuiltInGameState#STARTED} once they arrived.
      */
     // TODO: The startup logic should not be here and more inside the lobby. Players should also only be added on
     // startup of the game.
     public void checkGameStartCondition() {
-        final List<Player> alivePlayers = this.getAlivePlayers();
+        final int alivePlayers = this.alivePlayerRoster.aliveCount();
         log.debug("Game start check. Count: {} Required: {}", alivePlayers, this.minPlayers);
-        if (alivePlayers.size() >= this.minPlayers) {
-            this.setGameState(BuiltInGameState.STARTED);
+        if (alivePlayers >= this.minPlayers
+                && this.getGameState().isReady()
+                && !this.startPipeline.isStarted()) {
+            this.startMatch();
         }
     }
 
@@ -531,9 +738,9 @@ public class SurvivalGames implements SingleWorldMineplexGame {
      * If the condition is met, it sets the game state to {@link BuiltInGameState#ENDED}.
      */
     public void checkGameEndCondition() {
-        final List<Player> alivePlayers = this.getAlivePlayers();
+        final int alivePlayers = this.alivePlayerRoster.aliveCount();
         log.debug("Game end check. Count: {}", alivePlayers);
-        if (alivePlayers.size() <= 1) {
+        if (alivePlayers <= 1) {
             this.setGameState(BuiltInGameState.ENDED);
         }
     }
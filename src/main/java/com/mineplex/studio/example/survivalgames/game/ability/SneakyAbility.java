@@ -1,15 +1,19 @@
 package com.mineplex.studio.example.survivalgames.game.ability;
 
+import com.mineplex.studio.example.survivalgames.game.mechanic.ParticipantContext;
+import com.mineplex.studio.example.survivalgames.game.mechanic.ParticipantEventHandler;
+import com.mineplex.studio.example.survivalgames.game.mechanic.ParticipantEventMechanic;
 import com.mineplex.studio.sdk.modules.game.MineplexGame;
+import com.mineplex.studio.sdk.modules.game.PlayerState;
 import com.mineplex.studio.sdk.modules.game.mechanics.ability.Ability;
 import com.mineplex.studio.sdk.modules.game.mechanics.ability.AbilityMechanic;
 import com.mineplex.studio.sdk.modules.game.mechanics.ability.ActiveAbility;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.player.PlayerToggleSneakEvent;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
@@ -17,9 +21,10 @@ import org.jetbrains.annotations.NotNull;
 
 /**
  * The SneakyAbility applies {@link PotionEffectType#INVISIBILITY} when a {@link Player} is sneaking.
+ * The sneak events of alive players are dispatched to it by the {@link ParticipantEventMechanic}.
  */
 @Getter
-@AllArgsConstructor
+@RequiredArgsConstructor
 public class SneakyAbility implements ActiveAbility<MineplexGame> {
     /**
      * The {@link AbilityMechanic} is responsible for managing the game {@link com.mineplex.studio.sdk.modules.game.mechanics.ability.Ability}.
@@ -29,6 +34,14 @@ public class SneakyAbility implements ActiveAbility<MineplexGame> {
      * The {@link MineplexGame} this ability is used in.
      */
     private final MineplexGame game;
+    /**
+     * The {@link ParticipantEventMechanic} dispatching the sneak events of alive {@link Player} to this ability.
+     */
+    private final ParticipantEventMechanic participantEventMechanic;
+    /**
+     * The subscribed handler, kept to unsubscribe the same instance.
+     */
+    private final ParticipantEventHandler<PlayerToggleSneakEvent> crouchHandler = this::onCrouch;
 
     /**
      * Returns the name of the {@link com.mineplex.studio.sdk.modules.game.mechanics.ability.Ability}.
@@ -46,7 +59,8 @@ public class SneakyAbility implements ActiveAbility<MineplexGame> {
      */
     @Override
     public void setup(@NonNull final MineplexGame game) {
-        // This ability doesn't need to allocate any additional resources
+        this.participantEventMechanic.subscribe(
+                PlayerToggleSneakEvent.class, EventPriority.NORMAL, false, PlayerState::isAlive, this.crouchHandler);
     }
 
     /**
@@ -54,7 +68,7 @@ public class SneakyAbility implements ActiveAbility<MineplexGame> {
      */
     @Override
     public void teardown() {
-        // This ability has no additionally allocated resources to clean up
+        this.participantEventMechanic.unsubscribe(this.crouchHandler);
     }
 
     /**
@@ -94,22 +108,17 @@ public class SneakyAbility implements ActiveAbility<MineplexGame> {
     }
 
     /**
-     * Event handler for the {@link PlayerToggleSneakEvent} event
-     * @param event The {@link PlayerToggleSneakEvent} event
+     * Event handler for the {@link PlayerToggleSneakEvent} event of alive players
+     * @param event   The {@link PlayerToggleSneakEvent} event
+     * @param context The alive {@link Player} sneaking
      */
-    @EventHandler
-    public void onCrouch(final PlayerToggleSneakEvent event) {
-        final Player player = event.getPlayer();
+    public void onCrouch(final PlayerToggleSneakEvent event, final ParticipantContext context) {
+        final Player player = context.getPlayer();
         // We need to verify if the player has the ability or not
         if (!this.hasAbility(player)) {
             return;
         }
 
-        // We don't want to apply the ability if a player is respawning
-        if (!this.game.getPlayerState(player).isAlive()) {
-            return;
-        }
-
         if (event.isSneaking()) {
             this.activate(player);
         } else {
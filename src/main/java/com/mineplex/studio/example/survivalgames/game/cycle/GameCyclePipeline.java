@@ -0,0 +1,332 @@
+package com.mineplex.studio.example.survivalgames.game.cycle;
+
+import com.mineplex.studio.example.survivalgames.game.SurvivalGames;
+import com.mineplex.studio.example.survivalgames.game.loot.LootCatalog;
+import com.mineplex.studio.example.survivalgames.game.loot.LootConfig;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * The {@link GameCyclePipeline} overlaps the end of a {@link SurvivalGames} with the preparation of the next one.
+ * <p>
+ * Once a game ended, the {@link LootConfig} of the next game is taken from the {@link LootCatalog} off the main
+ * thread, which only compiles the loot type files again if they changed. On the next tick, or after an opt-in winner
+ * celebration of {@link this#getCelebrationTicks()}, the next game is created by the
+ * {@link this#setGameFactory(Supplier) game factory} and loads its map through {@link SurvivalGames#prepare()}, so the
+ * selector of the map is set up with the game that owns it. Only then the next game is started, which detaches the
+ * ended game and sets up the prepared game with its already loaded map and the prepared loot config.
+ * <p>
+ * The ended game only stops its listeners and tasks during the handover and defers releasing its world and remaining
+ * mechanics with {@link this#deferRelease(Runnable)}. The deferred releases run on the tick after the next game
+ * changed its state to ready, reported through {@link this#completeHandover()}.
+ * <p>
+ * Every cycle logs its dead time, the time between the end of the game and the next game being ready, including the
+ * celebration.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class GameCyclePipeline {
+    /**
+     * The {@link JavaPlugin} the celebration task is scheduled for.
+     */
+    private final JavaPlugin plugin;
+
+    /**
+     * The {@link LootCatalog} shared by all games of the server.
+     */
+    @Getter
+    private final LootCatalog lootCatalog;
+
+    /**
+     * The duration in ticks of the winner celebration before the next game is started, no celebration by default.
+     */
+    @Getter
+    @Setter
+    private long celebrationTicks;
+
+    /**
+     * Creates the next game of this cycle, or {@code null} if the next game is not prepared by this pipeline.
+     */
+    @Setter
+    private Supplier<SurvivalGames> gameFactory;
+
+    /**
+     * The number of games that were taken prepared, with their map already loaded.
+     */
+    @Getter
+    private long preparedGames;
+
+    /**
+     * The number of games that had to be created and load their map during their setup.
+     */
+    @Getter
+    private long unpreparedGames;
+
+    /**
+     * The number of completed cycles.
+     */
+    @Getter
+    private long cycles;
+
+    /**
+     * The dead time in milliseconds of the last completed cycle, including the celebration.
+     */
+    @Getter
+    private long lastDeadTimeMillis;
+
+    /**
+     * The summed dead time in milliseconds of all completed cycles, including the celebrations.
+     */
+    @Getter
+    private long totalDeadTimeMillis;
+
+    /**
+     * The next game with its map already loaded, or {@code null} if none was prepared.
+     */
+    private SurvivalGames preparedGame;
+
+    /**
+     * The releases of ended games, deferred until the next game is ready.
+     */
+    private final List<Runnable> deferredReleases = new ArrayList<>();
+
+    /**
+     * The scheduled task running the deferred releases.
+     */
+    private BukkitTask releaseTask;
+
+    /**
+     * The {@link LootConfig} prepared for the next game, or {@code null} if none was prepared.
+     */
+    private CompletableFuture<LootConfig> preparedLootConfig;
+
+    /**
+     * The scheduled celebration task.
+     */
+    private BukkitTask celebrationTask;
+
+    /**
+     * The time the last game ended at, in nanoseconds.
+     */
+    private long endedAt;
+
+    /**
+     * The time the next game was started at, in nanoseconds, or {@code 0} if no handover is in progress.
+     */
+    private long handoverAt;
+
+    /**
+     * The time spent detaching the ended game, in nanoseconds.
+     */
+    private long teardownNanos;
+
+    /**
+     * The time spent loading the map of the prepared game, in nanoseconds.
+     */
+    private long prepareNanos;
+
+    /**
+     * Starts preparing the next game and runs the starter once the celebration is over and the next game is prepared.
+     *
+     * @param nextGameStarter the action starting the next game
+     */
+    public void handover(final Runnable nextGameStarter) {
+        if (this.celebrationTask != null) {
+            return;
+        }
+
+        this.endedAt = System.nanoTime();
+        if (this.preparedLootConfig == null) {
+            this.preparedLootConfig = this.lootCatalog.getAsync(ForkJoinPool.commonPool());
+        }
+
+        this.celebrationTask = Bukkit.getScheduler()
+                .runTaskLater(
+                        this.plugin,
+                        () -> {
+                            this.celebrationTask = null;
+                            this.handoverAt = System.nanoTime();
+                            this.teardownNanos = 0;
+                            this.prepareNextGame();
+                            nextGameStarter.run();
+                        },
+                        this.celebrationTicks);
+    }
+
+    /**
+     * Creates the next game with the {@link this#gameFactory} and loads its map, unless a game is prepared already.
+     */
+    private void prepareNextGame() {
+        this.prepareNanos = 0;
+        if (this.preparedGame != null || this.gameFactory == null) {
+            return;
+        }
+
+        final long start = System.nanoTime();
+        final SurvivalGames game = this.gameFactory.get();
+        game.prepare();
+        this.preparedGame = game;
+        this.prepareNanos = System.nanoTime() - start;
+    }
+
+    /**
+     * Takes the next game, preferring the game prepared during the handover.
+     * If no game was prepared, a new game is created that loads its map during its setup.
+     *
+     * @return the next game
+     * @throws IllegalStateException if no game factory is set
+     */
+    public SurvivalGames nextGame() {
+        final SurvivalGames game = this.preparedGame;
+        this.preparedGame = null;
+        if (game != null) {
+            this.preparedGames++;
+            return game;
+        }
+
+        if (this.gameFactory == null) {
+            throw new IllegalStateException("No game factory is set");
+        }
+        this.unpreparedGames++;
+        return this.gameFactory.get();
+    }
+
+    /**
+     * Takes the {@link LootConfig} prepared for the next game.
+     * If no config was prepared, the config is requested from the {@link LootCatalog} now.
+     *
+     * @return a future completed with the loot config
+     */
+    public CompletableFuture<LootConfig> takeLootConfig() {
+        final CompletableFuture<LootConfig> lootConfig = this.preparedLootConfig;
+        this.preparedLootConfig = null;
+
+        if (lootConfig == null) {
+            return this.lootCatalog.getAsync(ForkJoinPool.commonPool());
+        }
+        return lootConfig;
+    }
+
+    /**
+     * Defers the release of the ended game until the next game is ready.
+     *
+     * @param release the action releasing the world and remaining mechanics of the ended game
+     */
+    public void deferRelease(final Runnable release) {
+        this.deferredReleases.add(release);
+    }
+
+    /**
+     * Records that the next game changed its state to ready and runs the deferred releases of the ended games on the
+     * next tick, after the next game received its players.
+     */
+    public void completeHandover() {
+        if (this.deferredReleases.isEmpty() || this.releaseTask != null) {
+            return;
+        }
+
+        this.releaseTask = Bukkit.getScheduler().runTask(this.plugin, () -> {
+            this.releaseTask = null;
+            this.releaseEndedGames();
+        });
+    }
+
+    /**
+     * Runs all deferred releases of ended games.
+     */
+    private void releaseEndedGames() {
+        if (this.deferredReleases.isEmpty()) {
+            return;
+        }
+
+        final long start = System.nanoTime();
+        final List<Runnable> releases = List.copyOf(this.deferredReleases);
+        this.deferredReleases.clear();
+        for (final Runnable release : releases) {
+            try {
+                release.run();
+            } catch (final RuntimeException e) {
+                log.error("Failed to release an ended game!", e);
+            }
+        }
+        log.info("Released {} ended games in {} ms", releases.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Records the time spent detaching the ended game during the handover.
+     *
+     * @param nanos the detach duration in nanoseconds
+     */
+    public void recordTeardown(final long nanos) {
+        this.teardownNanos += nanos;
+    }
+
+    /**
+     * Records that the next game is ready and logs the timings of the completed cycle.
+     * Has to be called before the next game changes its state to ready.
+     */
+    public void recordReady() {
+        if (this.handoverAt == 0) {
+            // The first game has no previous game to hand over from
+            return;
+        }
+
+        final long now = System.nanoTime();
+        final long deadTimeMillis = (now - this.endedAt) / 1_000_000;
+        this.cycles++;
+        this.lastDeadTimeMillis = deadTimeMillis;
+        this.totalDeadTimeMillis += deadTimeMillis;
+        log.info(
+                "Game cycle {}: celebration {} ms, map {} ms, detach {} ms, setup {} ms, dead time {} ms "
+                        + "(average {} ms). Prepared games: {} Unprepared games: {}",
+                this.cycles,
+                (this.handoverAt - this.endedAt) / 1_000_000,
+                this.prepareNanos / 1_000_000,
+                this.teardownNanos / 1_000_000,
+                (now - this.handoverAt - this.prepareNanos - this.teardownNanos) / 1_000_000,
+                deadTimeMillis,
+                this.totalDeadTimeMillis / this.cycles,
+                this.preparedGames,
+                this.unpreparedGames);
+        this.handoverAt = 0;
+    }
+
+    /**
+     * Cancels a pending celebration, the prepared data is kept for the next game.
+     */
+    public void cancelHandover() {
+        if (this.celebrationTask != null) {
+            this.celebrationTask.cancel();
+            this.celebrationTask = null;
+        }
+    }
+
+    /**
+     * Cancels a pending celebration, runs the deferred releases of ended games and releases the map of a prepared game
+     * that was never started.
+     */
+    public void teardown() {
+        this.cancelHandover();
+
+        if (this.releaseTask != null) {
+            this.releaseTask.cancel();
+            this.releaseTask = null;
+        }
+        this.releaseEndedGames();
+
+        if (this.preparedGame != null) {
+            this.preparedGame.releaseMap();
+            this.preparedGame = null;
+        }
+    }
+}
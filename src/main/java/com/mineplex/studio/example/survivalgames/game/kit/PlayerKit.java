@@ -2,6 +2,7 @@ package com.mineplex.studio.example.survivalgames.game.kit;
 
 import com.mineplex.studio.example.survivalgames.game.ability.SneakyAbility;
 import com.mineplex.studio.example.survivalgames.game.ability.WeightlessAbility;
+import com.mineplex.studio.example.survivalgames.game.mechanic.ParticipantEventMechanic;
 import com.mineplex.studio.sdk.modules.game.MineplexGame;
 import com.mineplex.studio.sdk.modules.game.mechanics.ability.Ability;
 import com.mineplex.studio.sdk.modules.game.mechanics.ability.AbilityMechanic;
@@ -31,6 +32,10 @@ public class PlayerKit implements Kit<MineplexGame> {
      * The {@link KitMechanic} is responsible for managing the game {@link com.mineplex.studio.sdk.modules.game.mechanics.kit.Kit}.
      */
     private final KitMechanic kitMechanic;
+    /**
+     * The {@link ParticipantEventMechanic} dispatching the events of game participants to the abilities.
+     */
+    private final ParticipantEventMechanic participantEventMechanic;
     /**
      * The {@link MineplexGame} this ability is used in.
      */
@@ -55,7 +60,10 @@ public class PlayerKit implements Kit<MineplexGame> {
         // Setup Abilities used by this kit
         this.abilityMechanic.registerAbility(
                 game, WeightlessAbility.class, new WeightlessAbility(this.abilityMechanic, game));
-        this.abilityMechanic.registerAbility(game, SneakyAbility.class, new SneakyAbility(this.abilityMechanic, game));
+        this.abilityMechanic.registerAbility(
+                game,
+                SneakyAbility.class,
+                new SneakyAbility(this.abilityMechanic, game, this.participantEventMechanic));
     }
 
     /**
@@ -28,6 +28,10 @@ public class SurvivalGamesListener implements Listener {
     @EventHandler
     public void onQuit(final PlayerQuitEvent event) {
         final Player player = event.getPlayer();
+        if (!this.game.isParticipant(player)) {
+            return;
+        }
+
         final PlayerState playerState = this.game.getPlayerState(player);
 
         // Trigger player state related logics
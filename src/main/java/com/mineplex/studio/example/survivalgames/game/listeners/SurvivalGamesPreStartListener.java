@@ -1,6 +1,7 @@
 package com.mineplex.studio.example.survivalgames.game.listeners;
 
 import com.mineplex.studio.example.survivalgames.game.SurvivalGames;
+import com.mineplex.studio.sdk.modules.game.BuiltInPlayerState;
 import lombok.RequiredArgsConstructor;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
@@ -19,10 +20,19 @@ public class SurvivalGamesPreStartListener implements Listener {
     /**
      * Event handler for the {@link PlayerJoinEvent} event.
      * Adds the joined {@link org.bukkit.entity.Player} to the game and checks if the game can be started.
+     * Players joining while the participants are moved into the game are added as a spectator.
      * @param event The {@link PlayerJoinEvent} event
      */
     @EventHandler
     public void onJoin(final PlayerJoinEvent event) {
+        if (!this.game.isParticipant(event.getPlayer())) {
+            return;
+        }
+
+        if (this.game.getStartPipeline().isStarted()) {
+            this.game.setPlayerState(event.getPlayer(), BuiltInPlayerState.SPECTATOR);
+            return;
+        }
         this.game.addPlayer(event.getPlayer(), true);
     }
 }
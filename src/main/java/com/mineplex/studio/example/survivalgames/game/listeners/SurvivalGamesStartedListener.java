@@ -3,6 +3,8 @@ package com.mineplex.studio.example.survivalgames.game.listeners;
 import com.mineplex.studio.example.survivalgames.SurvivalGamesPlugin;
 import com.mineplex.studio.example.survivalgames.game.SurvivalGames;
 import com.mineplex.studio.example.survivalgames.game.kit.PlayerKit;
+import com.mineplex.studio.example.survivalgames.game.mechanic.ParticipantContext;
+import com.mineplex.studio.example.survivalgames.game.mechanic.ParticipantEventMechanic;
 import com.mineplex.studio.example.survivalgames.game.stat.SurvivalGamesStats;
 import com.mineplex.studio.sdk.modules.game.BuiltInPlayerState;
 import com.mineplex.studio.sdk.modules.game.event.PlayerStateChangeEvent;
@@ -28,23 +30,20 @@ public class SurvivalGamesStartedListener implements Listener {
     private final SurvivalGames game;
 
     /**
-     * Event handler for the {@link PlayerDeathEvent} event.
+     * Handler for the {@link PlayerDeathEvent} event of alive game participants, subscribed through the
+     * {@link ParticipantEventMechanic}.
      * Cancels the death of game participants and changes the player state to {@link BuiltInPlayerState#ELIMINATED}
      *
-     * @param event The {@link PlayerDeathEvent} event
+     * @param event   The {@link PlayerDeathEvent} event
+     * @param context The alive {@link Player} dying
      */
-    @EventHandler
-    public void onDeath(final PlayerDeathEvent event) {
-        if (!this.game.getPlayerState(event.getPlayer()).isAlive()) {
-            return;
-        }
+    public void onDeath(final PlayerDeathEvent event, final ParticipantContext context) {
+        final Player player = context.getPlayer();
 
         event.setCancelled(true);
         // We need to delay this by a tick since we can't teleport a dead player
         Bukkit.getScheduler()
-                .runTask(
-                        this.game.getPlugin(),
-                        () -> this.game.setPlayerState(event.getPlayer(), BuiltInPlayerState.ELIMINATED));
+                .runTask(this.game.getPlugin(), () -> this.game.setPlayerState(player, BuiltInPlayerState.ELIMINATED));
     }
 
     /**
@@ -55,6 +54,10 @@ public class SurvivalGamesStartedListener implements Listener {
      */
     @EventHandler
     public void onJoin(final PlayerJoinEvent event) {
+        if (!this.game.isParticipant(event.getPlayer())) {
+            return;
+        }
+
         this.game.setPlayerState(event.getPlayer(), BuiltInPlayerState.SPECTATOR);
     }
 
@@ -66,6 +69,9 @@ public class SurvivalGamesStartedListener implements Listener {
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onPlayerDeathOut(final PlayerDeathOutEvent event) {
         final Player player = event.getPlayer();
+        if (!this.game.isParticipant(player)) {
+            return;
+        }
 
         // Eliminated Player
         this.game.getKitMechanic().removeKit(player, PlayerKit.class);
@@ -89,7 +95,7 @@ public class SurvivalGamesStartedListener implements Listener {
      */
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onPlayerStateChange(final PlayerStateChangeEvent event) {
-        if (!event.getToState().isAlive()) {
+        if (this.game.isParticipant(event.getPlayer()) && !event.getToState().isAlive()) {
             this.game.checkGameEndCondition();
         }
     }
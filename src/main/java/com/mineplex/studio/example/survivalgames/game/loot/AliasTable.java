@@ -0,0 +1,112 @@
+package com.mineplex.studio.example.survivalgames.game.loot;
+
+import java.util.random.RandomGenerator;
+import lombok.NonNull;
+
+/**
+ * The {@link AliasTable} picks weighted indexes in constant time using Vose's alias method.
+ * <p>
+ * The weights are split into equally likely columns once on construction. Every column holds the probability of its
+ * own index and an alias index that fills the rest of the column, so a pick only requires a random column and a single
+ * comparison, no matter how many weights there are. The table is immutable and can be shared between threads.
+ */
+public final class AliasTable {
+    /**
+     * The probability of every column to pick its own index instead of its alias.
+     */
+    private final double[] probability;
+
+    /**
+     * The alias index of every column.
+     */
+    private final int[] alias;
+
+    /**
+     * Constructs a new {@link AliasTable} from the weights.
+     *
+     * @param weights the non-negative weight of every index, at least one weight must be positive
+     */
+    public AliasTable(@NonNull final int[] weights) {
+        final int size = weights.length;
+        if (size == 0) {
+            throw new IllegalArgumentException("At least one weight is required");
+        }
+
+        long total = 0;
+        for (final int weight : weights) {
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weights must not be negative");
+            }
+            total += weight;
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("At least one weight must be positive");
+        }
+
+        this.probability = new double[size];
+        this.alias = new int[size];
+
+        // Scale the weights so that the average column is exactly full
+        final double[] scaled = new double[size];
+        final int[] small = new int[size];
+        final int[] large = new int[size];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < size; i++) {
+            scaled[i] = (double) weights[i] * size / total;
+            if (scaled[i] < 1) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        // Fill every underfull column with the rest of an overfull one
+        while (smallCount > 0 && largeCount > 0) {
+            final int less = small[--smallCount];
+            final int more = large[--largeCount];
+
+            this.probability[less] = scaled[less];
+            this.alias[less] = more;
+
+            scaled[more] = (scaled[more] + scaled[less]) - 1;
+            if (scaled[more] < 1) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+
+        // The remaining columns are full, apart from rounding errors
+        while (largeCount > 0) {
+            final int index = large[--largeCount];
+            this.probability[index] = 1;
+            this.alias[index] = index;
+        }
+        while (smallCount > 0) {
+            final int index = small[--smallCount];
+            this.probability[index] = 1;
+            this.alias[index] = index;
+        }
+    }
+
+    /**
+     * Returns the number of weighted indexes.
+     *
+     * @return the number of indexes
+     */
+    public int size() {
+        return this.probability.length;
+    }
+
+    /**
+     * Picks a weighted index.
+     *
+     * @param random the random generator to pick with
+     * @return the picked index
+     */
+    public int sample(final RandomGenerator random) {
+        final int column = random.nextInt(this.probability.length);
+        return random.nextDouble() < this.probability[column] ? column : this.alias[column];
+    }
+}
@@ -0,0 +1,228 @@
+package com.mineplex.studio.example.survivalgames.game.loot;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.random.RandomGenerator;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * The {@link CompiledLootTable} rolls the contents of a loot container from the pools of a loot type file.
+ * <p>
+ * Every pool is compiled into an {@link AliasTable} and every amount range into primitive bounds, which lets a roll
+ * write the picked item indexes and amounts straight into caller owned buffers without creating any intermediate
+ * collection. The items themselves are only referenced by their index in the loot type file, counted over all pools, so
+ * the table does not depend on the server and is safe to share between threads.
+ */
+public final class CompiledLootTable {
+    /**
+     * The {@link AliasTable} of every pool.
+     */
+    private final AliasTable[] pools;
+
+    /**
+     * The index of the first item of every pool.
+     */
+    private final int[] poolOffsets;
+
+    /**
+     * The minimum number of items every pool adds to a container.
+     */
+    private final int[] poolMinimum;
+
+    /**
+     * The maximum number of items every pool adds to a container.
+     */
+    private final int[] poolMaximum;
+
+    /**
+     * The probability of every pool to add any items to a container.
+     */
+    private final double[] poolProbability;
+
+    /**
+     * The minimum amount of every item.
+     */
+    private final int[] itemMinimum;
+
+    /**
+     * The maximum amount of every item.
+     */
+    private final int[] itemMaximum;
+
+    /**
+     * The maximum number of items a single roll can produce, the required size of the roll buffers.
+     */
+    @Getter
+    private final int maxRolls;
+
+    /**
+     * Compiles the pools of a loot table.
+     *
+     * @param spec the weights and bounds of the pools
+     */
+    CompiledLootTable(@NonNull final Spec spec) {
+        final int poolCount = spec.weights().length;
+        this.pools = new AliasTable[poolCount];
+        this.poolOffsets = new int[poolCount];
+        this.poolMinimum = spec.poolMinimum().clone();
+        this.poolMaximum = spec.poolMaximum().clone();
+        this.poolProbability = spec.poolProbability().clone();
+        this.itemMinimum = spec.itemMinimum().clone();
+        this.itemMaximum = spec.itemMaximum().clone();
+
+        int offset = 0;
+        int maxRolls = 0;
+        for (int poolIndex = 0; poolIndex < poolCount; poolIndex++) {
+            this.pools[poolIndex] = new AliasTable(spec.weights()[poolIndex]);
+            this.poolOffsets[poolIndex] = offset;
+            offset += spec.weights()[poolIndex].length;
+            maxRolls += this.poolMaximum[poolIndex];
+        }
+        this.maxRolls = maxRolls;
+    }
+
+    /**
+     * Compiles the pools of a loot type file.
+     *
+     * @param root the root node of the loot type file
+     * @return the compiled loot table
+     */
+    public static CompiledLootTable fromJson(@NonNull final JsonNode root) {
+        return new CompiledLootTable(Spec.fromJson(root));
+    }
+
+    /**
+     * Returns the number of items over all pools.
+     *
+     * @return the item count
+     */
+    public int getItemCount() {
+        return this.itemMinimum.length;
+    }
+
+    /**
+     * Returns the number of pools.
+     *
+     * @return the pool count
+     */
+    public int getPoolCount() {
+        return this.pools.length;
+    }
+
+    /**
+     * Returns the index of the first item of the pool, the items of a pool are indexed consecutively.
+     *
+     * @param pool the pool index
+     * @return the index of the first item of the pool
+     */
+    public int getPoolOffset(final int pool) {
+        return this.poolOffsets[pool];
+    }
+
+    /**
+     * Rolls the contents of a single container.
+     * Both buffers must hold at least {@link this#getMaxRolls()} entries, otherwise the roll is cut short.
+     *
+     * @param random  the random generator to roll with
+     * @param items   receives the index of every rolled item
+     * @param amounts receives the amount of every rolled item
+     * @return the number of rolled items
+     */
+    public int roll(final RandomGenerator random, final int[] items, final int[] amounts) {
+        final int capacity = Math.min(items.length, amounts.length);
+        int count = 0;
+        for (int poolIndex = 0; poolIndex < this.pools.length; poolIndex++) {
+            if (this.poolProbability[poolIndex] < 1 && random.nextDouble() >= this.poolProbability[poolIndex]) {
+                continue;
+            }
+
+            final int rolls = nextInt(random, this.poolMinimum[poolIndex], this.poolMaximum[poolIndex]);
+            final AliasTable pool = this.pools[poolIndex];
+            final int offset = this.poolOffsets[poolIndex];
+            for (int i = 0; i < rolls && count < capacity; i++) {
+                final int item = offset + pool.sample(random);
+                items[count] = item;
+                amounts[count] = nextInt(random, this.itemMinimum[item], this.itemMaximum[item]);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns a random value between both bounds, without touching the random generator for fixed bounds.
+     *
+     * @param random  the random generator
+     * @param minimum the inclusive minimum
+     * @param maximum the inclusive maximum
+     * @return the random value
+     */
+    private static int nextInt(final RandomGenerator random, final int minimum, final int maximum) {
+        return minimum == maximum ? minimum : random.nextInt(minimum, maximum + 1);
+    }
+
+    /**
+     * The uncompiled weights and bounds of a loot table, as stored in a loot type file or a {@link LootPack}.
+     * Items are indexed over all pools in file order.
+     *
+     * @param weights         the item weights of every pool
+     * @param poolMinimum     the minimum number of items every pool adds to a container
+     * @param poolMaximum     the maximum number of items every pool adds to a container
+     * @param poolProbability the probability of every pool to add any items to a container
+     * @param itemMinimum     the minimum amount of every item
+     * @param itemMaximum     the maximum amount of every item
+     */
+    record Spec(
+            int[][] weights,
+            int[] poolMinimum,
+            int[] poolMaximum,
+            double[] poolProbability,
+            int[] itemMinimum,
+            int[] itemMaximum) {
+        /**
+         * Reads the weights and bounds of a loot type file.
+         *
+         * @param root the root node of the loot type file
+         * @return the read spec
+         */
+        static Spec fromJson(final JsonNode root) {
+            final JsonNode poolNodes = root.path("items");
+            final int poolCount = poolNodes.size();
+            final int[][] weights = new int[poolCount][];
+            final int[] poolMinimum = new int[poolCount];
+            final int[] poolMaximum = new int[poolCount];
+            final double[] poolProbability = new double[poolCount];
+
+            int itemCount = 0;
+            for (final JsonNode poolNode : poolNodes) {
+                itemCount += poolNode.path("items").size();
+            }
+            final int[] itemMinimum = new int[itemCount];
+            final int[] itemMaximum = new int[itemCount];
+
+            int offset = 0;
+            for (int poolIndex = 0; poolIndex < poolCount; poolIndex++) {
+                final JsonNode poolNode = poolNodes.get(poolIndex);
+                final JsonNode items = poolNode.path("items");
+                weights[poolIndex] = new int[items.size()];
+                for (int i = 0; i < items.size(); i++) {
+                    final JsonNode item = items.get(i);
+                    weights[poolIndex][i] = item.path("weight").asInt(1);
+
+                    final JsonNode amount = item.path("value").path("amount");
+                    itemMinimum[offset + i] = amount.path("minimum").asInt(1);
+                    itemMaximum[offset + i] =
+                            Math.max(itemMinimum[offset + i], amount.path("maximum").asInt(1));
+                }
+
+                final JsonNode itemsPerContainer = poolNode.path("itemsPerContainer");
+                poolMinimum[poolIndex] = itemsPerContainer.path("minimum").asInt(1);
+                poolMaximum[poolIndex] =
+                        Math.max(poolMinimum[poolIndex], itemsPerContainer.path("maximum").asInt(1));
+                poolProbability[poolIndex] = poolNode.path("probability").asDouble(1);
+                offset += items.size();
+            }
+            return new Spec(weights, poolMinimum, poolMaximum, poolProbability, itemMinimum, itemMaximum);
+        }
+    }
+}
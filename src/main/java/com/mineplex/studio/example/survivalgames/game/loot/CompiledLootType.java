@@ -0,0 +1,223 @@
+package com.mineplex.studio.example.survivalgames.game.loot;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.mineplex.studio.sdk.modules.game.mechanics.loot.LootContainerRefill;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.IntFunction;
+import lombok.Getter;
+import lombok.NonNull;
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * A loot type compiled for the {@link SurvivalGamesLootMechanic}.
+ * <p>
+ * The rolls are handled by the {@link CompiledLootTable}, which only knows item indexes. This class keeps the
+ * {@link ItemStack} template of every index, the refill settings and the {@link LootFillMode} of the loot type. The
+ * fill mode is an optional {@code fillMode} property of the loot type file and defaults to
+ * {@link LootFillMode#EAGER}.
+ * <p>
+ * Both types compiled from a loot type file and types read from a {@link LootPack} only keep the serialized NBT payload
+ * of every item and decode its template with {@link this#decodeItem(byte[])} on its first use. Loot types are compiled
+ * off the main thread, e.g. by the {@link LootCatalog} on a worker pool, while templates are only decoded and used on
+ * the main thread.
+ */
+public final class CompiledLootType {
+    /**
+     * The {@link CompiledLootTable} rolling the contents of a container.
+     */
+    @Getter
+    private final CompiledLootTable table;
+
+    /**
+     * The name of the loot type.
+     */
+    @Getter
+    private final String name;
+
+    /**
+     * The refill time of a container in ticks.
+     */
+    @Getter
+    private final long refillTicks;
+
+    /**
+     * Whether the refill time applies to every container on its own or to all containers of the type together.
+     */
+    @Getter
+    private final LootContainerRefill.CooldownMode cooldownMode;
+
+    /**
+     * When the containers of this type are filled for the first time.
+     */
+    @Getter
+    private final LootFillMode fillMode;
+
+    /**
+     * The {@link ItemStack} template of every item index of the {@link this#table}, {@code null} until decoded.
+     */
+    private final ItemStack[] templates;
+
+    /**
+     * Decodes the template of an item index on the main thread.
+     */
+    private final IntFunction<ItemStack> decoder;
+
+    /**
+     * Constructs a new compiled loot type.
+     *
+     * @param table        the compiled loot table
+     * @param name         the name of the loot type
+     * @param refillTicks  the refill time of a container in ticks
+     * @param cooldownMode the cooldown mode of the refills
+     * @param fillMode     the fill mode of the containers
+     * @param templates    the already decoded templates, {@code null} for every template to decode on demand
+     * @param decoder      decodes the template of an item index
+     */
+    CompiledLootType(
+            @NonNull final CompiledLootTable table,
+            @NonNull final String name,
+            final long refillTicks,
+            @NonNull final LootContainerRefill.CooldownMode cooldownMode,
+            @NonNull final LootFillMode fillMode,
+            @NonNull final ItemStack[] templates,
+            @NonNull final IntFunction<ItemStack> decoder) {
+        if (templates.length != table.getItemCount()) {
+            throw new IllegalArgumentException("Expected " + table.getItemCount() + " item templates for " + name
+                    + " but got " + templates.length);
+        }
+
+        this.table = table;
+        this.name = name;
+        this.refillTicks = refillTicks;
+        this.cooldownMode = cooldownMode;
+        this.fillMode = fillMode;
+        this.templates = templates;
+        this.decoder = decoder;
+    }
+
+    /**
+     * Compiles a loot type file without decoding its items, so it only touches the parsed JSON and is safe on any
+     * thread.
+     *
+     * @param root the root node of the loot type file
+     * @return the compiled loot type
+     */
+    public static CompiledLootType fromJson(@NonNull final JsonNode root) {
+        final List<JsonNode> items = readItems(root);
+        final byte[][] payloads = new byte[items.size()][];
+        for (int i = 0; i < payloads.length; i++) {
+            payloads[i] = readPayload(items.get(i));
+        }
+
+        return new CompiledLootType(
+                CompiledLootTable.fromJson(root),
+                readName(root),
+                readRefillTicks(root),
+                readCooldownMode(root),
+                readFillMode(root),
+                new ItemStack[payloads.length],
+                index -> decodeItem(payloads[index]));
+    }
+
+    /**
+     * Reads the name of a loot type file.
+     *
+     * @param root the root node of the loot type file
+     * @return the name of the loot type
+     */
+    static String readName(final JsonNode root) {
+        return root.path("name").asText();
+    }
+
+    /**
+     * Reads the refill time of a loot type file.
+     *
+     * @param root the root node of the loot type file
+     * @return the refill time of a container in ticks
+     */
+    public static long readRefillTicks(final JsonNode root) {
+        // The refill time is stored in milliseconds, one tick lasts 50 milliseconds
+        return Math.max(1, root.path("refill").path("refillTime").asLong() / 50);
+    }
+
+    /**
+     * Reads the refill cooldown mode of a loot type file.
+     *
+     * @param root the root node of the loot type file
+     * @return the cooldown mode of the refills
+     */
+    static LootContainerRefill.CooldownMode readCooldownMode(final JsonNode root) {
+        return LootContainerRefill.CooldownMode.valueOf(root.path("refill")
+                .path("cooldownMode")
+                .asText(LootContainerRefill.CooldownMode.CONTAINER.name()));
+    }
+
+    /**
+     * Reads the fill mode of a loot type file.
+     *
+     * @param root the root node of the loot type file
+     * @return the fill mode of the containers
+     */
+    static LootFillMode readFillMode(final JsonNode root) {
+        return LootFillMode.valueOf(root.path("fillMode").asText(LootFillMode.EAGER.name()));
+    }
+
+    /**
+     * Reads the item values of a loot type file in the same order the {@link CompiledLootTable} indexes them.
+     *
+     * @param root the root node of the loot type file
+     * @return the item value nodes
+     */
+    static List<JsonNode> readItems(final JsonNode root) {
+        final List<JsonNode> items = new ArrayList<>();
+        for (final JsonNode pool : root.path("items")) {
+            for (final JsonNode item : pool.path("items")) {
+                final JsonNode value = item.path("value");
+                if (!"item".equals(value.path("type").asText())) {
+                    throw new IllegalArgumentException(
+                            "Unsupported loot item type " + value.path("type") + " in " + readName(root));
+                }
+                items.add(value);
+            }
+        }
+        return items;
+    }
+
+    /**
+     * Reads the serialized NBT payload of an item value, which the loot type file stores as base64.
+     *
+     * @param item the item value node
+     * @return the serialized NBT of the item
+     */
+    static byte[] readPayload(final JsonNode item) {
+        return Base64.getDecoder().decode(item.path("itemStack").path("nbt").asText());
+    }
+
+    /**
+     * Decodes the serialized NBT payload of an item, only called on the main thread.
+     *
+     * @param payload the serialized NBT of the item
+     * @return the decoded {@link ItemStack}
+     */
+    static ItemStack decodeItem(final byte[] payload) {
+        return ItemStack.deserializeBytes(payload);
+    }
+
+    /**
+     * Creates a new {@link ItemStack} of a rolled item.
+     *
+     * @param item   the rolled item index
+     * @param amount the rolled amount
+     * @return a new {@link ItemStack} with the rolled amount
+     */
+    public ItemStack createItem(final int item, final int amount) {
+        ItemStack template = this.templates[item];
+        if (template == null) {
+            template = this.decoder.apply(item);
+            this.templates[item] = template;
+        }
+        return template.asQuantity(amount);
+    }
+}
@@ -0,0 +1,202 @@
+package com.mineplex.studio.example.survivalgames.game.loot;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.CRC32C;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The {@link LootCatalog} holds the compiled {@link LootConfig} shared by every game of the server.
+ * <p>
+ * The loot type files are only compiled once and the result is handed to every game and every concurrent arena. Each
+ * request still reads the raw files and fingerprints their contents, which is cheap compared to compiling them,
+ * and the files are only compiled again once the fingerprint changed. Games only bind the map specific container
+ * locations to the shared {@link CompiledLootType}.
+ * <p>
+ * If the {@link LootPack} bundled by the build was compiled from loot type files with the same fingerprint, the pack is
+ * used instead, which skips parsing the files. Both paths defer decoding every item to its first roll on the main
+ * thread. The bundled pack is extracted to the {@link this#packFile} once and memory-mapped from there, so it is never
+ * copied onto the heap. A pack whose fingerprint does not match, e.g. because the files were edited on the server, is
+ * ignored. Both paths log their load time.
+ * <p>
+ * Compiling is serialized, but the latest config is published through an {@link AtomicReference}. Running games read
+ * it with {@link this#current()} without any lock and only ever see a fully compiled config.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class LootCatalog {
+    /**
+     * The file the bundled {@link LootPack} is extracted to and memory-mapped from, e.g. inside the plugin data folder.
+     */
+    private final Path packFile;
+
+    /**
+     * The last compiled loot config, {@code null} until the first config was compiled.
+     */
+    private final AtomicReference<LootConfig> config = new AtomicReference<>();
+
+    /**
+     * The memory-mapped {@link LootPack}, {@code null} until the bundled pack was extracted and mapped.
+     */
+    private LootPack pack;
+
+    /**
+     * Whether the bundled {@link LootPack} was looked up already, it is only extracted once.
+     */
+    private boolean packLookedUp;
+
+    /**
+     * Returns the compiled loot config, compiling the loot type files if they changed since the last call.
+     * The bundled {@link LootPack} is used instead of the files if it was compiled from the same files.
+     *
+     * @return the current loot config
+     * @throws UncheckedIOException If an I/O error occurs while reading or compiling the loot type files.
+     */
+    public synchronized LootConfig get() {
+        try {
+            final long start = System.nanoTime();
+            final byte[] tierOne = Files.readAllBytes(LootConfig.TIER_ONE_FILE.toPath());
+            final byte[] tierTwo = Files.readAllBytes(LootConfig.TIER_TWO_FILE.toPath());
+            final long fingerprint = fingerprint(tierOne, tierTwo);
+            final LootConfig current = this.config.get();
+            if (current != null && current.getFingerprint() == fingerprint) {
+                return current;
+            }
+
+            final LootConfig packed = this.loadPack(fingerprint, start);
+            return packed != null ? packed : this.loadJson(tierOne, tierTwo, fingerprint, start);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to read loot type from disk!", e);
+        }
+    }
+
+    /**
+     * Returns the loot config of the bundled {@link LootPack} if it was compiled from the current loot type files.
+     *
+     * @param fingerprint the fingerprint of the current loot type files
+     * @param start       the start of the load in nanoseconds
+     * @return the loot config of the pack, or {@code null} if there is no matching or valid pack
+     */
+    private LootConfig loadPack(final long fingerprint, final long start) {
+        try {
+            final LootPack pack = this.openPack();
+            if (pack == null) {
+                return null;
+            }
+
+            if (!pack.isFresh(fingerprint)) {
+                log.info(
+                        "Ignoring the loot pack {}, the loot type files {} changed since the build",
+                        Long.toHexString(pack.getFingerprint()),
+                        Long.toHexString(fingerprint));
+                return null;
+            }
+
+            final LootConfig config = pack.toConfig();
+            this.config.set(config);
+            log.info(
+                    "Loaded loot catalog {} from the loot pack in {} ms",
+                    Long.toHexString(fingerprint),
+                    (System.nanoTime() - start) / 1_000_000);
+            return config;
+        } catch (final IOException e) {
+            log.warn("Failed to load the loot pack, falling back to the loot type files", e);
+            return null;
+        }
+    }
+
+    /**
+     * Returns the memory-mapped {@link LootPack}, extracting the bundled pack to the {@link this#packFile} on the first
+     * call. The pack can't change while the plugin is loaded, so it is extracted and mapped only once.
+     *
+     * @return the mapped pack, or {@code null} if the plugin bundles no pack
+     * @throws IOException If an I/O error occurs while extracting or mapping the pack.
+     */
+    private LootPack openPack() throws IOException {
+        if (this.packLookedUp) {
+            return this.pack;
+        }
+        this.packLookedUp = true;
+
+        final ClassLoader classLoader = LootCatalog.class.getClassLoader();
+        try (final InputStream input = classLoader.getResourceAsStream(LootConfig.PACK_RESOURCE)) {
+            if (input == null) {
+                return null;
+            }
+
+            // Extract next to the pack file first, so a mapped pack file is never partially written
+            Files.createDirectories(this.packFile.toAbsolutePath().getParent());
+            final Path extracting = this.packFile.resolveSibling(this.packFile.getFileName() + ".tmp");
+            Files.copy(input, extracting, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(extracting, this.packFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        this.pack = LootPack.open(this.packFile);
+        return this.pack;
+    }
+
+    /**
+     * Compiles the loot config of the loot type files.
+     *
+     * @param tierOne     the contents of the tier one file
+     * @param tierTwo     the contents of the tier two file
+     * @param fingerprint the fingerprint of both files
+     * @param start       the start of the load in nanoseconds
+     * @return the compiled loot config
+     * @throws IOException If the loot type files can't be compiled.
+     */
+    private LootConfig loadJson(final byte[] tierOne, final byte[] tierTwo, final long fingerprint, final long start)
+            throws IOException {
+        final LootConfig config = LootConfig.compile(tierOne, tierTwo, fingerprint);
+        this.config.set(config);
+        log.info(
+                "Compiled loot catalog {} from the loot type files in {} ms",
+                Long.toHexString(fingerprint),
+                (System.nanoTime() - start) / 1_000_000);
+        return config;
+    }
+
+    /**
+     * Returns the last compiled loot config without checking the loot type files.
+     *
+     * @return the last compiled loot config, or {@code null} if none was compiled yet
+     */
+    public LootConfig current() {
+        return this.config.get();
+    }
+
+    /**
+     * Returns the compiled loot config on the {@link Executor}.
+     *
+     * @param executor the executor to read and compile the loot type files on
+     * @return a future completed with the current loot config
+     */
+    public CompletableFuture<LootConfig> getAsync(final Executor executor) {
+        return CompletableFuture.supplyAsync(this::get, executor);
+    }
+
+    /**
+     * Fingerprints the contents of both loot type files.
+     *
+     * @param tierOne the contents of the tier one file
+     * @param tierTwo the contents of the tier two file
+     * @return the fingerprint of both files
+     */
+    static long fingerprint(final byte[] tierOne, final byte[] tierTwo) {
+        final CRC32C checksum = new CRC32C();
+        checksum.update(tierOne);
+        final long tierOneChecksum = checksum.getValue();
+
+        checksum.reset();
+        checksum.update(tierTwo);
+        return tierOneChecksum << 32 | checksum.getValue();
+    }
+}
@@ -0,0 +1,74 @@
+package com.mineplex.studio.example.survivalgames.game.loot;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mineplex.studio.jackson.MineplexJacksonModule;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import lombok.Value;
+import lombok.experimental.PackagePrivate;
+
+/**
+ * The compiled loot configuration of the {@link SurvivalGamesLootMechanic}.
+ * <p>
+ * The loot type files are compiled into {@link CompiledLootType} without any locations, which allows the configuration
+ * to be read on any thread before the map of the game is known. Configs are created and shared by the
+ * {@link LootCatalog}.
+ */
+@Value
+public class LootConfig {
+    /**
+     * Represents the file path for the Tier One configuration file.
+     */
+    public static final File TIER_ONE_FILE =
+            Path.of("assets", "configs", "tier1.json").toFile();
+
+    /**
+     * Represents the file path for the tier two configuration file.
+     */
+    public static final File TIER_TWO_FILE =
+            Path.of("assets", "configs", "tier2.json").toFile();
+
+    /**
+     * The name of the plugin resource holding the {@link LootPack} compiled from both configuration files by the build.
+     */
+    public static final String PACK_RESOURCE = "loot.pack";
+
+    /**
+     * The {@link ObjectMapper} is used to read the loot type files and decode their items.
+     * A configured {@link ObjectMapper} is thread safe and shared by all reads.
+     */
+    @PackagePrivate
+    static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new MineplexJacksonModule());
+
+    /**
+     * The compiled tier one loot type.
+     */
+    CompiledLootType tierOne;
+
+    /**
+     * The compiled tier two loot type.
+     */
+    CompiledLootType tierTwo;
+
+    /**
+     * The fingerprint of the loot type files this config was compiled from.
+     */
+    long fingerprint;
+
+    /**
+     * Compiles the loot configuration from the contents of the loot type files.
+     *
+     * @param tierOne     the contents of the tier one file
+     * @param tierTwo     the contents of the tier two file
+     * @param fingerprint the fingerprint of both files
+     * @return the compiled loot configuration
+     * @throws IOException If the loot type files can't be parsed.
+     */
+    static LootConfig compile(final byte[] tierOne, final byte[] tierTwo, final long fingerprint) throws IOException {
+        return new LootConfig(
+                CompiledLootType.fromJson(OBJECT_MAPPER.readTree(tierOne)),
+                CompiledLootType.fromJson(OBJECT_MAPPER.readTree(tierTwo)),
+                fingerprint);
+    }
+}
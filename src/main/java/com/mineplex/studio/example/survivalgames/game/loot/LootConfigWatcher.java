@@ -0,0 +1,153 @@
+package com.mineplex.studio.example.survivalgames.game.loot;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The {@link LootConfigWatcher} reloads the {@link LootCatalog} once a loot type file changed.
+ * <p>
+ * The config directory is watched on a daemon thread. Editors usually write a file in several steps, so the watcher
+ * waits until the directory was quiet for {@link this#getQuietMillis()} before it compiles the changed files on its own
+ * thread. A config that fails to compile is logged and the previous config stays in use. A compiled config is
+ * published by the catalog and picked up by every running game at the next refill of a container.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class LootConfigWatcher {
+    /**
+     * The names of the files that trigger a reload.
+     */
+    private static final Set<String> WATCHED_FILES =
+            Set.of(LootConfig.TIER_ONE_FILE.getName(), LootConfig.TIER_TWO_FILE.getName());
+
+    /**
+     * The {@link LootCatalog} to reload.
+     */
+    private final LootCatalog lootCatalog;
+
+    /**
+     * The time in milliseconds without further changes before a reload is started.
+     */
+    @Getter
+    @Setter
+    private long quietMillis = 500;
+
+    /**
+     * The {@link WatchService} of the config directory, {@code null} if the watcher is not running.
+     */
+    private WatchService watchService;
+
+    /**
+     * Starts watching the config directory.
+     *
+     * @throws UncheckedIOException If an I/O error occurs while registering the watch service.
+     */
+    public void start() {
+        if (this.watchService != null) {
+            return;
+        }
+
+        final Path directory = LootConfig.TIER_ONE_FILE.getAbsoluteFile().getParentFile().toPath();
+        try {
+            this.watchService = FileSystems.getDefault().newWatchService();
+            directory.register(
+                    this.watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to watch the loot config directory " + directory, e);
+        }
+
+        final WatchService service = this.watchService;
+        final Thread thread = new Thread(() -> this.watch(service), "SurvivalGames-LootConfigWatcher");
+        thread.setDaemon(true);
+        thread.start();
+        log.info("Watching {} for loot config changes", directory);
+    }
+
+    /**
+     * Stops watching the config directory.
+     */
+    public void stop() {
+        if (this.watchService == null) {
+            return;
+        }
+
+        try {
+            this.watchService.close();
+        } catch (final IOException e) {
+            log.warn("Failed to close the loot config watch service", e);
+        }
+        this.watchService = null;
+    }
+
+    /**
+     * Waits for changes of the watched files and reloads the catalog, till the watch service is closed.
+     *
+     * @param service the watch service of the config directory
+     */
+    private void watch(final WatchService service) {
+        try {
+            while (true) {
+                if (!this.isWatchedChange(service.take())) {
+                    continue;
+                }
+
+                // Wait till the directory is quiet, editors and the pack compiler write in several steps
+                WatchKey next;
+                while ((next = service.poll(this.quietMillis, TimeUnit.MILLISECONDS)) != null) {
+                    this.isWatchedChange(next);
+                }
+
+                this.reload();
+            }
+        } catch (final ClosedWatchServiceException | InterruptedException e) {
+            log.debug("Stopped watching the loot config directory");
+        }
+    }
+
+    /**
+     * Consumes the events of the key and checks if any of them changed a watched file.
+     *
+     * @param key the signalled key
+     * @return {@code true} if a watched file changed, {@code false} otherwise
+     */
+    private boolean isWatchedChange(final WatchKey key) {
+        boolean watched = false;
+        for (final WatchEvent<?> event : key.pollEvents()) {
+            if (event.context() instanceof final Path path && WATCHED_FILES.contains(path.toString())) {
+                watched = true;
+            }
+        }
+        key.reset();
+        return watched;
+    }
+
+    /**
+     * Compiles the changed files and publishes them through the catalog.
+     */
+    private void reload() {
+        final LootConfig previous = this.lootCatalog.current();
+        try {
+            final LootConfig config = this.lootCatalog.get();
+            if (config != previous) {
+                log.info(
+                        "Reloaded loot config {}, running games use it from their next refill",
+                        Long.toHexString(config.getFingerprint()));
+            }
+        } catch (final RuntimeException e) {
+            log.error("Failed to reload the loot config, keeping the previous config", e);
+        }
+    }
+}
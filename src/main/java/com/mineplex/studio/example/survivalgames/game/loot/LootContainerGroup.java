@@ -0,0 +1,264 @@
+package com.mineplex.studio.example.survivalgames.game.loot;
+
+import com.mineplex.studio.sdk.modules.game.mechanics.loot.LootContainerRefill;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import lombok.Getter;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.block.Block;
+
+/**
+ * All loot containers of a single {@link CompiledLootType} on the map of a game.
+ * <p>
+ * The containers are addressed by their index in the data point order. The refill state is kept in primitive arrays
+ * and the containers are looked up by their block or chunk key, so neither an open, a chunk load nor a refill creates
+ * any objects.
+ * <p>
+ * The group is bound to the loot type of a {@link LootConfig}. A newer config is only bound when a container of the
+ * group is filled, so a reloaded loot type takes effect at the next refill and never halfway through a roll.
+ */
+final class LootContainerGroup {
+    /**
+     * The index of this group in the groups of the game.
+     */
+    @Getter
+    private final int id;
+
+    /**
+     * Selects the loot type of this group from a {@link LootConfig}.
+     */
+    private final Function<LootConfig, CompiledLootType> typeSelector;
+
+    /**
+     * The loot type filling the containers, bound on the last fill.
+     */
+    @Getter
+    private CompiledLootType type;
+
+    /**
+     * The block {@link Location} of every container.
+     */
+    private final Location[] locations;
+
+    /**
+     * The index of every container by its block key.
+     */
+    private final Long2IntOpenHashMap indexByBlock;
+
+    /**
+     * The indexes of the containers inside every chunk containing at least one container, by chunk key.
+     */
+    private final Long2ObjectOpenHashMap<int[]> indexesByChunk;
+
+    /**
+     * The tick every container was filled at last, {@link Long#MIN_VALUE} if it was never filled.
+     */
+    private final long[] filledAt;
+
+    /**
+     * The tick the refill cycle of a {@link LootContainerRefill.CooldownMode#TYPE} refill started at.
+     */
+    private final long startTick;
+
+    /**
+     * The {@link LootFillPlan} of every container, or {@code null} if no plans are rolled for this group.
+     */
+    private CompletableFuture<LootFillPlan[]> plans;
+
+    /**
+     * Constructs a new group of containers.
+     *
+     * @param id           the index of the group in the groups of the game
+     * @param typeSelector selects the loot type of the group from a loot config
+     * @param config       the loot config to bind initially
+     * @param locations    the locations of the containers
+     * @param startTick    the current tick
+     */
+    LootContainerGroup(
+            final int id,
+            final Function<LootConfig, CompiledLootType> typeSelector,
+            final LootConfig config,
+            final List<Location> locations,
+            final long startTick) {
+        this.id = id;
+        this.typeSelector = typeSelector;
+        this.type = typeSelector.apply(config);
+        this.startTick = startTick;
+
+        this.locations = new Location[locations.size()];
+        this.indexByBlock = new Long2IntOpenHashMap(locations.size());
+        this.indexByBlock.defaultReturnValue(-1);
+        final Long2ObjectOpenHashMap<IntArrayList> chunks = new Long2ObjectOpenHashMap<>();
+        for (int i = 0; i < this.locations.length; i++) {
+            final Location location = locations.get(i).toBlockLocation();
+            this.locations[i] = location;
+            this.indexByBlock.put(
+                    Block.getBlockKey(location.getBlockX(), location.getBlockY(), location.getBlockZ()), i);
+            chunks.computeIfAbsent(
+                            Chunk.getChunkKey(location.getBlockX() >> 4, location.getBlockZ() >> 4),
+                            key -> new IntArrayList())
+                    .add(i);
+        }
+
+        this.indexesByChunk = new Long2ObjectOpenHashMap<>(chunks.size());
+        for (final Long2ObjectOpenHashMap.Entry<IntArrayList> entry : chunks.long2ObjectEntrySet()) {
+            this.indexesByChunk.put(entry.getLongKey(), entry.getValue().toIntArray());
+        }
+
+        this.filledAt = new long[this.locations.length];
+        Arrays.fill(this.filledAt, Long.MIN_VALUE);
+    }
+
+    /**
+     * Binds the loot type of the config for the next fill.
+     *
+     * @param config the current loot config
+     * @return the bound loot type
+     */
+    CompiledLootType bind(final LootConfig config) {
+        this.type = this.typeSelector.apply(config);
+        return this.type;
+    }
+
+    /**
+     * Returns the number of containers.
+     *
+     * @return the container count
+     */
+    int size() {
+        return this.locations.length;
+    }
+
+    /**
+     * Returns the block location of the container.
+     *
+     * @param index the container index
+     * @return the block location
+     */
+    Location getLocation(final int index) {
+        return this.locations[index];
+    }
+
+    /**
+     * Returns the index of the container at the block.
+     *
+     * @param blockKey the block key of the container
+     * @return the container index, or {@code -1} if the block is no container of this group
+     */
+    int indexOf(final long blockKey) {
+        return this.indexByBlock.get(blockKey);
+    }
+
+    /**
+     * Returns the indexes of the containers inside the chunk.
+     *
+     * @param chunkKey the key of the chunk
+     * @return the container indexes, or {@code null} if the chunk contains no container of this group
+     */
+    int[] indexesIn(final long chunkKey) {
+        return this.indexesByChunk.get(chunkKey);
+    }
+
+    /**
+     * Checks if the container was filled at least once.
+     *
+     * @param index the container index
+     * @return {@code true} if the container was filled, {@code false} otherwise
+     */
+    boolean isFilled(final int index) {
+        return this.filledAt[index] != Long.MIN_VALUE;
+    }
+
+    /**
+     * Checks if the container is due for a fill.
+     *
+     * @param index the container index
+     * @param tick  the current tick
+     * @return {@code true} if the container was never filled or its refill time passed, {@code false} otherwise
+     */
+    boolean isDue(final int index, final long tick) {
+        final long filledAt = this.filledAt[index];
+        if (filledAt == Long.MIN_VALUE) {
+            return true;
+        }
+
+        final long refillTicks = this.type.getRefillTicks();
+        if (this.type.getCooldownMode() == LootContainerRefill.CooldownMode.TYPE) {
+            // All containers of the type refill together, at every multiple of the refill time
+            final long lastRefill = this.startTick + (tick - this.startTick) / refillTicks * refillTicks;
+            return filledAt < lastRefill;
+        }
+        return tick - filledAt >= refillTicks;
+    }
+
+    /**
+     * Returns the tick the container is due for its next refill.
+     *
+     * @param index the container index
+     * @return the tick of the next refill, or the current tick if the container was never filled
+     */
+    long nextRefillTick(final int index) {
+        final long filledAt = this.filledAt[index];
+        if (filledAt == Long.MIN_VALUE) {
+            return this.startTick;
+        }
+
+        final long refillTicks = this.type.getRefillTicks();
+        if (this.type.getCooldownMode() == LootContainerRefill.CooldownMode.TYPE) {
+            return this.startTick + ((filledAt - this.startTick) / refillTicks + 1) * refillTicks;
+        }
+        return filledAt + refillTicks;
+    }
+
+    /**
+     * Returns the key of the container, unique over all groups of the game.
+     *
+     * @param index the container index
+     * @return the container key
+     */
+    long keyOf(final int index) {
+        return (long) this.id << Integer.SIZE | index;
+    }
+
+    /**
+     * Sets the plans rolled for the containers of this group.
+     *
+     * @param plans the future completed with the plan of every container
+     */
+    void setPlans(final CompletableFuture<LootFillPlan[]> plans) {
+        this.plans = plans;
+    }
+
+    /**
+     * Takes the plan of the container, a plan is only taken once.
+     *
+     * @param index the container index
+     * @return the plan of the container, or {@code null} if its plan is not rolled (yet) or was already taken
+     */
+    LootFillPlan takePlan(final int index) {
+        if (this.plans == null || !this.plans.isDone() || this.plans.isCompletedExceptionally()) {
+            return null;
+        }
+
+        final LootFillPlan[] ready = this.plans.join();
+        final LootFillPlan plan = ready[index];
+        ready[index] = null;
+        return plan;
+    }
+
+    /**
+     * Marks the container as filled.
+     *
+     * @param index the container index
+     * @param tick  the current tick
+     */
+    void markFilled(final int index, final long tick) {
+        this.filledAt[index] = tick;
+    }
+}
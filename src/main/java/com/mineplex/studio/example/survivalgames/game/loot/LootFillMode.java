@@ -0,0 +1,24 @@
+package com.mineplex.studio.example.survivalgames.game.loot;
+
+/**
+ * This enum represents when the {@link SurvivalGamesLootMechanic} fills the containers of a loot type for the first
+ * time. Refills of the planned types are scheduled by the {@link LootRefillScheduler} once a container was filled,
+ * containers of the lazy types are refilled on their next open once their refill time passed.
+ */
+public enum LootFillMode {
+    /**
+     * The loot type is registered at the SDK
+     * {@link com.mineplex.studio.sdk.modules.game.mechanics.loot.LootContainerMechanic}, which fills and refills every
+     * container on its own.
+     */
+    EAGER,
+    /**
+     * A container is filled on its first open or when its chunk loads, containers nobody reaches are never rolled.
+     */
+    LAZY,
+    /**
+     * The contents of every container are rolled into a {@link LootFillPlan} on worker threads during PRE_START. The
+     * plans are applied when the game starts, when the chunk of a container loads or on its first open.
+     */
+    PLANNED
+}
@@ -0,0 +1,124 @@
+package com.mineplex.studio.example.survivalgames.game.loot;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import lombok.Getter;
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * The contents of a single loot container, rolled ahead of its first fill.
+ * <p>
+ * Plans are rolled on worker threads, which only roll the slot, item index and amount of every item. The
+ * {@link ItemStack} are created from the plan on the main thread, so filling a container with a plan skips the roll
+ * but never creates or copies an {@link ItemStack} off the main thread. A plan is only valid for the loot type it was
+ * rolled from and for inventories of its size, otherwise the container is rolled on the main thread as usual.
+ */
+final class LootFillPlan {
+    /**
+     * The number of containers rolled by a single worker task.
+     */
+    private static final int BATCH_SIZE = 64;
+
+    /**
+     * The loot type the plan was rolled from.
+     */
+    @Getter
+    private final CompiledLootType type;
+
+    /**
+     * The size of the inventory the plan was rolled for.
+     */
+    private final int inventorySize;
+
+    /**
+     * The slot of every rolled item.
+     */
+    private final int[] slots;
+
+    /**
+     * The index of every rolled item.
+     */
+    private final int[] items;
+
+    /**
+     * The amount of every rolled item.
+     */
+    private final int[] amounts;
+
+    /**
+     * Constructs a new plan from the last roll of the roller.
+     *
+     * @param type          the loot type the plan was rolled from
+     * @param inventorySize the size of the inventory the plan was rolled for
+     * @param roller        the roller holding the rolled items
+     * @param count         the number of rolled items
+     */
+    private LootFillPlan(
+            final CompiledLootType type, final int inventorySize, final LootRoller roller, final int count) {
+        this.type = type;
+        this.inventorySize = inventorySize;
+        this.slots = Arrays.copyOf(roller.getRolledSlots(), count);
+        this.items = Arrays.copyOf(roller.getRolledItems(), count);
+        this.amounts = Arrays.copyOf(roller.getRolledAmounts(), count);
+    }
+
+    /**
+     * Checks if the plan can fill a container of the loot type and inventory size.
+     *
+     * @param type          the loot type bound to the container
+     * @param inventorySize the size of the container inventory
+     * @return {@code true} if the plan can be applied, {@code false} otherwise
+     */
+    boolean fits(final CompiledLootType type, final int inventorySize) {
+        return this.type == type && this.inventorySize == inventorySize;
+    }
+
+    /**
+     * Creates the contents of the container, only called on the main thread.
+     *
+     * @return the contents of the container by slot
+     */
+    ItemStack[] createContents() {
+        final ItemStack[] contents = new ItemStack[this.inventorySize];
+        for (int i = 0; i < this.items.length; i++) {
+            contents[this.slots[i]] = this.type.createItem(this.items[i], this.amounts[i]);
+        }
+        return contents;
+    }
+
+    /**
+     * Rolls the plans of a number of containers in batches on the executor.
+     *
+     * @param type          the loot type to roll
+     * @param containers    the number of containers
+     * @param inventorySize the expected size of the container inventories
+     * @param random        the random generator every batch splits its own generator from
+     * @param executor      the executor rolling the batches
+     * @return a future completed with the plan of every container
+     */
+    static CompletableFuture<LootFillPlan[]> rollAll(
+            final CompiledLootType type,
+            final int containers,
+            final int inventorySize,
+            final SplittableRandom random,
+            final Executor executor) {
+        final LootFillPlan[] plans = new LootFillPlan[containers];
+        final CompletableFuture<?>[] batches = new CompletableFuture<?>[(containers + BATCH_SIZE - 1) / BATCH_SIZE];
+        for (int batch = 0; batch < batches.length; batch++) {
+            final int start = batch * BATCH_SIZE;
+            final int end = Math.min(start + BATCH_SIZE, containers);
+            final LootRoller roller = new LootRoller(random.split());
+            batches[batch] = CompletableFuture.runAsync(
+                    () -> {
+                        for (int index = start; index < end; index++) {
+                            final int count = roller.rollIndexes(type, inventorySize);
+                            plans[index] = new LootFillPlan(type, inventorySize, roller, count);
+                        }
+                    },
+                    executor);
+        }
+        return CompletableFuture.allOf(batches).thenApply(ignored -> plans);
+    }
+}
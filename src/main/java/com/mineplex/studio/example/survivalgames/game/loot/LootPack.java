@@ -0,0 +1,218 @@
+package com.mineplex.studio.example.survivalgames.game.loot;
+
+import com.mineplex.studio.sdk.modules.game.mechanics.loot.LootContainerRefill;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import lombok.Getter;
+import lombok.NonNull;
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * The {@link LootPack} is the compiled binary form of the loot type files, written by the {@link LootPackCompiler}.
+ * <p>
+ * The build bundles the pack with the plugin as {@link LootConfig#PACK_RESOURCE}. The {@link LootCatalog} extracts it
+ * into the plugin data folder, because a resource inside the plugin jar can't be mapped, and memory-maps the extracted
+ * file with {@link this#open(Path)}. Only the header and the weight tables are read when it is opened. Every item is
+ * stored as its serialized NBT payload, which is decoded into an {@link ItemStack} the first time the item is rolled.
+ * All numbers are big endian, strings are prefixed with their UTF-8 length as an unsigned short:
+ * <pre>
+ * int    magic, version, payload section offset
+ * long   fingerprint of the loot type files
+ * int    type count
+ * type:  string name, long refill ticks, string cooldown mode, string fill mode, int pool count
+ * pool:  int item count, int minimum items, int maximum items, double probability
+ * item:  int weight, int minimum amount, int maximum amount, int payload offset, int payload length
+ * payload section: the NBT payloads, offsets are relative to the section
+ * </pre>
+ */
+public final class LootPack {
+    /**
+     * The magic number at the start of every pack, {@code SGLP}.
+     */
+    static final int MAGIC = 0x53474C50;
+
+    /**
+     * The version of the pack format.
+     */
+    static final int VERSION = 1;
+
+    /**
+     * The mapped contents of the pack.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * The fingerprint of the loot type files the pack was compiled from.
+     */
+    @Getter
+    private final long fingerprint;
+
+    /**
+     * The absolute offset of the payload section.
+     */
+    private final int payloadOffset;
+
+    /**
+     * Constructs a new pack from its mapped contents and validates the header.
+     *
+     * @param buffer the mapped contents of the pack
+     * @throws IOException If the contents are no pack of the current version.
+     */
+    private LootPack(final ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.remaining() < 20 || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a loot pack");
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IOException("Unsupported loot pack version " + buffer.getInt(4));
+        }
+
+        this.payloadOffset = buffer.getInt(8);
+        this.fingerprint = buffer.getLong(12);
+        if (this.payloadOffset < 24 || this.payloadOffset > buffer.limit()) {
+            throw new IOException("Corrupt loot pack payload offset " + this.payloadOffset);
+        }
+    }
+
+    /**
+     * Memory-maps a pack file.
+     *
+     * @param path the pack file
+     * @return the opened pack
+     * @throws IOException If an I/O error occurs while mapping the file or the file is no valid pack.
+     */
+    public static LootPack open(@NonNull final Path path) throws IOException {
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            return new LootPack(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Checks if the pack was compiled from the loot type files with the fingerprint.
+     * The modification times of the files are not considered, the files may be edited after the pack was built.
+     *
+     * @param fingerprint the fingerprint of the current loot type files, see {@link LootCatalog#fingerprint}
+     * @return {@code true} if the pack can be used instead of the loot type files, {@code false} otherwise
+     */
+    public boolean isFresh(final long fingerprint) {
+        return this.fingerprint == fingerprint;
+    }
+
+    /**
+     * Reads the loot config from the pack, the items are decoded on their first use.
+     *
+     * @return the loot config
+     * @throws IOException If the pack does not contain exactly the tier one and tier two loot type.
+     */
+    public LootConfig toConfig() throws IOException {
+        final ByteBuffer reader = this.buffer.duplicate().position(24);
+        final int typeCount = this.buffer.getInt(20);
+        if (typeCount != 2) {
+            throw new IOException("Expected 2 loot types in the loot pack but got " + typeCount);
+        }
+
+        try {
+            return new LootConfig(this.readType(reader), this.readType(reader), this.fingerprint);
+        } catch (final RuntimeException e) {
+            throw new IOException("Corrupt loot pack", e);
+        }
+    }
+
+    /**
+     * Reads the next loot type of the pack.
+     *
+     * @param reader the reader positioned at the loot type
+     * @return the loot type
+     */
+    private CompiledLootType readType(final ByteBuffer reader) {
+        final String name = readString(reader);
+        final long refillTicks = reader.getLong();
+        final LootContainerRefill.CooldownMode cooldownMode =
+                LootContainerRefill.CooldownMode.valueOf(readString(reader));
+        final LootFillMode fillMode = LootFillMode.valueOf(readString(reader));
+
+        final int poolCount = reader.getInt();
+        final int[][] weights = new int[poolCount][];
+        final int[] poolMinimum = new int[poolCount];
+        final int[] poolMaximum = new int[poolCount];
+        final double[] poolProbability = new double[poolCount];
+        final int[][] itemBounds = new int[poolCount][];
+        int itemCount = 0;
+        for (int poolIndex = 0; poolIndex < poolCount; poolIndex++) {
+            final int poolItems = reader.getInt();
+            poolMinimum[poolIndex] = reader.getInt();
+            poolMaximum[poolIndex] = reader.getInt();
+            poolProbability[poolIndex] = reader.getDouble();
+
+            // Weight, minimum amount, maximum amount, payload offset and payload length of every item
+            weights[poolIndex] = new int[poolItems];
+            itemBounds[poolIndex] = new int[poolItems * 4];
+            for (int i = 0; i < poolItems; i++) {
+                weights[poolIndex][i] = reader.getInt();
+                for (int field = 0; field < 4; field++) {
+                    itemBounds[poolIndex][i * 4 + field] = reader.getInt();
+                }
+            }
+            itemCount += poolItems;
+        }
+
+        final int[] itemMinimum = new int[itemCount];
+        final int[] itemMaximum = new int[itemCount];
+        final int[] payloadOffsets = new int[itemCount];
+        final int[] payloadLengths = new int[itemCount];
+        int item = 0;
+        for (final int[] bounds : itemBounds) {
+            for (int i = 0; i < bounds.length; i += 4) {
+                itemMinimum[item] = bounds[i];
+                itemMaximum[item] = bounds[i + 1];
+                payloadOffsets[item] = bounds[i + 2];
+                payloadLengths[item] = bounds[i + 3];
+                if (this.payloadOffset + (long) payloadOffsets[item] + payloadLengths[item] > this.buffer.limit()) {
+                    throw new IllegalStateException("Item payload outside of the loot pack");
+                }
+                item++;
+            }
+        }
+
+        final CompiledLootTable table = new CompiledLootTable(new CompiledLootTable.Spec(
+                weights, poolMinimum, poolMaximum, poolProbability, itemMinimum, itemMaximum));
+        return new CompiledLootType(
+                table,
+                name,
+                refillTicks,
+                cooldownMode,
+                fillMode,
+                new ItemStack[itemCount],
+                index -> this.decode(payloadOffsets[index], payloadLengths[index]));
+    }
+
+    /**
+     * Decodes an item payload.
+     *
+     * @param offset the offset of the payload inside the payload section
+     * @param length the length of the payload
+     * @return the decoded {@link ItemStack}
+     */
+    private ItemStack decode(final int offset, final int length) {
+        final byte[] payload = new byte[length];
+        this.buffer.get(this.payloadOffset + offset, payload);
+        return CompiledLootType.decodeItem(payload);
+    }
+
+    /**
+     * Reads a string prefixed with its UTF-8 length.
+     *
+     * @param reader the reader positioned at the string
+     * @return the read string
+     */
+    private static String readString(final ByteBuffer reader) {
+        final byte[] bytes = new byte[Short.toUnsignedInt(reader.getShort())];
+        reader.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
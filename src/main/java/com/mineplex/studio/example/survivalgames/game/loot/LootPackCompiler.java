@@ -0,0 +1,132 @@
+package com.mineplex.studio.example.survivalgames.game.loot;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import lombok.NonNull;
+
+/**
+ * The {@link LootPackCompiler} compiles the loot type files into a {@link LootPack}.
+ * <p>
+ * The compiler runs as part of the build through the {@code compileLootPack} task and does not require a server, the
+ * item payloads are copied from the loot type files without decoding them.
+ */
+public final class LootPackCompiler {
+    private LootPackCompiler() {}
+
+    /**
+     * Compiles the tier one and tier two loot type files into a pack, which the build bundles as
+     * {@link LootConfig#PACK_RESOURCE}.
+     *
+     * @param args the pack file to write, inside the build directory
+     * @throws IOException If an I/O error occurs while reading the loot type files or writing the pack.
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Expected the pack file to write as the only argument");
+        }
+
+        final long start = System.nanoTime();
+        final Path target = Path.of(args[0]).toAbsolutePath();
+        Files.createDirectories(target.getParent());
+        compile(LootConfig.TIER_ONE_FILE.toPath(), LootConfig.TIER_TWO_FILE.toPath(), target);
+        System.out.printf("Compiled %s in %d ms%n", target, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Compiles both loot type files into a pack.
+     * The pack is written next to the target and moved into place, so a mapped previous pack stays valid.
+     *
+     * @param tierOne the tier one loot type file
+     * @param tierTwo the tier two loot type file
+     * @param target  the pack file to write
+     * @throws IOException If an I/O error occurs while reading the loot type files or writing the pack.
+     */
+    public static void compile(@NonNull final Path tierOne, @NonNull final Path tierTwo, @NonNull final Path target)
+            throws IOException {
+        final byte[] tierOneBytes = Files.readAllBytes(tierOne);
+        final byte[] tierTwoBytes = Files.readAllBytes(tierTwo);
+
+        final ByteArrayOutputStream typeBytes = new ByteArrayOutputStream();
+        final ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream();
+        final DataOutputStream types = new DataOutputStream(typeBytes);
+        writeType(types, payloadBytes, LootConfig.OBJECT_MAPPER.readTree(tierOneBytes));
+        writeType(types, payloadBytes, LootConfig.OBJECT_MAPPER.readTree(tierTwoBytes));
+        types.flush();
+
+        final ByteArrayOutputStream packBytes = new ByteArrayOutputStream(24 + typeBytes.size() + payloadBytes.size());
+        final DataOutputStream pack = new DataOutputStream(packBytes);
+        pack.writeInt(LootPack.MAGIC);
+        pack.writeInt(LootPack.VERSION);
+        pack.writeInt(24 + typeBytes.size());
+        pack.writeLong(LootCatalog.fingerprint(tierOneBytes, tierTwoBytes));
+        pack.writeInt(2);
+        typeBytes.writeTo(pack);
+        payloadBytes.writeTo(pack);
+        pack.flush();
+
+        final Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        Files.write(temporary, packBytes.toByteArray());
+        Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Writes a loot type and appends the payloads of its items.
+     *
+     * @param types    the output of the type tables
+     * @param payloads the output of the item payloads
+     * @param root     the root node of the loot type file
+     * @throws IOException If an I/O error occurs while writing.
+     */
+    private static void writeType(
+            final DataOutputStream types, final ByteArrayOutputStream payloads, final JsonNode root)
+            throws IOException {
+        final CompiledLootTable.Spec spec = CompiledLootTable.Spec.fromJson(root);
+        final List<JsonNode> items = CompiledLootType.readItems(root);
+
+        writeString(types, CompiledLootType.readName(root));
+        types.writeLong(CompiledLootType.readRefillTicks(root));
+        writeString(types, CompiledLootType.readCooldownMode(root).name());
+        writeString(types, CompiledLootType.readFillMode(root).name());
+
+        types.writeInt(spec.weights().length);
+        int item = 0;
+        for (int poolIndex = 0; poolIndex < spec.weights().length; poolIndex++) {
+            final int[] weights = spec.weights()[poolIndex];
+            types.writeInt(weights.length);
+            types.writeInt(spec.poolMinimum()[poolIndex]);
+            types.writeInt(spec.poolMaximum()[poolIndex]);
+            types.writeDouble(spec.poolProbability()[poolIndex]);
+
+            for (final int weight : weights) {
+                final byte[] payload = CompiledLootType.readPayload(items.get(item));
+                types.writeInt(weight);
+                types.writeInt(spec.itemMinimum()[item]);
+                types.writeInt(spec.itemMaximum()[item]);
+                types.writeInt(payloads.size());
+                types.writeInt(payload.length);
+                payloads.write(payload);
+                item++;
+            }
+        }
+    }
+
+    /**
+     * Writes a string prefixed with its UTF-8 length.
+     *
+     * @param output the output to write to
+     * @param value  the string to write
+     * @throws IOException If an I/O error occurs while writing.
+     */
+    private static void writeString(final DataOutputStream output, final String value) throws IOException {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeShort(bytes.length);
+        output.write(bytes);
+    }
+}
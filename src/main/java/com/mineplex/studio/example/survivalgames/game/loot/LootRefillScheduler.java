@@ -0,0 +1,222 @@
+package com.mineplex.studio.example.survivalgames.game.loot;
+
+import com.mineplex.studio.example.survivalgames.modules.performance.LatencyHistogram;
+import com.mineplex.studio.sdk.modules.game.mechanics.loot.LootContainerRefill;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import java.util.SplittableRandom;
+import java.util.function.LongConsumer;
+import lombok.Getter;
+
+/**
+ * A hashed timing wheel scheduling the refills of loot containers.
+ * <p>
+ * Every refill is hashed into the wheel slot of its tick, so scheduling and expiring a refill takes constant time no
+ * matter how many refills are pending. Refills get a random delay added, which spreads containers that would refill in
+ * the same tick, e.g. all containers of a {@link LootContainerRefill.CooldownMode#TYPE} loot type, over the following
+ * ticks. At most {@link this#maxRefillsPerTick} refills run per tick, any overflow stays in a backlog and runs in the
+ * next ticks.
+ * <p>
+ * Containers are identified by a {@code long} key. Scheduling a key again replaces its pending refill.
+ * The scheduler is not thread safe and is meant to be used on the main thread.
+ */
+public final class LootRefillScheduler {
+    /**
+     * The number of bits of the wheel slot index.
+     */
+    private static final int WHEEL_BITS = 9;
+
+    /**
+     * The number of wheel slots, one per tick. Refills further ahead share a slot with earlier ticks and are kept until
+     * their tick is reached.
+     */
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+
+    /**
+     * The keys of the refills hashed into every slot.
+     */
+    private final LongArrayList[] slotKeys = new LongArrayList[WHEEL_SIZE];
+
+    /**
+     * The ticks of the refills hashed into every slot, parallel to {@link this#slotKeys}.
+     */
+    private final LongArrayList[] slotTicks = new LongArrayList[WHEEL_SIZE];
+
+    /**
+     * The tick of the pending refill of every key, used to drop replaced refills on expiry.
+     */
+    private final Long2LongOpenHashMap pendingTicks = new Long2LongOpenHashMap();
+
+    /**
+     * The keys of expired refills waiting for a free refill slot.
+     */
+    private final LongArrayFIFOQueue backlog = new LongArrayFIFOQueue();
+
+    /**
+     * The random generator adding the jitter, only used on the main thread.
+     */
+    private final SplittableRandom random;
+
+    /**
+     * The maximum number of refills run per tick.
+     */
+    @Getter
+    private final int maxRefillsPerTick;
+
+    /**
+     * The number of refills run in every tick.
+     */
+    @Getter
+    private final LatencyHistogram refillsPerTick = new LatencyHistogram();
+
+    /**
+     * The number of refills left in the backlog after every tick.
+     */
+    @Getter
+    private final LatencyHistogram backlogDepth = new LatencyHistogram();
+
+    /**
+     * The largest number of refills left in the backlog after a tick.
+     */
+    @Getter
+    private int maxBacklog;
+
+    /**
+     * The next tick to expire the refills of.
+     */
+    private long cursor;
+
+    /**
+     * Constructs a new scheduler.
+     *
+     * @param random            the random generator adding the jitter
+     * @param maxRefillsPerTick the maximum number of refills run per tick
+     * @param startTick         the current tick
+     */
+    public LootRefillScheduler(final SplittableRandom random, final int maxRefillsPerTick, final long startTick) {
+        if (maxRefillsPerTick <= 0) {
+            throw new IllegalArgumentException("At least one refill per tick is required");
+        }
+
+        this.random = random;
+        this.maxRefillsPerTick = maxRefillsPerTick;
+        this.cursor = startTick;
+        this.pendingTicks.defaultReturnValue(Long.MIN_VALUE);
+        for (int slot = 0; slot < WHEEL_SIZE; slot++) {
+            this.slotKeys[slot] = new LongArrayList();
+            this.slotTicks[slot] = new LongArrayList();
+        }
+    }
+
+    /**
+     * Schedules the refill of the key, replacing its pending refill.
+     *
+     * @param key         the key of the container
+     * @param tick        the earliest tick of the refill
+     * @param jitterTicks the maximum random delay added to the tick
+     * @return the tick the refill was scheduled at
+     */
+    public long schedule(final long key, final long tick, final int jitterTicks) {
+        final long jittered = jitterTicks > 0 ? tick + this.random.nextInt(jitterTicks + 1) : tick;
+        final long scheduled = Math.max(jittered, this.cursor);
+
+        this.pendingTicks.put(key, scheduled);
+        final int slot = (int) scheduled & (WHEEL_SIZE - 1);
+        this.slotKeys[slot].add(key);
+        this.slotTicks[slot].add(scheduled);
+        return scheduled;
+    }
+
+    /**
+     * Cancels the pending refill of the key.
+     *
+     * @param key the key of the container
+     */
+    public void cancel(final long key) {
+        this.pendingTicks.remove(key);
+    }
+
+    /**
+     * Returns the number of scheduled refills that did not expire yet.
+     *
+     * @return the pending refill count
+     */
+    public int getPending() {
+        return this.pendingTicks.size();
+    }
+
+    /**
+     * Returns the number of expired refills waiting for a free refill slot.
+     *
+     * @return the backlog size
+     */
+    public int getBacklog() {
+        return this.backlog.size();
+    }
+
+    /**
+     * Expires all refills up to the tick and runs at most {@link this#maxRefillsPerTick} refills of the backlog.
+     *
+     * @param tick   the current tick
+     * @param refill runs the refill of a key
+     */
+    public void tick(final long tick, final LongConsumer refill) {
+        // Every slot holds all refills of its tick, after a full turn every slot was visited once
+        final long last = Math.min(tick, this.cursor + WHEEL_SIZE - 1);
+        for (long current = this.cursor; current <= last; current++) {
+            this.expire((int) current & (WHEEL_SIZE - 1), tick);
+        }
+        this.cursor = Math.max(this.cursor, tick + 1);
+
+        int refills = 0;
+        while (refills < this.maxRefillsPerTick && !this.backlog.isEmpty()) {
+            refill.accept(this.backlog.dequeueLong());
+            refills++;
+        }
+
+        this.refillsPerTick.record(refills);
+        this.backlogDepth.record(this.backlog.size());
+        this.maxBacklog = Math.max(this.maxBacklog, this.backlog.size());
+    }
+
+    /**
+     * Removes all pending refills and the backlog.
+     */
+    public void clear() {
+        for (int slot = 0; slot < WHEEL_SIZE; slot++) {
+            this.slotKeys[slot].clear();
+            this.slotTicks[slot].clear();
+        }
+        this.pendingTicks.clear();
+        this.backlog.clear();
+    }
+
+    /**
+     * Moves the due refills of the slot to the backlog and drops replaced refills.
+     *
+     * @param slot the wheel slot
+     * @param tick the current tick
+     */
+    private void expire(final int slot, final long tick) {
+        final LongArrayList keys = this.slotKeys[slot];
+        final LongArrayList ticks = this.slotTicks[slot];
+
+        // Compact the refills that are not due yet to the front of the slot
+        int kept = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            final long key = keys.getLong(i);
+            final long scheduled = ticks.getLong(i);
+            if (scheduled > tick) {
+                keys.set(kept, key);
+                ticks.set(kept, scheduled);
+                kept++;
+            } else if (this.pendingTicks.get(key) == scheduled) {
+                this.pendingTicks.remove(key);
+                this.backlog.enqueue(key);
+            }
+        }
+        keys.size(kept);
+        ticks.size(kept);
+    }
+}
@@ -0,0 +1,130 @@
+package com.mineplex.studio.example.survivalgames.game.loot;
+
+import java.util.SplittableRandom;
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * Rolls the contents of loot containers into reused buffers.
+ * <p>
+ * {@link this#rollIndexes(CompiledLootType, int)} only rolls the slot, item index and amount of every item and never
+ * touches an {@link ItemStack}, so it can run on any thread. The {@link ItemStack} are created by
+ * {@link this#roll(CompiledLootType, int)} on the main thread.
+ * <p>
+ * A roller is not thread safe, every thread rolling loot uses its own roller with its own random generator.
+ */
+final class LootRoller {
+    /**
+     * The size of the largest container inventory, a double chest.
+     */
+    private static final int MAX_INVENTORY_SIZE = 54;
+
+    /**
+     * The random generator rolling the loot and picking the slots.
+     */
+    private final SplittableRandom random;
+
+    /**
+     * The inventory slots shuffled to place the rolled items into.
+     */
+    private final int[] slots = new int[MAX_INVENTORY_SIZE];
+
+    /**
+     * Receives the slot of every rolled item.
+     */
+    private int[] rolledSlots = new int[0];
+
+    /**
+     * Receives the index of every rolled item.
+     */
+    private int[] rolledItems = new int[0];
+
+    /**
+     * Receives the amount of every rolled item.
+     */
+    private int[] rolledAmounts = new int[0];
+
+    /**
+     * Constructs a new roller.
+     *
+     * @param random the random generator rolling the loot
+     */
+    LootRoller(final SplittableRandom random) {
+        this.random = random;
+    }
+
+    /**
+     * Rolls the contents of a container on the main thread.
+     *
+     * @param type          the loot type to roll
+     * @param inventorySize the size of the container inventory
+     * @return the contents of the container by slot
+     */
+    ItemStack[] roll(final CompiledLootType type, final int inventorySize) {
+        final int count = this.rollIndexes(type, inventorySize);
+        final ItemStack[] contents = new ItemStack[inventorySize];
+        for (int i = 0; i < count; i++) {
+            contents[this.rolledSlots[i]] = type.createItem(this.rolledItems[i], this.rolledAmounts[i]);
+        }
+        return contents;
+    }
+
+    /**
+     * Rolls the slot, item index and amount of every item of a container into the roll buffers.
+     * The buffers are overwritten by the next roll.
+     *
+     * @param type          the loot type to roll
+     * @param inventorySize the size of the container inventory
+     * @return the number of rolled items
+     */
+    int rollIndexes(final CompiledLootType type, final int inventorySize) {
+        final int maxRolls = type.getTable().getMaxRolls();
+        if (this.rolledItems.length < maxRolls) {
+            this.rolledSlots = new int[maxRolls];
+            this.rolledItems = new int[maxRolls];
+            this.rolledAmounts = new int[maxRolls];
+        }
+        final int rolled = type.getTable().roll(this.random, this.rolledItems, this.rolledAmounts);
+
+        // Scatter the items over the inventory with a partial Fisher-Yates shuffle of the slots
+        final int size = Math.min(inventorySize, this.slots.length);
+        final int count = Math.min(rolled, size);
+        for (int slot = 0; slot < size; slot++) {
+            this.slots[slot] = slot;
+        }
+        for (int i = 0; i < count; i++) {
+            final int swap = i + this.random.nextInt(size - i);
+            final int slot = this.slots[swap];
+            this.slots[swap] = this.slots[i];
+            this.slots[i] = slot;
+            this.rolledSlots[i] = slot;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the slot buffer of the last roll.
+     *
+     * @return the slot of every rolled item
+     */
+    int[] getRolledSlots() {
+        return this.rolledSlots;
+    }
+
+    /**
+     * Returns the item index buffer of the last roll.
+     *
+     * @return the index of every rolled item
+     */
+    int[] getRolledItems() {
+        return this.rolledItems;
+    }
+
+    /**
+     * Returns the amount buffer of the last roll.
+     *
+     * @return the amount of every rolled item
+     */
+    int[] getRolledAmounts() {
+        return this.rolledAmounts;
+    }
+}
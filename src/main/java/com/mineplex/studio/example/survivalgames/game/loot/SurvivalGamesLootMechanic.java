@@ -1,11 +1,15 @@
 package com.mineplex.studio.example.survivalgames.game.loot;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.mineplex.studio.example.survivalgames.game.SurvivalGames;
 import com.mineplex.studio.example.survivalgames.game.mechanic.TrackingCompassMechanic;
-import com.mineplex.studio.jackson.MineplexJacksonModule;
+import com.mineplex.studio.example.survivalgames.game.world.MapMetadata;
+import com.mineplex.studio.example.survivalgames.modules.performance.PerformanceModule;
+import com.mineplex.studio.sdk.modules.MineplexModuleManager;
+import com.mineplex.studio.sdk.modules.game.GameState;
 import com.mineplex.studio.sdk.modules.game.MineplexGame;
 import com.mineplex.studio.sdk.modules.game.mechanics.GameMechanic;
+import com.mineplex.studio.sdk.modules.game.mechanics.helper.GameStateListenerHelperMechanic;
 import com.mineplex.studio.sdk.modules.game.mechanics.loot.LootContainerMechanic;
 import com.mineplex.studio.sdk.modules.game.mechanics.loot.LootContainerPool;
 import com.mineplex.studio.sdk.modules.game.mechanics.loot.LootContainerRefill;
@@ -14,40 +18,85 @@ import com.mineplex.studio.sdk.modules.game.mechanics.loot.items.LootContainerIt
 import com.mineplex.studio.sdk.modules.world.MineplexWorld;
 import com.mineplex.studio.sdk.util.AmountRange;
 import com.mineplex.studio.sdk.util.MinecraftTimeUnit;
+import com.mineplex.studio.sdk.util.selector.BuiltInGameStateSelector;
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import lombok.Getter;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.Chest;
+import org.bukkit.block.Container;
+import org.bukkit.block.DoubleChest;
 import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.inventory.InventoryOpenEvent;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.scheduler.BukkitTask;
 
 /**
- * Wrapper class for {@link LootContainerMechanic} to handle the {@link SurvivalGames} specific setup.
- * This class handles the loading of the loot settings from the assets folder and the locations from the {@link MineplexWorld} config.
+ * The {@link SurvivalGamesLootMechanic} fills the {@link Container} of a {@link SurvivalGames} map with loot.
+ * <p>
+ * The loot settings are loaded from the assets folder as {@link LootConfig} and the locations from the
+ * {@link MapMetadata} of the {@link MineplexWorld}. Loot types of the {@link LootFillMode#EAGER} mode are registered at
+ * the {@link LootContainerMechanic}, which fills and refills their containers on its own timers. Containers of a
+ * {@link LootFillMode#LAZY} type are filled on their first open or when their chunk loads and are refilled on their
+ * next open once their refill time passed. Filled planned containers are refilled by the {@link LootRefillScheduler}
+ * while the game is in progress, which spreads the refills over a few ticks and caps the refills per tick, and on
+ * their next open if their refill time passed before the scheduler reached them. The contents are rolled
+ * by the {@link CompiledLootTable} of the loot type into reused buffers, so only the
+ * {@link org.bukkit.inventory.ItemStack} placed into the container are created per fill. The first fill of a
+ * {@link LootFillMode#PLANNED} type is rolled on worker threads during PRE_START, which only roll item indexes and
+ * amounts, and its items are created on the main thread.
  */
 @Slf4j
 public class SurvivalGamesLootMechanic implements GameMechanic<SurvivalGames> {
-    // Loot type files
     /**
-     * Represents the file path for the Tier One configuration file.
+     * The maximum number of containers refilled by the {@link LootRefillScheduler} per tick.
      */
-    private static final File TIER_ONE_FILE =
-            Path.of("assets", "configs", "tier1.json").toFile();
+    public static final int MAX_REFILLS_PER_TICK = 8;
 
     /**
-     * Represents the file path for the tier two configuration file.
+     * The maximum random delay added to a refill in ticks, at most a quarter of the refill time of the loot type.
      */
-    private static final File TIER_TWO_FILE =
-            Path.of("assets", "configs", "tier2.json").toFile();
+    private static final int MAX_REFILL_JITTER_TICKS = 40;
 
     /**
-     * The {@link ObjectMapper} is used to convert the loot type file {@link File} into {@link LootContainerType}.
+     * The {@link LootConfig} of this game, which might still be read in the background.
      */
-    private final ObjectMapper objectMapper;
+    private final CompletableFuture<LootConfig> lootConfig;
+
+    /**
+     * The {@link LootCatalog} publishing reloaded loot configs, which are bound at the next fill of a container.
+     */
+    private final LootCatalog lootCatalog;
+
+    /**
+     * The random generator every other random generator of this mechanic is split from, only used on the main thread.
+     */
+    private final SplittableRandom random = new SplittableRandom();
+
+    /**
+     * The {@link LootRoller} rolling the contents of containers on the main thread.
+     */
+    private final LootRoller roller = new LootRoller(this.random.split());
 
     // Game mechanics
     /**
@@ -55,20 +104,50 @@ public class SurvivalGamesLootMechanic implements GameMechanic<SurvivalGames> {
      */
     private final TrackingCompassMechanic trackingCompassMechanic;
     /**
-     * The {@link LootContainerMechanic} is responsible for filling {@link org.bukkit.block.Container} in a {@link MineplexWorld}.
+     * The {@link GameStateListenerHelperMechanic} is a helper class to register {@link GameState} based {@link org.bukkit.event.Listener} and {@link org.bukkit.scheduler.BukkitTask}.
+     */
+    private GameStateListenerHelperMechanic<SurvivalGames> stateHelperMechanic;
+    /**
+     * The {@link LootContainerMechanic} is responsible for filling the {@link Container} of the
+     * {@link LootFillMode#EAGER} loot types.
      */
     private LootContainerMechanic lootMechanic;
 
+    /**
+     * The {@link World} of the game map.
+     */
+    private World world;
+
+    /**
+     * The loot containers of the map, one group per loot type.
+     */
+    private List<LootContainerGroup> groups = List.of();
+
+    /**
+     * The {@link LootRefillScheduler} refilling the filled containers, exposing the refills per tick and backlog depth.
+     */
+    @Getter
+    private LootRefillScheduler refillScheduler;
+
+    /**
+     * The repeating {@link BukkitTask} running the due refills while the game is in progress, {@code null} otherwise.
+     */
+    private BukkitTask refillTask;
+
     /**
      * Constructs a new instance with the given {@link TrackingCompassMechanic}.
      *
      * @param trackingCompassMechanic The {@link TrackingCompassMechanic} to be used by this module
+     * @param lootCatalog             The {@link LootCatalog} the loot config is taken from
+     * @param lootConfig              The shared {@link LootConfig} to fill the containers with, awaited during setup
      */
-    public SurvivalGamesLootMechanic(final TrackingCompassMechanic trackingCompassMechanic) {
-        this.objectMapper = new ObjectMapper();
-        this.objectMapper.registerModule(new MineplexJacksonModule());
-
+    public SurvivalGamesLootMechanic(
+            final TrackingCompassMechanic trackingCompassMechanic,
+            final LootCatalog lootCatalog,
+            final CompletableFuture<LootConfig> lootConfig) {
         this.trackingCompassMechanic = trackingCompassMechanic;
+        this.lootCatalog = lootCatalog;
+        this.lootConfig = lootConfig;
     }
 
     /**
@@ -78,23 +157,57 @@ public class SurvivalGamesLootMechanic implements GameMechanic<SurvivalGames> {
      */
     @Override
     public void setup(@NonNull final SurvivalGames game) {
-        // Read LootContainerTypes from disk
-        final LootContainerType tierOneType;
-        final LootContainerType tierTwoType;
+        // Await the shared compiled loot types, usually checked while the previous game was ending
+        final LootConfig config;
         try {
-            tierOneType = this.readLootType(game.getGameWorld(), TIER_ONE_FILE, "TIER-1");
-            tierTwoType = this.readLootType(game.getGameWorld(), TIER_TWO_FILE, "TIER-2");
+            config = this.lootConfig.join();
+        } catch (final CompletionException e) {
+            log.error("Failed to read loot type from disk!", e.getCause());
+            throw new RuntimeException(e.getCause());
+        }
 
+        this.world = game.getGameWorld().getMinecraftWorld();
+        final long tick = Bukkit.getCurrentTick();
+
+        // Eager types are left to the LootContainerMechanic, every other type is filled once its containers are reached
+        this.lootMechanic = game.getGameMechanicFactory().construct(LootContainerMechanic.class);
+        final List<LootContainerGroup> groups = new ArrayList<>(2);
+        try {
+            this.register(game, config, groups, LootConfig::getTierOne, LootConfig.TIER_ONE_FILE, "TIER-1", tick);
+            this.register(game, config, groups, LootConfig::getTierTwo, LootConfig.TIER_TWO_FILE, "TIER-2", tick);
         } catch (final IOException e) {
             log.error("Failed to read loot type from disk!", e);
             throw new RuntimeException(e);
         }
-
-        // Setup LootContainerMechanic
-        this.lootMechanic = game.getGameMechanicFactory().construct(LootContainerMechanic.class);
-        this.lootMechanic.register(tierOneType);
-        this.lootMechanic.register(tierTwoType);
+        this.groups = List.copyOf(groups);
+        this.refillScheduler = new LootRefillScheduler(this.random.split(), MAX_REFILLS_PER_TICK, tick);
         this.lootMechanic.setup(game);
+
+        // Roll the first fill of planned containers on the worker pool while the players join
+        for (final LootContainerGroup group : this.groups) {
+            if (group.getType().getFillMode() == LootFillMode.PLANNED) {
+                this.planGroup(group);
+            }
+        }
+
+        final PerformanceModule performanceModule = MineplexModuleManager.getRegisteredModule(PerformanceModule.class);
+        final Runnable refills = performanceModule.timed("SurvivalGamesLootMechanic#refill", this::runRefills);
+
+        //noinspection unchecked
+        this.stateHelperMechanic = game.getGameMechanicFactory().construct(GameStateListenerHelperMechanic.class);
+
+        // Fill and refill reached containers while the game is in progress
+        this.stateHelperMechanic
+                // Function run once when the GameState changes to STARTED
+                .registerRunnable(
+                        performanceModule.timed("SurvivalGamesLootMechanic#applyPlans", this::applyPlans),
+                        BuiltInGameStateSelector.inProgress())
+                // Function run once when the GameState changes to STARTED
+                .registerRunnable(() -> this.startRefills(game, refills), BuiltInGameStateSelector.inProgress())
+                // Function run once when the GameState changes to ENDED
+                .registerRunnable(this::stopRefills, BuiltInGameStateSelector.ended());
+        performanceModule.registerEvents(this, game, GameState::isInProgress);
+        this.stateHelperMechanic.setup(game);
     }
 
     /**
@@ -102,13 +215,55 @@ public class SurvivalGamesLootMechanic implements GameMechanic<SurvivalGames> {
      */
     @Override
     public void teardown() {
+        this.stateHelperMechanic.teardown();
         this.lootMechanic.teardown();
+        HandlerList.unregisterAll(this);
+        this.stopRefills();
+
+        log.debug(
+                "Refilled loot containers with p50 {}, p99 {} and max {} refills per tick, max backlog {}",
+                this.refillScheduler.getRefillsPerTick().getValueAtPercentile(50),
+                this.refillScheduler.getRefillsPerTick().getValueAtPercentile(99),
+                this.refillScheduler.getRefillsPerTick().getValueAtPercentile(100),
+                this.refillScheduler.getMaxBacklog());
+        this.refillScheduler.clear();
+        this.groups = List.of();
+        this.world = null;
+    }
+
+    /**
+     * Registers the loot type at the {@link LootContainerMechanic} if it is filled eagerly, otherwise adds its
+     * container group.
+     *
+     * @param game                 The SurvivalGames whose map the loot type should be associated with.
+     * @param config               The {@link LootConfig} to bind initially.
+     * @param groups               The container groups of the game.
+     * @param typeSelector         Selects the loot type from a {@link LootConfig}.
+     * @param file                 The loot type file, read for the {@link LootContainerMechanic}.
+     * @param locationDataPointKey The key to identify the locations in the world associated with the loot type.
+     * @param tick                 The current tick.
+     * @throws IOException If an I/O error occurs while reading the loot type from the file.
+     */
+    private void register(
+            final SurvivalGames game,
+            final LootConfig config,
+            final List<LootContainerGroup> groups,
+            final Function<LootConfig, CompiledLootType> typeSelector,
+            final File file,
+            final String locationDataPointKey,
+            final long tick)
+            throws IOException {
+        if (typeSelector.apply(config).getFillMode() == LootFillMode.EAGER) {
+            this.lootMechanic.register(this.readLootType(game.getGameWorld(), file, locationDataPointKey));
+        } else {
+            groups.add(this.createGroup(game, config, groups.size(), typeSelector, locationDataPointKey, tick));
+        }
     }
 
     /**
      * Reads the loot type from a file and associates it with locations in the specified {@link MineplexWorld}.
      *
-     * @param world                The MineplexWorld object representing the world in which the loot type should be associated.
+     * @param world                The MineplexWorld in which the loot type should be associated.
      * @param file                 The file from which the loot type should be read.
      * @param locationDataPointKey The key to identify the locations in the world associated with the loot type.
      * @return The LootContainerType object read from the file with locations associated.
@@ -116,21 +271,250 @@ public class SurvivalGamesLootMechanic implements GameMechanic<SurvivalGames> {
      */
     private LootContainerType readLootType(
             final MineplexWorld world, final File file, final String locationDataPointKey) throws IOException {
-        final LootContainerType lootType = this.objectMapper.readValue(file, LootContainerType.class);
+        // The fill mode is no property of the LootContainerType
+        final ObjectNode node = (ObjectNode) LootConfig.OBJECT_MAPPER.readTree(file);
+        node.remove("fillMode");
+
+        final LootContainerType lootType = LootConfig.OBJECT_MAPPER.treeToValue(node, LootContainerType.class);
         final List<Location> locations = world.getDataPoints(locationDataPointKey);
         return lootType.withLocations(Set.copyOf(locations));
     }
 
+    /**
+     * Creates the container group of the loot type from the {@link MapMetadata} of the game map.
+     *
+     * @param game                 The SurvivalGames whose map the loot type should be associated with.
+     * @param config               The {@link LootConfig} to bind initially.
+     * @param id                   The index of the group in the groups of the game.
+     * @param typeSelector         Selects the loot type from a {@link LootConfig}.
+     * @param locationDataPointKey The key to identify the locations in the world associated with the loot type.
+     * @param tick                 The current tick.
+     * @return The container group of the loot type.
+     */
+    private LootContainerGroup createGroup(
+            final SurvivalGames game,
+            final LootConfig config,
+            final int id,
+            final Function<LootConfig, CompiledLootType> typeSelector,
+            final String locationDataPointKey,
+            final long tick) {
+        final List<Location> locations = game.getMapMetadata()
+                .getLootLocations(locationDataPointKey, game.getGameWorld().getMinecraftWorld());
+        return new LootContainerGroup(id, typeSelector, config, locations, tick);
+    }
+
+    /**
+     * Rolls the {@link LootFillPlan} of every container of the group on the worker pool.
+     *
+     * @param group the group of a {@link LootFillMode#PLANNED} loot type
+     */
+    private void planGroup(final LootContainerGroup group) {
+        final long start = System.nanoTime();
+        final CompletableFuture<LootFillPlan[]> plans = LootFillPlan.rollAll(
+                group.getType(),
+                group.size(),
+                InventoryType.CHEST.getDefaultSize(),
+                this.random.split(),
+                ForkJoinPool.commonPool());
+        plans.whenComplete((ready, throwable) -> {
+            if (throwable != null) {
+                log.warn("Failed to roll loot plans of {}", group.getType().getName(), throwable);
+            } else {
+                log.debug(
+                        "Rolled {} loot plans of {} in {} ms",
+                        ready.length,
+                        group.getType().getName(),
+                        (System.nanoTime() - start) / 1_000_000);
+            }
+        });
+        group.setPlans(plans);
+    }
+
+    /**
+     * Applies the plans of every planned container inside a loaded chunk once the game started.
+     * Containers inside unloaded chunks are filled once their chunk loads.
+     */
+    private void applyPlans() {
+        final long tick = Bukkit.getCurrentTick();
+        for (final LootContainerGroup group : this.groups) {
+            if (group.getType().getFillMode() != LootFillMode.PLANNED) {
+                continue;
+            }
+
+            for (int index = 0; index < group.size(); index++) {
+                final Location location = group.getLocation(index);
+                if (!group.isFilled(index)
+                        && this.world.isChunkLoaded(location.getBlockX() >> 4, location.getBlockZ() >> 4)) {
+                    this.fill(group, index, tick);
+                }
+            }
+        }
+    }
+
+    /**
+     * Method to fill the lazy and planned loot containers inside a loaded chunk.
+     * Chunks that were already loaded during setup are not revisited, their containers are filled on their first open.
+     *
+     * @param event The ChunkLoadEvent triggered by loading a chunk.
+     */
+    @EventHandler
+    public void onChunkLoad(final ChunkLoadEvent event) {
+        if (event.getWorld() != this.world) {
+            return;
+        }
+
+        final long chunkKey = event.getChunk().getChunkKey();
+        final long tick = Bukkit.getCurrentTick();
+        for (final LootContainerGroup group : this.groups) {
+            final int[] indexes = group.indexesIn(chunkKey);
+            if (indexes == null) {
+                continue;
+            }
+            for (final int index : indexes) {
+                if (!group.isFilled(index)) {
+                    this.fill(group, index, tick);
+                }
+            }
+        }
+    }
+
+    /**
+     * Method to fill opened loot containers on their first open and once their refill time passed.
+     *
+     * @param event The InventoryOpenEvent triggered by opening an inventory.
+     */
+    @EventHandler
+    public void onInventoryOpen(final InventoryOpenEvent event) {
+        final InventoryHolder holder = event.getInventory().getHolder(false);
+        if (holder instanceof final DoubleChest doubleChest) {
+            this.refillIfDue(doubleChest.getLeftSide());
+            this.refillIfDue(doubleChest.getRightSide());
+        } else {
+            this.refillIfDue(holder);
+        }
+    }
+
+    /**
+     * Fills the holder if it is a loot container that is due for a fill.
+     *
+     * @param holder the holder of the opened inventory
+     */
+    private void refillIfDue(final InventoryHolder holder) {
+        if (!(holder instanceof final BlockState state) || state.getWorld() != this.world) {
+            return;
+        }
+
+        final long blockKey = Block.getBlockKey(state.getX(), state.getY(), state.getZ());
+        final long tick = Bukkit.getCurrentTick();
+        for (final LootContainerGroup group : this.groups) {
+            final int index = group.indexOf(blockKey);
+            if (index != -1) {
+                if (group.isDue(index, tick)) {
+                    this.fill(group, index, tick);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Starts the repeating task running the due refills, unless it is running already.
+     *
+     * @param game    the game the task is scheduled for
+     * @param refills the timed refill runnable
+     */
+    private void startRefills(final SurvivalGames game, final Runnable refills) {
+        if (this.refillTask == null) {
+            this.refillTask = Bukkit.getScheduler().runTaskTimer(game.getPlugin(), refills, 1, 1);
+        }
+    }
+
+    /**
+     * Stops the repeating task running the due refills.
+     */
+    private void stopRefills() {
+        if (this.refillTask != null) {
+            this.refillTask.cancel();
+            this.refillTask = null;
+        }
+    }
+
+    /**
+     * Runs the due refills of the {@link LootRefillScheduler}.
+     */
+    private void runRefills() {
+        this.refillScheduler.tick(Bukkit.getCurrentTick(), this::refillScheduled);
+    }
+
+    /**
+     * Refills the container of a scheduled refill if it is still due.
+     * Containers inside unloaded chunks are skipped and refilled on their next open instead of loading the chunk.
+     *
+     * @param key the key of the container
+     */
+    private void refillScheduled(final long key) {
+        final LootContainerGroup group = this.groups.get((int) (key >>> Integer.SIZE));
+        final int index = (int) key;
+        final Location location = group.getLocation(index);
+        if (!this.world.isChunkLoaded(location.getBlockX() >> 4, location.getBlockZ() >> 4)) {
+            return;
+        }
+
+        final long tick = Bukkit.getCurrentTick();
+        if (group.isDue(index, tick)) {
+            this.fill(group, index, tick);
+        }
+    }
+
+    /**
+     * Replaces the contents of the container with a new roll of its loot type.
+     *
+     * @param group the group of the container
+     * @param index the container index
+     * @param tick  the current tick
+     */
+    private void fill(final LootContainerGroup group, final int index, final long tick) {
+        group.markFilled(index, tick);
+
+        // Every fill is a refill boundary, a reloaded loot type is bound here and used for the whole roll
+        final LootConfig current = this.lootCatalog.current();
+        final CompiledLootType type = current == null ? group.getType() : group.bind(current);
+
+        final Location location = group.getLocation(index);
+        if (!(location.getBlock().getState(false) instanceof final Container container)) {
+            log.warn("Loot data point of {} at {} is no container", type.getName(), location);
+            return;
+        }
+
+        // Lazy containers are refilled on their next open, nobody sees a refill ahead of it
+        if (type.getFillMode() != LootFillMode.LAZY) {
+            // Spread the refills of containers filled in the same tick, e.g. all containers of a TYPE cooldown
+            final int jitterTicks = getRefillJitterTicks(type.getRefillTicks());
+            this.refillScheduler.schedule(group.keyOf(index), group.nextRefillTick(index), jitterTicks);
+        }
+
+        // A chest that is part of a double chest would return both halves
+        final Inventory inventory =
+                container instanceof final Chest chest ? chest.getBlockInventory() : container.getInventory();
+
+        // The first fill of a planned container creates its items from the plan rolled on the worker pool
+        final LootFillPlan plan = group.takePlan(index);
+        inventory.setContents(
+                plan != null && plan.fits(type, inventory.getSize())
+                        ? plan.createContents()
+                        : this.roller.roll(type, inventory.getSize()));
+    }
+
     /**
      * Generate the {@link LootContainerType} types and write them to disk.
      *
      * @throws IOException If an I/O error occurs while writing the loot tables to files.
      */
     private void writeLootTableToFile() throws IOException {
-        this.objectMapper
+        LootConfig.OBJECT_MAPPER
                 .writerWithDefaultPrettyPrinter()
                 .writeValue(
-                        TIER_ONE_FILE,
+                        LootConfig.TIER_ONE_FILE,
                         LootContainerType.builder()
                                 .name("Tier-1")
                                 .items(List.of(
@@ -221,10 +605,10 @@ public class SurvivalGamesLootMechanic implements GameMechanic<SurvivalGames> {
                                 .locations(Set.of())
                                 .build());
 
-        this.objectMapper
+        LootConfig.OBJECT_MAPPER
                 .writerWithDefaultPrettyPrinter()
                 .writeValue(
-                        TIER_TWO_FILE,
+                        LootConfig.TIER_TWO_FILE,
                         LootContainerType.builder()
                                 .name("Tier-2")
                                 .items(List.of(
@@ -319,5 +703,32 @@ public class SurvivalGamesLootMechanic implements GameMechanic<SurvivalGames> {
                                         .build())
                                 .locations(Set.of())
                                 .build());
+
+        // Containers nobody reaches are never rolled, the contested tier two containers are rolled ahead of the start
+        this.writeFillMode(LootConfig.TIER_ONE_FILE, LootFillMode.LAZY);
+        this.writeFillMode(LootConfig.TIER_TWO_FILE, LootFillMode.PLANNED);
+    }
+
+    /**
+     * Adds the {@link LootFillMode} to a written loot type file, it is not part of the {@link LootContainerType}.
+     *
+     * @param file     the loot type file
+     * @param fillMode the fill mode of the loot type
+     * @throws IOException If an I/O error occurs while rewriting the file.
+     */
+    private void writeFillMode(final File file, final LootFillMode fillMode) throws IOException {
+        final ObjectNode node = (ObjectNode) LootConfig.OBJECT_MAPPER.readTree(file);
+        node.put("fillMode", fillMode.name());
+        LootConfig.OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValue(file, node);
+    }
+
+    /**
+     * Returns the maximum random delay added to the refills of a loot type.
+     *
+     * @param refillTicks the refill time of the loot type in ticks
+     * @return the maximum delay in ticks
+     */
+    public static int getRefillJitterTicks(final long refillTicks) {
+        return (int) Math.min(MAX_REFILL_JITTER_TICKS, refillTicks / 4);
     }
 }
@@ -0,0 +1,196 @@
+package com.mineplex.studio.example.survivalgames.game.mechanic;
+
+import com.mineplex.studio.example.survivalgames.modules.performance.PerformanceModule;
+import com.mineplex.studio.sdk.modules.MineplexModuleManager;
+import com.mineplex.studio.sdk.modules.game.MineplexGame;
+import com.mineplex.studio.sdk.modules.game.event.PlayerStateChangeEvent;
+import com.mineplex.studio.sdk.modules.game.mechanics.GameMechanic;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+
+/**
+ * The {@link AlivePlayerRoster} keeps track of all alive {@link Player} of a {@link MineplexGame}.
+ * <p>
+ * Instead of scanning all player states whenever the alive players are required, the roster is updated once per
+ * {@link PlayerStateChangeEvent}. The alive players are stored in a dense array, which allows constant time counting
+ * and iteration without allocating.
+ * <p>
+ * The listener is registered during setup before the other mechanics and therefore runs before any
+ * {@link EventPriority#MONITOR} listener registered after it, so those listeners already observe the updated roster.
+ */
+@RequiredArgsConstructor
+public class AlivePlayerRoster implements GameMechanic<MineplexGame> {
+    /**
+     * The initial capacity of the alive {@link Player} array.
+     */
+    private static final int INITIAL_CAPACITY = 32;
+
+    /**
+     * The filter deciding which {@link Player} state changes belong to the host {@link MineplexGame}.
+     */
+    private final Predicate<Player> participantFilter;
+
+    /**
+     * The index of each alive {@link Player} inside {@link this#alive}.
+     */
+    private final Object2IntOpenHashMap<Player> indexes = new Object2IntOpenHashMap<>(INITIAL_CAPACITY);
+
+    /**
+     * The alive {@link Player}, only the first {@link this#aliveCount} entries are in use.
+     */
+    private Player[] alive = new Player[INITIAL_CAPACITY];
+
+    /**
+     * The number of alive {@link Player}.
+     */
+    private int aliveCount;
+
+    /**
+     * Method to be called when this mechanic is set up for a {@link MineplexGame}
+     *
+     * @param game The {@link MineplexGame} setting up this mechanic
+     */
+    @Override
+    public void setup(@NonNull final MineplexGame game) {
+        this.indexes.defaultReturnValue(-1);
+
+        // Event listener that is listening during all GameStates
+        MineplexModuleManager.getRegisteredModule(PerformanceModule.class).registerEvents(this, game, state -> true);
+    }
+
+    /**
+     * Method to be called when this mechanic is no longer needed by the host {@link MineplexGame}
+     */
+    @Override
+    public void teardown() {
+        HandlerList.unregisterAll(this);
+
+        Arrays.fill(this.alive, 0, this.aliveCount, null);
+        this.aliveCount = 0;
+        this.indexes.clear();
+    }
+
+    /**
+     * Returns the number of alive {@link Player}.
+     *
+     * @return the alive player count
+     */
+    public int aliveCount() {
+        return this.aliveCount;
+    }
+
+    /**
+     * Returns the alive {@link Player} at the given index.
+     *
+     * @param index the index, must be between 0 and {@link this#aliveCount()}
+     * @return the alive player at the index
+     */
+    public Player getAlive(final int index) {
+        if (index < 0 || index >= this.aliveCount) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return this.alive[index];
+    }
+
+    /**
+     * Checks if the {@link Player} is alive.
+     *
+     * @param player the player to check
+     * @return {@code true} if the player is alive, {@code false} otherwise
+     */
+    public boolean isAlive(final Player player) {
+        return this.indexes.containsKey(player);
+    }
+
+    /**
+     * Performs the action for each alive {@link Player}.
+     * The roster must not be modified by the action.
+     *
+     * @param action the action to perform
+     */
+    public void forEachAlive(final Consumer<? super Player> action) {
+        for (int i = 0; i < this.aliveCount; i++) {
+            action.accept(this.alive[i]);
+        }
+    }
+
+    /**
+     * Returns the last surviving {@link Player}.
+     *
+     * @return the only alive player, or an empty optional if there is not exactly one player alive
+     */
+    public Optional<Player> getLastSurvivor() {
+        if (this.aliveCount != 1) {
+            return Optional.empty();
+        }
+        return Optional.of(this.alive[0]);
+    }
+
+    /**
+     * Adds the {@link Player} to the roster.
+     *
+     * @param player the player to add
+     */
+    private void add(final Player player) {
+        if (this.indexes.containsKey(player)) {
+            return;
+        }
+
+        if (this.aliveCount == this.alive.length) {
+            this.alive = Arrays.copyOf(this.alive, this.alive.length * 2);
+        }
+
+        this.alive[this.aliveCount] = player;
+        this.indexes.put(player, this.aliveCount);
+        this.aliveCount++;
+    }
+
+    /**
+     * Removes the {@link Player} from the roster.
+     * The last alive player is moved into the free slot to keep the array dense.
+     *
+     * @param player the player to remove
+     */
+    private void remove(final Player player) {
+        final int index = this.indexes.removeInt(player);
+        if (index == -1) {
+            return;
+        }
+
+        final int last = --this.aliveCount;
+        if (index != last) {
+            final Player moved = this.alive[last];
+            this.alive[index] = moved;
+            this.indexes.put(moved, index);
+        }
+        this.alive[last] = null;
+    }
+
+    /**
+     * Updates the roster when the state of a {@link Player} changes.
+     *
+     * @param event the PlayerStateChangeEvent that triggered the method
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerStateChange(final PlayerStateChangeEvent event) {
+        // Ignore state changes of players belonging to another game
+        if (!this.participantFilter.test(event.getPlayer())) {
+            return;
+        }
+
+        if (event.getToState().isAlive()) {
+            this.add(event.getPlayer());
+        } else {
+            this.remove(event.getPlayer());
+        }
+    }
+}
@@ -1,53 +1,48 @@
 package com.mineplex.studio.example.survivalgames.game.mechanic;
 
+import com.mineplex.studio.example.survivalgames.game.world.MapMetadata;
+import com.mineplex.studio.example.survivalgames.modules.performance.PerformanceModule;
+import com.mineplex.studio.sdk.modules.MineplexModuleManager;
 import com.mineplex.studio.sdk.modules.game.GameState;
 import com.mineplex.studio.sdk.modules.game.MineplexGame;
 import com.mineplex.studio.sdk.modules.game.SingleWorldMineplexGame;
 import com.mineplex.studio.sdk.modules.game.event.PlayerStateChangeEvent;
 import com.mineplex.studio.sdk.modules.game.mechanics.GameMechanic;
 import com.mineplex.studio.sdk.modules.game.mechanics.helper.GameStateListenerHelperMechanic;
-import com.mineplex.studio.sdk.modules.world.MineplexWorld;
 import com.mineplex.studio.sdk.util.selector.BuiltInGameStateSelector;
-import java.util.List;
+import java.util.function.Predicate;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
-import lombok.extern.slf4j.Slf4j;
-import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.WorldBorder;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
-import org.bukkit.util.Vector;
+import org.bukkit.event.HandlerList;
 
 /**
  * The {@link BorderMechanic} is responsible for managing the world {@link WorldBorder} of a {@link SingleWorldMineplexGame}.
- * It calculates the initial border size based on the distance between the world center and the border points and
+ * It takes the initial border size from the {@link MapMetadata} of the map and
  * dynamically adjusts the border size based on the number of alive players in the game.
  */
 @RequiredArgsConstructor
-@Slf4j
 public class BorderMechanic implements GameMechanic<SingleWorldMineplexGame> {
     /**
-     * The key for the {@link MineplexWorld} border data points.
+     * The {@link AlivePlayerRoster} providing the alive {@link Player} count.
      */
-    private static final String WORLD_BORDER_KEY = "WORLD_BORDER";
-    /**
-     * The key for the {@link MineplexWorld} center data points.
-     */
-    private static final String WORLD_CENTER_KEY = "CENTER";
+    private final AlivePlayerRoster alivePlayerRoster;
 
     /**
-     * The fallback center position if no data point was found.
+     * The filter deciding which {@link Player} belong to the game.
      */
-    private static final Vector FALLBACK_CENTER = new Vector(0, 0, 0);
+    private final Predicate<Player> participantFilter;
 
     /**
-     * The fallback initial border size if no data point was found.
+     * The {@link MapMetadata} of the game map, providing the center and initial border size.
      */
-    private static final int FALLBACK_INITIAL_BORDER = 256;
+    private final MapMetadata mapMetadata;
 
     /**
      * The {@link SingleWorldMineplexGame} the {@link BorderMechanic} is created from.
@@ -104,17 +99,20 @@ public class BorderMechanic implements GameMechanic<SingleWorldMineplexGame> {
     public void setup(@NonNull final SingleWorldMineplexGame game) {
         this.game = game;
 
-        this.center = this.getWorldCenter();
-        this.initialBorder = this.calculateInitialBorder();
+        this.center = this.mapMetadata.getCenter(game.getGameWorld().getMinecraftWorld());
+        this.initialBorder = this.mapMetadata.getBorderSize();
 
         //noinspection unchecked
         this.stateHelperMechanic = game.getGameMechanicFactory().construct(GameStateListenerHelperMechanic.class);
 
+        final PerformanceModule performanceModule = MineplexModuleManager.getRegisteredModule(PerformanceModule.class);
         this.stateHelperMechanic
                 // Function run once when the GameState changes to STARTED
-                .registerRunnable(this::setupBorder, BuiltInGameStateSelector.inProgress())
-                // Event listener that is listening during the STARTED GameState
-                .registerEventListener(this, BuiltInGameStateSelector.inProgress());
+                .registerRunnable(
+                        performanceModule.timed("BorderMechanic#setupBorder", this::setupBorder),
+                        BuiltInGameStateSelector.inProgress());
+        // Event listener that is listening during the STARTED GameState
+        performanceModule.registerEvents(this, game, GameState::isInProgress);
 
         this.stateHelperMechanic.setup(game);
     }
@@ -125,6 +123,7 @@ public class BorderMechanic implements GameMechanic<SingleWorldMineplexGame> {
     @Override
     public void teardown() {
         this.stateHelperMechanic.teardown();
+        HandlerList.unregisterAll(this);
 
         // Reset border size
         if (this.game != null) {
@@ -141,66 +140,6 @@ public class BorderMechanic implements GameMechanic<SingleWorldMineplexGame> {
         return this.game.getGameWorld().getMinecraftWorld().getWorldBorder();
     }
 
-    /**
-     * Retrieves the world center location for the current {@link SingleWorldMineplexGame}.
-     * If the data point for the world center is not found it will fallback to {@link BorderMechanic#FALLBACK_CENTER}.
-     *
-     * @return The world center location for the current {@link SingleWorldMineplexGame}.
-     */
-    private Location getWorldCenter() {
-        final MineplexWorld world = this.game.getGameWorld();
-        final List<Location> locations = world.getDataPoints(WORLD_CENTER_KEY);
-        if (locations.isEmpty()) {
-            log.warn("Missing {} data point key, falling back to fallback value.", WORLD_CENTER_KEY);
-            return FALLBACK_CENTER.toLocation(world.getMinecraftWorld());
-        }
-        return locations.getFirst();
-    }
-
-    /**
-     * Retrieves the count of currently alive players in the game.
-     *
-     * @return The count of alive players.
-     */
-    private int getAlivePlayerCount() {
-        int alive = 0;
-
-        for (final Player player : Bukkit.getOnlinePlayers()) {
-            if (this.game.getPlayerState(player).isAlive()) {
-                alive++;
-            }
-        }
-
-        return alive;
-    }
-
-    /**
-     * Calculates the initial border size for {@link SingleWorldMineplexGame}.
-     * <p>
-     * This method retrieves border data points with the key {@link BorderMechanic#WORLD_BORDER_KEY} of the {@link MineplexWorld}
-     * and calculates the longest distance between those borders and the {@link this#center} of the game.
-     * <p>
-     * If there are no data points representing the borders {@link BorderMechanic#FALLBACK_INITIAL_BORDER} is returned.
-     *
-     * @return The initial border size.
-     */
-    private double calculateInitialBorder() {
-        final MineplexWorld world = this.game.getGameWorld();
-
-        final List<Location> borders = world.getDataPoints(WORLD_BORDER_KEY);
-        if (borders.isEmpty()) {
-            log.warn("Missing {} data point key, falling back to fallback value.", WORLD_BORDER_KEY);
-            return FALLBACK_INITIAL_BORDER;
-        }
-
-        double longestDistance = Long.MIN_VALUE;
-        for (final Location location : borders) {
-            longestDistance = Math.max(longestDistance, Math.abs(location.getX() - this.center.getX()));
-            longestDistance = Math.max(longestDistance, Math.abs(location.getZ() - this.center.getZ()));
-        }
-        return longestDistance * 2;
-    }
-
     /**
      * Sets up the border for the game.
      * <p>
@@ -215,7 +154,7 @@ public class BorderMechanic implements GameMechanic<SingleWorldMineplexGame> {
         border.setDamageBuffer(0);
         border.setWarningDistance(10);
 
-        final int players = this.getAlivePlayerCount();
+        final int players = this.alivePlayerRoster.aliveCount();
         this.initialPlayers = players;
         this.updateBorderSize(players);
     }
@@ -252,8 +191,10 @@ public class BorderMechanic implements GameMechanic<SingleWorldMineplexGame> {
      */
     @EventHandler(priority = EventPriority.MONITOR)
     public void playerDeathOut(final PlayerStateChangeEvent event) {
-        if (!event.getToState().isAlive() && event.getToState().isGameParticipant()) {
-            this.updateBorderSize(this.getAlivePlayerCount());
+        if (this.participantFilter.test(event.getPlayer())
+                && !event.getToState().isAlive()
+                && event.getToState().isGameParticipant()) {
+            this.updateBorderSize(this.alivePlayerRoster.aliveCount());
         }
     }
 }
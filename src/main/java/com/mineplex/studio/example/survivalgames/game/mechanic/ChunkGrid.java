@@ -0,0 +1,438 @@
+package com.mineplex.studio.example.survivalgames.game.mechanic;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import org.bukkit.Chunk;
+
+/**
+ * A uniform grid of elements bucketed by the chunk they are in, answering nearest neighbour queries on the x and z
+ * coordinates.
+ * <p>
+ * A query searches the chunks around the query position ring by ring on squared distances and stops once no element
+ * outside the searched rings can be closer than the best match. Its cost therefore depends on the elements around the
+ * query position and not on the total element count. If a ring contains more chunks than unvisited elements are left,
+ * the remaining elements are scanned linearly instead, which bounds the cost of queries on sparse grids.
+ * <p>
+ * Elements are compared by identity. The grid is not thread safe and is meant to be used on the main thread.
+ *
+ * @param <T> the type of the elements
+ */
+public final class ChunkGrid<T> {
+    /**
+     * The number of bits of a block coordinate inside a chunk.
+     */
+    private static final int CELL_SHIFT = 4;
+
+    /**
+     * The width of a chunk in blocks.
+     */
+    private static final int CELL_SIZE = 1 << CELL_SHIFT;
+
+    /**
+     * The initial capacity of the element arrays.
+     */
+    private static final int INITIAL_CAPACITY = 8;
+
+    /**
+     * The cells by chunk key. Emptied cells are kept, players tend to return to the chunks they left.
+     */
+    private final Long2ObjectOpenHashMap<Cell<T>> cells = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * The entry of every element.
+     */
+    private final Reference2ObjectOpenHashMap<T, Entry<T>> entries = new Reference2ObjectOpenHashMap<>();
+
+    /**
+     * All entries, only the first {@link this#size} entries are in use.
+     */
+    @SuppressWarnings("unchecked")
+    private Entry<T>[] all = new Entry[INITIAL_CAPACITY];
+
+    /**
+     * The number of elements.
+     */
+    private int size;
+
+    /**
+     * Returns the number of elements.
+     *
+     * @return the element count
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Checks if the element is inside the grid.
+     *
+     * @param element the element to check
+     * @return {@code true} if the element is inside the grid, {@code false} otherwise
+     */
+    public boolean contains(final T element) {
+        return this.entries.containsKey(element);
+    }
+
+    /**
+     * Adds the element or moves it to the position if it is already inside the grid.
+     *
+     * @param element the element to add
+     * @param x       the x coordinate of the element
+     * @param z       the z coordinate of the element
+     */
+    public void put(final T element, final double x, final double z) {
+        if (this.move(element, x, z)) {
+            return;
+        }
+
+        final Entry<T> entry = new Entry<>(element);
+        entry.x = x;
+        entry.z = z;
+        entry.cellKey = cellKey(x, z);
+        this.entries.put(element, entry);
+
+        if (this.size == this.all.length) {
+            this.all = Arrays.copyOf(this.all, this.size * 2);
+        }
+        entry.index = this.size;
+        this.all[this.size++] = entry;
+        this.cells.computeIfAbsent(entry.cellKey, key -> new Cell<>()).add(entry);
+    }
+
+    /**
+     * Moves the element to the position if it is inside the grid.
+     *
+     * @param element the element to move
+     * @param x       the new x coordinate of the element
+     * @param z       the new z coordinate of the element
+     * @return {@code true} if the element was moved, {@code false} if it is not inside the grid
+     */
+    public boolean move(final T element, final double x, final double z) {
+        final Entry<T> entry = this.entries.get(element);
+        if (entry == null) {
+            return false;
+        }
+
+        entry.x = x;
+        entry.z = z;
+        final long cellKey = cellKey(x, z);
+        if (cellKey != entry.cellKey) {
+            this.cells.get(entry.cellKey).remove(entry);
+            entry.cellKey = cellKey;
+            this.cells.computeIfAbsent(cellKey, key -> new Cell<>()).add(entry);
+        }
+        return true;
+    }
+
+    /**
+     * Removes the element.
+     *
+     * @param element the element to remove
+     * @return {@code true} if the element was removed, {@code false} if it was not inside the grid
+     */
+    public boolean remove(final T element) {
+        final Entry<T> entry = this.entries.remove(element);
+        if (entry == null) {
+            return false;
+        }
+
+        this.cells.get(entry.cellKey).remove(entry);
+
+        // Move the last entry into the free slot to keep the entries dense
+        final int last = --this.size;
+        if (entry.index != last) {
+            final Entry<T> moved = this.all[last];
+            this.all[entry.index] = moved;
+            moved.index = entry.index;
+        }
+        this.all[last] = null;
+        return true;
+    }
+
+    /**
+     * Removes all elements.
+     */
+    public void clear() {
+        this.cells.clear();
+        this.entries.clear();
+        Arrays.fill(this.all, 0, this.size, null);
+        this.size = 0;
+    }
+
+    /**
+     * Performs the action for each element.
+     * The grid must not be modified by the action.
+     *
+     * @param action the action to perform
+     */
+    public void forEach(final Consumer<? super T> action) {
+        for (int i = 0; i < this.size; i++) {
+            action.accept(this.all[i].element);
+        }
+    }
+
+    /**
+     * Returns the squared distance of the element to the position.
+     *
+     * @param element the element
+     * @param x       the x coordinate of the position
+     * @param z       the z coordinate of the position
+     * @return the squared distance on the x and z coordinates, or {@link Double#NaN} if the element is not inside the
+     * grid
+     */
+    public double distanceSquared(final T element, final double x, final double z) {
+        final Entry<T> entry = this.entries.get(element);
+        if (entry == null) {
+            return Double.NaN;
+        }
+        return entry.distanceSquared(x, z);
+    }
+
+    /**
+     * Finds the element closest to the position that matches the filter.
+     * The filter is only tested for elements closer than the best match so far.
+     *
+     * @param x      the x coordinate of the position
+     * @param z      the z coordinate of the position
+     * @param filter the filter the element has to match
+     * @return the closest matching element, or {@code null} if no element matches
+     */
+    public T nearest(final double x, final double z, final Predicate<? super T> filter) {
+        final Query<T> query = new Query<>(x, z, filter);
+        final int cellX = (int) Math.floor(x) >> CELL_SHIFT;
+        final int cellZ = (int) Math.floor(z) >> CELL_SHIFT;
+
+        for (int ring = 0; query.visited < this.size; ring++) {
+            // Every element outside the searched rings is at least (ring - 1) chunks away
+            if (ring > 0) {
+                final double bound = (double) (ring - 1) * CELL_SIZE;
+                if (query.bestDistance <= bound * bound) {
+                    break;
+                }
+            }
+
+            // Scan the remaining elements if the ring has more chunks than elements are left
+            if (8L * ring > this.size - query.visited) {
+                for (int i = 0; i < this.size; i++) {
+                    query.test(this.all[i]);
+                }
+                break;
+            }
+
+            if (ring == 0) {
+                this.visit(query, cellX, cellZ);
+                continue;
+            }
+            for (int dx = -ring; dx <= ring; dx++) {
+                this.visit(query, cellX + dx, cellZ - ring);
+                this.visit(query, cellX + dx, cellZ + ring);
+            }
+            for (int dz = -ring + 1; dz < ring; dz++) {
+                this.visit(query, cellX - ring, cellZ + dz);
+                this.visit(query, cellX + ring, cellZ + dz);
+            }
+        }
+        return query.best;
+    }
+
+    /**
+     * Tests every element of the cell.
+     *
+     * @param query the running query
+     * @param cellX the x coordinate of the cell
+     * @param cellZ the z coordinate of the cell
+     */
+    private void visit(final Query<T> query, final int cellX, final int cellZ) {
+        final Cell<T> cell = this.cells.get(Chunk.getChunkKey(cellX, cellZ));
+        if (cell == null) {
+            return;
+        }
+
+        for (int i = 0; i < cell.size; i++) {
+            query.test(cell.entries[i]);
+        }
+        query.visited += cell.size;
+    }
+
+    /**
+     * Returns the key of the chunk containing the position.
+     *
+     * @param x the x coordinate
+     * @param z the z coordinate
+     * @return the chunk key
+     */
+    private static long cellKey(final double x, final double z) {
+        return Chunk.getChunkKey((int) Math.floor(x) >> CELL_SHIFT, (int) Math.floor(z) >> CELL_SHIFT);
+    }
+
+    /**
+     * An element with its position.
+     *
+     * @param <T> the type of the element
+     */
+    private static final class Entry<T> {
+        /**
+         * The element.
+         */
+        private final T element;
+
+        /**
+         * The x coordinate of the element.
+         */
+        private double x;
+
+        /**
+         * The z coordinate of the element.
+         */
+        private double z;
+
+        /**
+         * The key of the cell containing the element.
+         */
+        private long cellKey;
+
+        /**
+         * The index of this entry inside {@link ChunkGrid#all}.
+         */
+        private int index;
+
+        /**
+         * The index of this entry inside its cell.
+         */
+        private int slot;
+
+        /**
+         * Constructs a new entry.
+         *
+         * @param element the element
+         */
+        private Entry(final T element) {
+            this.element = element;
+        }
+
+        /**
+         * Returns the squared distance to the position.
+         *
+         * @param x the x coordinate of the position
+         * @param z the z coordinate of the position
+         * @return the squared distance
+         */
+        private double distanceSquared(final double x, final double z) {
+            final double dx = this.x - x;
+            final double dz = this.z - z;
+            return dx * dx + dz * dz;
+        }
+    }
+
+    /**
+     * The entries inside a single chunk.
+     *
+     * @param <T> the type of the elements
+     */
+    private static final class Cell<T> {
+        /**
+         * The entries, only the first {@link this#size} entries are in use.
+         */
+        @SuppressWarnings("unchecked")
+        private Entry<T>[] entries = new Entry[INITIAL_CAPACITY];
+
+        /**
+         * The number of entries.
+         */
+        private int size;
+
+        /**
+         * Adds the entry.
+         *
+         * @param entry the entry to add
+         */
+        private void add(final Entry<T> entry) {
+            if (this.size == this.entries.length) {
+                this.entries = Arrays.copyOf(this.entries, this.size * 2);
+            }
+            entry.slot = this.size;
+            this.entries[this.size++] = entry;
+        }
+
+        /**
+         * Removes the entry, the last entry is moved into the free slot.
+         *
+         * @param entry the entry to remove
+         */
+        private void remove(final Entry<T> entry) {
+            final int last = --this.size;
+            if (entry.slot != last) {
+                final Entry<T> moved = this.entries[last];
+                this.entries[entry.slot] = moved;
+                moved.slot = entry.slot;
+            }
+            this.entries[last] = null;
+        }
+    }
+
+    /**
+     * The state of a running nearest neighbour query.
+     *
+     * @param <T> the type of the elements
+     */
+    private static final class Query<T> {
+        /**
+         * The x coordinate of the query position.
+         */
+        private final double x;
+
+        /**
+         * The z coordinate of the query position.
+         */
+        private final double z;
+
+        /**
+         * The filter the element has to match.
+         */
+        private final Predicate<? super T> filter;
+
+        /**
+         * The closest matching element so far.
+         */
+        private T best;
+
+        /**
+         * The squared distance of the best element.
+         */
+        private double bestDistance = Double.MAX_VALUE;
+
+        /**
+         * The number of visited elements.
+         */
+        private int visited;
+
+        /**
+         * Constructs a new query.
+         *
+         * @param x      the x coordinate of the query position
+         * @param z      the z coordinate of the query position
+         * @param filter the filter the element has to match
+         */
+        private Query(final double x, final double z, final Predicate<? super T> filter) {
+            this.x = x;
+            this.z = z;
+            this.filter = filter;
+        }
+
+        /**
+         * Takes the entry as best match if it is closer and matches the filter.
+         *
+         * @param entry the entry to test
+         */
+        private void test(final Entry<T> entry) {
+            final double distance = entry.distanceSquared(this.x, this.z);
+            if (distance < this.bestDistance && this.filter.test(entry.element)) {
+                this.best = entry.element;
+                this.bestDistance = distance;
+            }
+        }
+    }
+}
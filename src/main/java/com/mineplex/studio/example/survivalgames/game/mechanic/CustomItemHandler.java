@@ -0,0 +1,29 @@
+package com.mineplex.studio.example.survivalgames.game.mechanic;
+
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * Handles the events of a custom {@link ItemStack} registered to the {@link CustomItemMechanic}.
+ * Handlers are only called for items matching the {@link org.bukkit.Material} and identity tag they were registered
+ * with.
+ */
+public interface CustomItemHandler {
+    /**
+     * Called when a {@link org.bukkit.entity.Player} interacts with the custom item, physical interactions excluded.
+     *
+     * @param event     the PlayerInteractEvent triggered by the player's interaction
+     * @param itemStack the custom item used
+     */
+    default void onInteract(final PlayerInteractEvent event, final ItemStack itemStack) {}
+
+    /**
+     * Called when a {@link org.bukkit.entity.Player} clicks an inventory slot while holding the custom item on the
+     * cursor.
+     *
+     * @param event  the InventoryClickEvent triggered by the player's inventory click
+     * @param cursor the custom item on the cursor
+     */
+    default void onInventoryClick(final InventoryClickEvent event, final ItemStack cursor) {}
+}
@@ -0,0 +1,209 @@
+package com.mineplex.studio.example.survivalgames.game.mechanic;
+
+import com.mineplex.studio.example.survivalgames.modules.performance.PerformanceModule;
+import com.mineplex.studio.sdk.modules.MineplexModuleManager;
+import com.mineplex.studio.sdk.modules.game.GameState;
+import com.mineplex.studio.sdk.modules.game.MineplexGame;
+import com.mineplex.studio.sdk.modules.game.mechanics.GameMechanic;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.function.Predicate;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.block.Action;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * The {@link CustomItemMechanic} owns the only interact and inventory click listener of all custom {@link ItemStack}
+ * and routes the events to the registered {@link CustomItemHandler}.
+ * <p>
+ * Handlers are registered per {@link Material} with an optional identity tag, a {@link NamespacedKey} the persistent
+ * data of the item has to contain. Events of items without any registered handler exit after a single lookup in the
+ * array backed {@link EnumMap}, the identity tag is only read for items of a registered {@link Material}.
+ * <p>
+ * The listeners are active during all {@link GameState}, handlers check the state they require themselves. Only the
+ * events of {@link Player} passing the {@link this#participantFilter} are routed.
+ */
+@RequiredArgsConstructor
+public class CustomItemMechanic implements GameMechanic<MineplexGame> {
+    /**
+     * The filter deciding which {@link Player} belong to the game.
+     */
+    private final Predicate<Player> participantFilter;
+
+    /**
+     * The registered handlers of every {@link Material}.
+     */
+    private final EnumMap<Material, Route> routes = new EnumMap<>(Material.class);
+
+    /**
+     * Method to be called when this mechanic is set up for a {@link MineplexGame}
+     *
+     * @param game The {@link MineplexGame} setting up this mechanic
+     */
+    @Override
+    public void setup(@NonNull final MineplexGame game) {
+        // Event listener that is listening during all GameStates
+        MineplexModuleManager.getRegisteredModule(PerformanceModule.class).registerEvents(this, game, state -> true);
+    }
+
+    /**
+     * Method to be called when this mechanic is no longer needed by the host {@link MineplexGame}
+     */
+    @Override
+    public void teardown() {
+        HandlerList.unregisterAll(this);
+        this.routes.clear();
+    }
+
+    /**
+     * Registers the {@link CustomItemHandler} for all items of the {@link Material} carrying the identity tag.
+     * Handlers of the same {@link Material} are tested in registration order, the first matching handler is called.
+     *
+     * @param material    the material of the custom item
+     * @param identityKey the key the persistent data of the custom item contains, or {@code null} to match every item
+     *                    of the material
+     * @param handler     the handler to register
+     */
+    public void register(
+            @NonNull final Material material,
+            final NamespacedKey identityKey,
+            @NonNull final CustomItemHandler handler) {
+        this.routes.computeIfAbsent(material, key -> new Route()).add(identityKey, handler);
+    }
+
+    /**
+     * Removes the {@link CustomItemHandler} from all {@link Material} it was registered for.
+     *
+     * @param handler the handler to remove
+     */
+    public void unregister(final CustomItemHandler handler) {
+        this.routes.values().removeIf(route -> route.remove(handler));
+    }
+
+    /**
+     * Returns the {@link CustomItemHandler} responsible for the {@link ItemStack}.
+     *
+     * @param itemStack the item stack
+     * @return the responsible handler, or {@code null} if the item stack is no custom item
+     */
+    private CustomItemHandler resolve(final ItemStack itemStack) {
+        final Route route = this.routes.get(itemStack.getType());
+        if (route == null) {
+            return null;
+        }
+        return route.resolve(itemStack);
+    }
+
+    /**
+     * Method to route {@link org.bukkit.entity.Player} interactions with a custom {@link ItemStack}.
+     *
+     * @param event The PlayerInteractEvent triggered by the player's interaction.
+     */
+    @EventHandler
+    public void onPlayerInteract(final PlayerInteractEvent event) {
+        // Custom items are never used by walking over pressure plates
+        if (event.getAction() == Action.PHYSICAL) {
+            return;
+        }
+
+        final ItemStack itemStack = event.getItem();
+        if (itemStack == null || !this.participantFilter.test(event.getPlayer())) {
+            return;
+        }
+
+        final CustomItemHandler handler = this.resolve(itemStack);
+        if (handler != null) {
+            handler.onInteract(event, itemStack);
+        }
+    }
+
+    /**
+     * Method to route inventory clicks with a custom {@link ItemStack} on the cursor.
+     *
+     * @param event The InventoryClickEvent triggered by the player's inventory click.
+     */
+    @EventHandler
+    public void onInventoryClick(final InventoryClickEvent event) {
+        final ItemStack cursor = event.getCursor();
+        final CustomItemHandler handler = this.resolve(cursor);
+        if (handler != null
+                && event.getWhoClicked() instanceof final Player player
+                && this.participantFilter.test(player)) {
+            handler.onInventoryClick(event, cursor);
+        }
+    }
+
+    /**
+     * The handlers registered for a single {@link Material}.
+     */
+    private static final class Route {
+        /**
+         * The identity tag of every handler, {@code null} matches every item.
+         */
+        private NamespacedKey[] identityKeys = new NamespacedKey[0];
+
+        /**
+         * The handlers, parallel to {@link this#identityKeys}.
+         */
+        private CustomItemHandler[] handlers = new CustomItemHandler[0];
+
+        /**
+         * Adds the handler.
+         *
+         * @param identityKey the identity tag of the handler
+         * @param handler     the handler to add
+         */
+        private void add(final NamespacedKey identityKey, final CustomItemHandler handler) {
+            final int size = this.handlers.length;
+            this.identityKeys = Arrays.copyOf(this.identityKeys, size + 1);
+            this.handlers = Arrays.copyOf(this.handlers, size + 1);
+            this.identityKeys[size] = identityKey;
+            this.handlers[size] = handler;
+        }
+
+        /**
+         * Removes every registration of the handler.
+         *
+         * @param handler the handler to remove
+         * @return {@code true} if no handler is left, {@code false} otherwise
+         */
+        private boolean remove(final CustomItemHandler handler) {
+            int kept = 0;
+            for (int i = 0; i < this.handlers.length; i++) {
+                if (this.handlers[i] != handler) {
+                    this.identityKeys[kept] = this.identityKeys[i];
+                    this.handlers[kept] = this.handlers[i];
+                    kept++;
+                }
+            }
+            this.identityKeys = Arrays.copyOf(this.identityKeys, kept);
+            this.handlers = Arrays.copyOf(this.handlers, kept);
+            return kept == 0;
+        }
+
+        /**
+         * Returns the first handler whose identity tag the item carries.
+         * The persistent data is read through the read-only view and only if a handler requires an identity tag.
+         *
+         * @param itemStack the item stack
+         * @return the matching handler, or {@code null} if no handler matches
+         */
+        private CustomItemHandler resolve(final ItemStack itemStack) {
+            for (int i = 0; i < this.handlers.length; i++) {
+                final NamespacedKey identityKey = this.identityKeys[i];
+                if (identityKey == null || itemStack.getPersistentDataContainer().has(identityKey)) {
+                    return this.handlers[i];
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -1,16 +1,12 @@
 package com.mineplex.studio.example.survivalgames.game.mechanic;
 
-import com.mineplex.studio.sdk.modules.game.GameState;
 import com.mineplex.studio.sdk.modules.game.MineplexGame;
 import com.mineplex.studio.sdk.modules.game.PlayerState;
 import com.mineplex.studio.sdk.modules.game.mechanics.GameMechanic;
-import com.mineplex.studio.sdk.modules.game.mechanics.helper.GameStateListenerHelperMechanic;
 import com.mineplex.studio.sdk.util.MinecraftTimeUnit;
-import com.mineplex.studio.sdk.util.selector.BuiltInGameStateSelector;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.entity.EntityDamageEvent;
 import org.bukkit.potion.PotionEffect;
@@ -19,6 +15,7 @@ import org.bukkit.potion.PotionEffectType;
 /**
  * The DamageGlowMechanic class is responsible for adding a glowing effect to players when they take damage in a game.
  * It implements the GameMechanic interface, which allows it to be used as part of a game.
+ * The damage events of alive players are dispatched to it by the {@link ParticipantEventMechanic}.
  */
 @RequiredArgsConstructor
 public class DamageGlowMechanic implements GameMechanic<MineplexGame> {
@@ -28,13 +25,14 @@ public class DamageGlowMechanic implements GameMechanic<MineplexGame> {
     private static final int GLOW_DURATION_IN_TICKS = (int) MinecraftTimeUnit.SECONDS.toTicks(5);
 
     /**
-     * The {@link MineplexGame} the {@link DamageGlowMechanic} is created from.
+     * The {@link ParticipantEventMechanic} dispatching the damage events of alive {@link Player} to this mechanic.
      */
-    private MineplexGame game;
+    private final ParticipantEventMechanic participantEventMechanic;
+
     /**
-     * The {@link GameStateListenerHelperMechanic} is a helper class to register {@link GameState} based {@link org.bukkit.event.Listener} and {@link org.bukkit.scheduler.BukkitTask}.
+     * The subscribed handler, kept to unsubscribe the same instance.
      */
-    private GameStateListenerHelperMechanic<MineplexGame> stateHelperMechanic;
+    private final ParticipantEventHandler<EntityDamageEvent> damageHandler = this::onDamage;
 
     /**
      * Method to be called when this mechanic is set up for a {@link MineplexGame}
@@ -43,14 +41,8 @@ public class DamageGlowMechanic implements GameMechanic<MineplexGame> {
      */
     @Override
     public void setup(@NonNull final MineplexGame game) {
-        this.game = game;
-
-        //noinspection unchecked
-        this.stateHelperMechanic = game.getGameMechanicFactory().construct(GameStateListenerHelperMechanic.class);
-
-        // Event listener that is listening during the STARTED GameState
-        this.stateHelperMechanic.registerEventListener(this, BuiltInGameStateSelector.inProgress());
-        this.stateHelperMechanic.setup(game);
+        this.participantEventMechanic.subscribe(
+                EntityDamageEvent.class, EventPriority.MONITOR, true, PlayerState::isAlive, this.damageHandler);
     }
 
     /**
@@ -58,27 +50,19 @@ public class DamageGlowMechanic implements GameMechanic<MineplexGame> {
      */
     @Override
     public void teardown() {
-        this.stateHelperMechanic.teardown();
+        this.participantEventMechanic.unsubscribe(this.damageHandler);
     }
 
     /**
      * Method to handle damage events inflicted on {@link Player} during a {@link MineplexGame}.
      * It applies a {@link PotionEffect} on the damaged {@link Player} to make them glow for a certain duration.
      *
-     * @param event The {@link EntityDamageEvent} instance that triggered this method call
+     * @param event   The {@link EntityDamageEvent} instance that triggered this method call
+     * @param context The alive {@link Player} receiving the damage
      */
-    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
-    public void onDamage(final EntityDamageEvent event) {
-        if (!(event.getEntity() instanceof final Player player)) {
-            return;
-        }
-
-        final PlayerState playerState = this.game.getPlayerState(player);
-        if (!playerState.isAlive()) {
-            return;
-        }
-
-        player.addPotionEffect(
-                new PotionEffect(PotionEffectType.GLOWING, GLOW_DURATION_IN_TICKS, 0, false, false, false));
+    public void onDamage(final EntityDamageEvent event, final ParticipantContext context) {
+        context.getPlayer()
+                .addPotionEffect(
+                        new PotionEffect(PotionEffectType.GLOWING, GLOW_DURATION_IN_TICKS, 0, false, false, false));
     }
 }
@@ -1,19 +1,15 @@
 package com.mineplex.studio.example.survivalgames.game.mechanic;
 
-import com.mineplex.studio.sdk.modules.game.GameState;
 import com.mineplex.studio.sdk.modules.game.MineplexGame;
 import com.mineplex.studio.sdk.modules.game.mechanics.GameMechanic;
-import com.mineplex.studio.sdk.modules.game.mechanics.helper.GameStateListenerHelperMechanic;
 import com.mineplex.studio.sdk.util.MinecraftTimeUnit;
-import com.mineplex.studio.sdk.util.selector.BuiltInGameStateSelector;
 import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
 import org.bukkit.Effect;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.block.Action;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.potion.PotionEffect;
@@ -21,16 +17,30 @@ import org.bukkit.potion.PotionEffectType;
 
 /**
  * The {@link HealingSoupMechanic} gives the {@link Player} a temporary {@link PotionEffectType#REGENERATION} when consuming a {@link Material#MUSHROOM_STEW}.
+ * <p>
+ * The stew is routed to this mechanic by the {@link CustomItemMechanic}.
  */
-public class HealingSoupMechanic implements GameMechanic<MineplexGame> {
+@RequiredArgsConstructor
+public class HealingSoupMechanic implements GameMechanic<MineplexGame>, CustomItemHandler {
     /**
-     * The {@link MineplexGame} the {@link HealingSoupMechanic} is created from.
+     * The {@link CustomItemMechanic} routing the {@link Material#MUSHROOM_STEW} interactions to this mechanic.
      */
-    private MineplexGame game;
+    private final CustomItemMechanic customItemMechanic;
+
+    /**
+     * The {@link ParticipantPositions} providing the position of the consuming {@link Player}.
+     */
+    private final ParticipantPositions participantPositions;
+
+    /**
+     * The reused {@link Location} the eating effects are played at.
+     */
+    private final Location effectLocation = new Location(null, 0, 0, 0);
+
     /**
-     * The {@link GameStateListenerHelperMechanic} is a helper class to register {@link GameState} based {@link org.bukkit.event.Listener} and {@link org.bukkit.scheduler.BukkitTask}.
+     * The {@link MineplexGame} the {@link HealingSoupMechanic} is created from.
      */
-    private GameStateListenerHelperMechanic<MineplexGame> stateHelperMechanic;
+    private MineplexGame game;
 
     /**
      * Method to be called when this mechanic is set up for a {@link MineplexGame}
@@ -41,12 +51,8 @@ public class HealingSoupMechanic implements GameMechanic<MineplexGame> {
     public void setup(@NonNull final MineplexGame game) {
         this.game = game;
 
-        //noinspection unchecked
-        this.stateHelperMechanic = game.getGameMechanicFactory().construct(GameStateListenerHelperMechanic.class);
-
-        // Event listener that is listening during the STARTED GameState
-        this.stateHelperMechanic.registerEventListener(this, BuiltInGameStateSelector.inProgress());
-        this.stateHelperMechanic.setup(game);
+        // Every mushroom stew is a healing soup
+        this.customItemMechanic.register(Material.MUSHROOM_STEW, null, this);
     }
 
     /**
@@ -54,24 +60,19 @@ public class HealingSoupMechanic implements GameMechanic<MineplexGame> {
      */
     @Override
     public void teardown() {
-        this.stateHelperMechanic.teardown();
+        this.customItemMechanic.unregister(this);
     }
 
     /**
      * Method to handle {@link Player} interaction with {@link Material#MUSHROOM_STEW}.
      *
-     * @param event The PlayerInteractEvent triggered by the player's interaction.
+     * @param event     The PlayerInteractEvent triggered by the player's interaction.
+     * @param itemStack The {@link Material#MUSHROOM_STEW} used.
      */
-    @EventHandler
-    public void onPlayerInteract(final PlayerInteractEvent event) {
-        // We don't want to trigger the stew when running over pressure plates
-        if (event.getAction() == Action.PHYSICAL) {
-            return;
-        }
-
-        // Check for the correct item
-        final ItemStack itemStack = event.getItem();
-        if (itemStack == null || itemStack.getType() != Material.MUSHROOM_STEW) {
+    @Override
+    public void onInteract(final PlayerInteractEvent event, final ItemStack itemStack) {
+        // The soup only heals while the game is running
+        if (!this.game.getGameState().isInProgress()) {
             return;
         }
 
@@ -85,7 +86,8 @@ public class HealingSoupMechanic implements GameMechanic<MineplexGame> {
         event.setCancelled(true);
 
         // Play sound and eating effects on use
-        final Location effectLocation = player.getLocation().add(0, 1.3, 0);
+        final Location effectLocation =
+                this.participantPositions.getLocation(player, this.effectLocation).add(0, 1.3, 0);
         player.getWorld().playSound(effectLocation, Sound.ENTITY_GENERIC_EAT, 2f, 1f);
         player.getWorld().playEffect(effectLocation, Effect.STEP_SOUND, 39);
         player.getWorld().playEffect(effectLocation, Effect.STEP_SOUND, 40);
@@ -0,0 +1,52 @@
+package com.mineplex.studio.example.survivalgames.game.mechanic;
+
+import com.mineplex.studio.sdk.modules.game.MineplexGame;
+import com.mineplex.studio.sdk.modules.game.PlayerState;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.bukkit.entity.Player;
+
+/**
+ * The game participant an event dispatched by the {@link ParticipantEventMechanic} belongs to.
+ * <p>
+ * Contexts are reused for every event, they are only valid during the {@link ParticipantEventHandler} call and must not
+ * be stored.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class ParticipantContext {
+    /**
+     * The {@link MineplexGame} the participant belongs to.
+     */
+    private final MineplexGame game;
+
+    /**
+     * The {@link Player} the event is about.
+     */
+    private Player player;
+
+    /**
+     * The {@link PlayerState} of the {@link Player} when the event was dispatched.
+     */
+    private PlayerState playerState;
+
+    /**
+     * Points the context to the participant.
+     *
+     * @param player      the player the event is about
+     * @param playerState the state of the player
+     */
+    void set(final Player player, final PlayerState playerState) {
+        this.player = player;
+        this.playerState = playerState;
+    }
+
+    /**
+     * Clears the participant, so the context does not keep the {@link Player} reachable.
+     */
+    void clear() {
+        this.player = null;
+        this.playerState = null;
+    }
+}
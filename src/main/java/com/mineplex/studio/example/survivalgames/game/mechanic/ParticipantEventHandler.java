@@ -0,0 +1,19 @@
+package com.mineplex.studio.example.survivalgames.game.mechanic;
+
+import org.bukkit.event.Event;
+
+/**
+ * Handles an event of a game participant dispatched by the {@link ParticipantEventMechanic}.
+ *
+ * @param <E> the type of the event
+ */
+@FunctionalInterface
+public interface ParticipantEventHandler<E extends Event> {
+    /**
+     * Handles the event.
+     *
+     * @param event   the event
+     * @param context the participant the event is about, only valid during this call
+     */
+    void handle(E event, ParticipantContext context);
+}
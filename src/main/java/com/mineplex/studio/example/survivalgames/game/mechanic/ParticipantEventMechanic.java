@@ -0,0 +1,332 @@
+package com.mineplex.studio.example.survivalgames.game.mechanic;
+
+import com.mineplex.studio.example.survivalgames.modules.performance.PerformanceModule;
+import com.mineplex.studio.sdk.modules.MineplexModuleManager;
+import com.mineplex.studio.sdk.modules.game.GameState;
+import com.mineplex.studio.sdk.modules.game.MineplexGame;
+import com.mineplex.studio.sdk.modules.game.PlayerState;
+import com.mineplex.studio.sdk.modules.game.mechanics.GameMechanic;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Cancellable;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityEvent;
+import org.bukkit.event.player.PlayerEvent;
+import org.bukkit.plugin.EventExecutor;
+import org.bukkit.plugin.java.JavaPlugin;
+
+/**
+ * The {@link ParticipantEventMechanic} dispatches {@link PlayerEvent} and {@link EntityEvent} of game participants to
+ * the {@link ParticipantEventHandler} of the mechanics.
+ * <p>
+ * Only a single Bukkit listener is registered per event type and priority. It resolves the {@link Player} of the event
+ * and its {@link PlayerState} once and only calls the handlers subscribed for that state, passing both in a reused
+ * {@link ParticipantContext}. The handlers of every {@link PlayerState} are resolved once and cached, so handlers no
+ * longer repeat the player state lookup and events of players in other states do not reach them at all.
+ * <p>
+ * Events are only dispatched while the {@link GameState} of the game matches {@link this#activeStates} and only for
+ * {@link Player} passing the {@link this#participantFilter}, so games running next to each other never see the events
+ * of each other.
+ */
+@RequiredArgsConstructor
+public class ParticipantEventMechanic implements GameMechanic<MineplexGame> {
+    /**
+     * The {@link JavaPlugin} the listeners are registered for.
+     */
+    private final JavaPlugin plugin;
+
+    /**
+     * The filter deciding which {@link Player} belong to the game.
+     */
+    private final Predicate<Player> participantFilter;
+
+    /**
+     * The {@link GameState} events are dispatched in.
+     */
+    private final Predicate<GameState> activeStates;
+
+    /**
+     * The {@link Dispatcher} of every event type and priority with at least one subscription.
+     */
+    private final List<Dispatcher<?>> dispatchers = new ArrayList<>();
+
+    /**
+     * The {@link MineplexGame} the participants belong to.
+     */
+    private MineplexGame game;
+
+    /**
+     * The reused {@link ParticipantContext}, one per nesting level of dispatched events.
+     */
+    private ParticipantContext[] contexts = new ParticipantContext[0];
+
+    /**
+     * The number of dispatches currently running, events dispatched by a handler are nested.
+     */
+    private int depth;
+
+    /**
+     * Method to be called when this mechanic is set up for a {@link MineplexGame}
+     *
+     * @param game The {@link MineplexGame} setting up this mechanic
+     */
+    @Override
+    public void setup(@NonNull final MineplexGame game) {
+        this.game = game;
+        this.contexts = new ParticipantContext[] {new ParticipantContext(game)};
+    }
+
+    /**
+     * Method to be called when this mechanic is no longer needed by the host {@link MineplexGame}
+     */
+    @Override
+    public void teardown() {
+        for (final Dispatcher<?> dispatcher : this.dispatchers) {
+            HandlerList.unregisterAll(dispatcher);
+        }
+        this.dispatchers.clear();
+    }
+
+    /**
+     * Subscribes the handler to the events of participants in a matching {@link PlayerState}.
+     * The mechanic has to be set up first.
+     *
+     * @param eventType       the type of the event, a {@link PlayerEvent} or {@link EntityEvent}
+     * @param priority        the priority of the handler
+     * @param ignoreCancelled {@code true} if the handler does not receive cancelled events
+     * @param playerStates    the player states the handler is called for, tested once per {@link PlayerState}
+     * @param handler         the handler
+     * @param <E>             the type of the event
+     */
+    public <E extends Event> void subscribe(
+            @NonNull final Class<E> eventType,
+            @NonNull final EventPriority priority,
+            final boolean ignoreCancelled,
+            @NonNull final Predicate<? super PlayerState> playerStates,
+            @NonNull final ParticipantEventHandler<? super E> handler) {
+        if (!PlayerEvent.class.isAssignableFrom(eventType) && !EntityEvent.class.isAssignableFrom(eventType)) {
+            throw new IllegalArgumentException(eventType.getName() + " is neither a player nor an entity event");
+        }
+
+        this.getDispatcher(eventType, priority).add(new Subscription<>(playerStates, ignoreCancelled, handler));
+    }
+
+    /**
+     * Removes every subscription of the handler.
+     *
+     * @param handler the handler to remove
+     */
+    public void unsubscribe(final ParticipantEventHandler<?> handler) {
+        this.dispatchers.removeIf(dispatcher -> {
+            if (!dispatcher.remove(handler)) {
+                return false;
+            }
+
+            HandlerList.unregisterAll(dispatcher);
+            return true;
+        });
+    }
+
+    /**
+     * Returns the {@link Dispatcher} of the event type and priority, registering a new one if needed.
+     *
+     * @param eventType the type of the event
+     * @param priority  the priority of the handler
+     * @param <E>       the type of the event
+     * @return the dispatcher
+     */
+    @SuppressWarnings("unchecked")
+    private <E extends Event> Dispatcher<E> getDispatcher(final Class<E> eventType, final EventPriority priority) {
+        for (final Dispatcher<?> dispatcher : this.dispatchers) {
+            if (dispatcher.eventType == eventType && dispatcher.priority == priority) {
+                return (Dispatcher<E>) dispatcher;
+            }
+        }
+
+        final Dispatcher<E> dispatcher = new Dispatcher<>(eventType, priority);
+        this.dispatchers.add(dispatcher);
+        final String name = String.format("ParticipantEventMechanic#%s/%s", eventType.getSimpleName(), priority);
+        final EventExecutor executor =
+                MineplexModuleManager.getRegisteredModule(PerformanceModule.class).timed(name, dispatcher);
+        // Cancelled events are filtered per subscription
+        Bukkit.getPluginManager().registerEvent(eventType, dispatcher, priority, executor, this.plugin, false);
+        return dispatcher;
+    }
+
+    /**
+     * Resolves the participant of the event and calls the subscriptions of its {@link PlayerState}.
+     *
+     * @param dispatcher the dispatcher of the event
+     * @param event      the event
+     * @param <E>        the type of the event
+     */
+    private <E extends Event> void dispatch(final Dispatcher<E> dispatcher, final E event) {
+        if (!this.activeStates.test(this.game.getGameState())) {
+            return;
+        }
+
+        final Player player = getPlayer(event);
+        if (player == null || !this.participantFilter.test(player)) {
+            return;
+        }
+
+        final PlayerState playerState = this.game.getPlayerState(player);
+        final Subscription<E>[] subscriptions = dispatcher.getSubscriptions(playerState);
+        if (subscriptions.length == 0) {
+            return;
+        }
+
+        if (this.depth == this.contexts.length) {
+            this.contexts = Arrays.copyOf(this.contexts, this.depth + 1);
+            this.contexts[this.depth] = new ParticipantContext(this.game);
+        }
+        final ParticipantContext context = this.contexts[this.depth++];
+        context.set(player, playerState);
+        try {
+            for (final Subscription<E> subscription : subscriptions) {
+                if (subscription.ignoreCancelled
+                        && event instanceof final Cancellable cancellable
+                        && cancellable.isCancelled()) {
+                    continue;
+                }
+                subscription.handler.handle(event, context);
+            }
+        } finally {
+            context.clear();
+            this.depth--;
+        }
+    }
+
+    /**
+     * Returns the {@link Player} the event is about.
+     *
+     * @param event the event
+     * @return the player, or {@code null} if the event is not about a player
+     */
+    private static Player getPlayer(final Event event) {
+        if (event instanceof final PlayerEvent playerEvent) {
+            return playerEvent.getPlayer();
+        }
+        if (event instanceof final EntityEvent entityEvent && entityEvent.getEntity() instanceof final Player player) {
+            return player;
+        }
+        return null;
+    }
+
+    /**
+     * A handler subscribed to the events of participants in a matching {@link PlayerState}.
+     *
+     * @param playerStates    the player states the handler is called for
+     * @param ignoreCancelled {@code true} if the handler does not receive cancelled events
+     * @param handler         the handler
+     * @param <E>             the type of the event
+     */
+    private record Subscription<E extends Event>(
+            Predicate<? super PlayerState> playerStates,
+            boolean ignoreCancelled,
+            ParticipantEventHandler<? super E> handler) {}
+
+    /**
+     * The Bukkit listener of a single event type and priority.
+     *
+     * @param <E> the type of the event
+     */
+    private final class Dispatcher<E extends Event> implements Listener, EventExecutor {
+        /**
+         * The type of the event.
+         */
+        private final Class<E> eventType;
+
+        /**
+         * The priority the listener is registered with.
+         */
+        private final EventPriority priority;
+
+        /**
+         * The subscriptions of every {@link PlayerState} seen so far, cleared whenever the subscriptions change.
+         */
+        private final Reference2ObjectOpenHashMap<PlayerState, Subscription<E>[]> byState =
+                new Reference2ObjectOpenHashMap<>();
+
+        /**
+         * All subscriptions in subscription order.
+         */
+        private final List<Subscription<E>> subscriptions = new ArrayList<>();
+
+        /**
+         * Constructs a new dispatcher.
+         *
+         * @param eventType the type of the event
+         * @param priority  the priority the listener is registered with
+         */
+        private Dispatcher(final Class<E> eventType, final EventPriority priority) {
+            this.eventType = eventType;
+            this.priority = priority;
+        }
+
+        /**
+         * Adds the subscription.
+         *
+         * @param subscription the subscription to add
+         */
+        private void add(final Subscription<E> subscription) {
+            this.subscriptions.add(subscription);
+            this.byState.clear();
+        }
+
+        /**
+         * Removes every subscription of the handler.
+         *
+         * @param handler the handler to remove
+         * @return {@code true} if no subscription is left, {@code false} otherwise
+         */
+        private boolean remove(final ParticipantEventHandler<?> handler) {
+            if (this.subscriptions.removeIf(subscription -> subscription.handler == handler)) {
+                this.byState.clear();
+            }
+            return this.subscriptions.isEmpty();
+        }
+
+        /**
+         * Returns the subscriptions called for the {@link PlayerState}.
+         *
+         * @param playerState the player state
+         * @return the subscriptions in subscription order
+         */
+        @SuppressWarnings("unchecked")
+        private Subscription<E>[] getSubscriptions(final PlayerState playerState) {
+            Subscription<E>[] matching = this.byState.get(playerState);
+            if (matching == null) {
+                matching = this.subscriptions.stream()
+                        .filter(subscription -> subscription.playerStates.test(playerState))
+                        .toArray(Subscription[]::new);
+                this.byState.put(playerState, matching);
+            }
+            return matching;
+        }
+
+        /**
+         * Executes the dispatch of the event.
+         *
+         * @param listener the listener, always this dispatcher
+         * @param event    the event
+         */
+        @Override
+        public void execute(@NonNull final Listener listener, @NonNull final Event event) {
+            // Bukkit also passes events of other types sharing the handler list
+            if (this.eventType.isInstance(event)) {
+                ParticipantEventMechanic.this.dispatch(this, this.eventType.cast(event));
+            }
+        }
+    }
+}
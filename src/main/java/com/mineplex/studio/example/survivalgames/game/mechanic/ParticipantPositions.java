@@ -0,0 +1,281 @@
+package com.mineplex.studio.example.survivalgames.game.mechanic;
+
+import com.mineplex.studio.example.survivalgames.modules.performance.PerformanceModule;
+import com.mineplex.studio.sdk.modules.MineplexModuleManager;
+import com.mineplex.studio.sdk.modules.game.MineplexGame;
+import com.mineplex.studio.sdk.modules.game.mechanics.GameMechanic;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * The {@link ParticipantPositions} capture the position of every alive {@link Player} once per tick into a
+ * {@link PositionFrame}, so mechanics read positions from primitive arrays instead of allocating a {@link Location} per
+ * {@link Player#getLocation()} call.
+ * <p>
+ * The positions are only captured while at least one consumer {@link this#acquire() acquired} them, e.g. the live
+ * tracking compass. Without a consumer the latest frame is empty and {@link this#getLocation(Player, Location)} reads
+ * the position directly from the {@link Player}.
+ * <p>
+ * The positions are captured by a scheduler task, all players of a frame are read at the same point of the tick.
+ * Players moving later in the same tick are only seen by the next frame, so a frame may lag up to one tick behind.
+ * Two frames are used alternately: while the latest frame is read, the next one is written. Main thread code reads the
+ * latest frame directly through {@link this#getFrame()}. Other threads, e.g. analytics or bots, copy it through
+ * {@link this#copyLatest(PositionFrame)}, which retries until it copied a frame that was not rewritten meanwhile and
+ * never blocks the main thread.
+ */
+@RequiredArgsConstructor
+public class ParticipantPositions implements GameMechanic<MineplexGame> {
+    /**
+     * The {@link AlivePlayerRoster} providing the captured {@link Player}.
+     */
+    private final AlivePlayerRoster alivePlayerRoster;
+
+    /**
+     * The id of every {@link World} a participant was captured in.
+     */
+    private final Reference2IntOpenHashMap<World> worldIds = new Reference2IntOpenHashMap<>();
+
+    /**
+     * The reused {@link Location} the positions are read into.
+     */
+    private final Location location = new Location(null, 0, 0, 0);
+
+    /**
+     * The {@link World} of every world id.
+     */
+    private World[] worlds = new World[1];
+
+    /**
+     * The frame published last.
+     */
+    private volatile PositionFrame front = new PositionFrame();
+
+    /**
+     * The frame written next.
+     */
+    private PositionFrame back = new PositionFrame();
+
+    /**
+     * The {@link Plugin} scheduling the capture task, {@code null} while not set up.
+     */
+    private Plugin plugin;
+
+    /**
+     * The timed capture of the positions, run by the capture task.
+     */
+    private Runnable timedCapture;
+
+    /**
+     * The repeating {@link BukkitTask} capturing the positions, or {@code null} if no consumer acquired them.
+     */
+    private BukkitTask captureTask;
+
+    /**
+     * The number of consumers that acquired the positions.
+     */
+    private int consumers;
+
+    /**
+     * Method to be called when this mechanic is set up for a {@link MineplexGame}
+     *
+     * @param game The {@link MineplexGame} setting up this mechanic
+     */
+    @Override
+    public void setup(@NonNull final MineplexGame game) {
+        this.worldIds.defaultReturnValue(-1);
+        this.plugin = game.getPlugin();
+        this.timedCapture = MineplexModuleManager.getRegisteredModule(PerformanceModule.class)
+                .timed("ParticipantPositions#capture", this::capture);
+
+        // Consumers may have acquired the positions before the setup
+        if (this.consumers > 0) {
+            this.startCapture();
+        }
+    }
+
+    /**
+     * Method to be called when this mechanic is no longer needed by the host {@link MineplexGame}
+     */
+    @Override
+    public void teardown() {
+        this.stopCapture();
+        this.plugin = null;
+        this.worldIds.clear();
+        Arrays.fill(this.worlds, null);
+    }
+
+    /**
+     * Starts capturing the positions every tick if this is the first consumer.
+     * Must only be called on the main thread, every call has to be paired with a {@link this#release()}.
+     */
+    public void acquire() {
+        if (this.consumers++ == 0 && this.plugin != null) {
+            this.startCapture();
+        }
+    }
+
+    /**
+     * Stops capturing the positions once the last consumer released them.
+     * Must only be called on the main thread.
+     */
+    public void release() {
+        if (this.consumers > 0 && --this.consumers == 0) {
+            this.stopCapture();
+        }
+    }
+
+    /**
+     * Returns the latest frame.
+     * Must only be called on the main thread, the frame is rewritten two ticks later.
+     *
+     * @return the latest frame
+     */
+    public PositionFrame getFrame() {
+        return this.front;
+    }
+
+    /**
+     * Returns the {@link World} of the world id.
+     * Must only be called on the main thread.
+     *
+     * @param worldId the world id
+     * @return the world
+     */
+    public World getWorld(final int worldId) {
+        return this.worlds[worldId];
+    }
+
+    /**
+     * Reads the captured position of the {@link Player} into the {@link Location}.
+     * Players that were not captured in the latest frame, e.g. players alive since this tick or all players while no
+     * consumer acquired the positions, are read directly.
+     * Must only be called on the main thread.
+     *
+     * @param player   the player
+     * @param location the location to write the position into
+     * @return the location
+     */
+    public Location getLocation(final Player player, final Location location) {
+        final PositionFrame frame = this.front;
+        final int index = frame.indexOf(player.getEntityId());
+        if (index == -1) {
+            return player.getLocation(location);
+        }
+
+        location.setWorld(this.worlds[frame.getWorldId(index)]);
+        location.set(frame.getX(index), frame.getY(index), frame.getZ(index));
+        return location;
+    }
+
+    /**
+     * Copies the latest frame into the target frame.
+     * Safe to call from any thread, the target frame must not be shared with other threads.
+     *
+     * @param target the frame to copy into
+     * @return the target frame
+     */
+    public PositionFrame copyLatest(final PositionFrame target) {
+        while (true) {
+            final PositionFrame frame = this.front;
+            final long version = frame.version;
+            if ((version & 1) == 0) {
+                target.copyFrom(frame);
+                // The copied values have to be read before the version is checked again
+                VarHandle.acquireFence();
+                if (frame.version == version) {
+                    target.index();
+                    return target;
+                }
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Captures the current positions and starts the repeating capture task.
+     */
+    private void startCapture() {
+        this.capture();
+        this.captureTask = Bukkit.getScheduler().runTaskTimer(this.plugin, this.timedCapture, 1, 1);
+    }
+
+    /**
+     * Stops the capture task and publishes an empty frame, so no stale position is read afterward.
+     */
+    private void stopCapture() {
+        if (this.captureTask == null) {
+            return;
+        }
+
+        this.captureTask.cancel();
+        this.captureTask = null;
+        this.publish(0);
+    }
+
+    /**
+     * Captures the positions of all alive {@link Player} into the back frame and publishes it.
+     */
+    private void capture() {
+        this.publish(this.alivePlayerRoster.aliveCount());
+    }
+
+    /**
+     * Captures the positions of the first {@code aliveCount} alive {@link Player} into the back frame and publishes it.
+     *
+     * @param aliveCount the number of alive players to capture
+     */
+    private void publish(final int aliveCount) {
+        final PositionFrame frame = this.back;
+        final long version = frame.version;
+
+        // Mark the frame as written before any value changes
+        frame.version = version + 1;
+        VarHandle.storeStoreFence();
+
+        frame.reset(Bukkit.getCurrentTick(), aliveCount);
+        for (int i = 0; i < aliveCount; i++) {
+            final Player player = this.alivePlayerRoster.getAlive(i);
+            final Location position = player.getLocation(this.location);
+            frame.add(
+                    player.getEntityId(),
+                    this.worldIdOf(position.getWorld()),
+                    position.getX(),
+                    position.getY(),
+                    position.getZ());
+        }
+        frame.version = version + 2;
+
+        this.back = this.front;
+        this.front = frame;
+    }
+
+    /**
+     * Returns the id of the {@link World}, assigning a new id on first use.
+     *
+     * @param world the world
+     * @return the world id
+     */
+    private int worldIdOf(final World world) {
+        final int worldId = this.worldIds.getInt(world);
+        if (worldId != -1) {
+            return worldId;
+        }
+
+        final int newId = this.worldIds.size();
+        if (newId == this.worlds.length) {
+            this.worlds = Arrays.copyOf(this.worlds, newId * 2);
+        }
+        this.worlds[newId] = world;
+        this.worldIds.put(world, newId);
+        return newId;
+    }
+}
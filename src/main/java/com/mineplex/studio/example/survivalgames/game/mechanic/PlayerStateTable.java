@@ -0,0 +1,319 @@
+package com.mineplex.studio.example.survivalgames.game.mechanic;
+
+import com.mineplex.studio.example.survivalgames.modules.performance.PerformanceModule;
+import com.mineplex.studio.sdk.modules.MineplexModuleManager;
+import com.mineplex.studio.sdk.modules.game.MineplexGame;
+import com.mineplex.studio.sdk.modules.game.PlayerState;
+import com.mineplex.studio.sdk.modules.game.event.PlayerStateChangeEvent;
+import com.mineplex.studio.sdk.modules.game.mechanics.GameMechanic;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
+import lombok.NonNull;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+
+/**
+ * The {@link PlayerStateTable} mirrors the {@link PlayerState} of all participants of a {@link MineplexGame} in
+ * primitive arrays, answering the frequent player state lookups without hashing {@link Player} objects.
+ * <p>
+ * Every participant gets a dense slot, found by its entity id, holding the byte code of its state. The codes index a
+ * small table of all states seen so far. A side index by {@link UUID} keeps the slot of a participant across
+ * reconnects, the new entity id is bound to the old slot on its first lookup.
+ * <p>
+ * The table is updated from {@link PlayerStateChangeEvent#getToState()} at {@link EventPriority#LOWEST}, so the
+ * listeners of every later priority already observe the new state. A listener may still cancel the change afterward,
+ * so the previous state is kept until {@link EventPriority#MONITOR} and restored if the event was cancelled. Players
+ * removed from the game lose their slot through {@link this#remove(Player)}. Players without a slot are unknown to the
+ * table and have to be looked up in the authoritative tracker.
+ */
+public class PlayerStateTable implements GameMechanic<MineplexGame> {
+    /**
+     * The initial capacity of the slot arrays.
+     */
+    private static final int INITIAL_CAPACITY = 32;
+
+    /**
+     * The maximum number of distinct {@link PlayerState}, limited by the byte codes.
+     */
+    private static final int MAX_STATES = Byte.MAX_VALUE + 1;
+
+    /**
+     * The filter deciding which {@link Player} state changes belong to the host {@link MineplexGame}.
+     */
+    private final Predicate<Player> participantFilter;
+
+    /**
+     * The slot of every bound entity id.
+     */
+    private final Int2IntOpenHashMap slotsByEntityId = new Int2IntOpenHashMap(INITIAL_CAPACITY);
+
+    /**
+     * The slot of every participant {@link UUID}, used to rebind reconnected players.
+     */
+    private final Object2IntOpenHashMap<UUID> slotsByUniqueId = new Object2IntOpenHashMap<>(INITIAL_CAPACITY);
+
+    /**
+     * The code of every {@link PlayerState} inside {@link this#states}.
+     */
+    private final Reference2IntOpenHashMap<PlayerState> codesByState = new Reference2IntOpenHashMap<>();
+
+    /**
+     * The previous {@link PlayerState} of every {@link Player} whose state change is being dispatched, {@code null} if
+     * the player had no slot before.
+     */
+    private final Reference2ObjectOpenHashMap<Player, PlayerState> pendingStates = new Reference2ObjectOpenHashMap<>();
+
+    /**
+     * The {@link PlayerState} of every code, only the first {@link this#stateCount} entries are in use.
+     */
+    private PlayerState[] states = new PlayerState[8];
+
+    /**
+     * The number of known {@link PlayerState}.
+     */
+    private int stateCount;
+
+    /**
+     * The entity id bound to every slot.
+     */
+    private int[] entityIds = new int[INITIAL_CAPACITY];
+
+    /**
+     * The {@link UUID} of the participant of every slot.
+     */
+    private UUID[] uniqueIds = new UUID[INITIAL_CAPACITY];
+
+    /**
+     * The state code of every slot.
+     */
+    private byte[] codes = new byte[INITIAL_CAPACITY];
+
+    /**
+     * The number of slots in use.
+     */
+    private int size;
+
+    /**
+     * Constructs a new table.
+     *
+     * @param participantFilter the filter deciding which player state changes belong to the host game
+     */
+    public PlayerStateTable(final Predicate<Player> participantFilter) {
+        this.participantFilter = participantFilter;
+        this.slotsByEntityId.defaultReturnValue(-1);
+        this.slotsByUniqueId.defaultReturnValue(-1);
+        this.codesByState.defaultReturnValue(-1);
+    }
+
+    /**
+     * Method to be called when this mechanic is set up for a {@link MineplexGame}
+     *
+     * @param game The {@link MineplexGame} setting up this mechanic
+     */
+    @Override
+    public void setup(@NonNull final MineplexGame game) {
+        // Copy the states set before the setup
+        for (final Map.Entry<Player, PlayerState> entry : game.getPlayerStates().entrySet()) {
+            if (this.participantFilter.test(entry.getKey())) {
+                this.set(entry.getKey(), entry.getValue());
+            }
+        }
+
+        // Event listener that is listening during all GameStates
+        MineplexModuleManager.getRegisteredModule(PerformanceModule.class).registerEvents(this, game, state -> true);
+    }
+
+    /**
+     * Method to be called when this mechanic is no longer needed by the host {@link MineplexGame}
+     */
+    @Override
+    public void teardown() {
+        HandlerList.unregisterAll(this);
+
+        this.slotsByEntityId.clear();
+        this.slotsByUniqueId.clear();
+        this.codesByState.clear();
+        this.pendingStates.clear();
+        Arrays.fill(this.states, 0, this.stateCount, null);
+        Arrays.fill(this.uniqueIds, 0, this.size, null);
+        this.stateCount = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Returns the {@link PlayerState} of the {@link Player}.
+     *
+     * @param player the player
+     * @return the state of the player, or {@code null} if the player is unknown to the table
+     */
+    public PlayerState getPlayerState(final Player player) {
+        int slot = this.slotsByEntityId.get(player.getEntityId());
+        if (slot == -1) {
+            slot = this.rebind(player);
+            if (slot == -1) {
+                return null;
+            }
+        }
+        return this.states[this.codes[slot]];
+    }
+
+    /**
+     * Removes the slot of the {@link Player}, the last slot is moved into its place to keep the slots dense.
+     *
+     * @param player the player
+     */
+    public void remove(final Player player) {
+        final int slot = this.slotsByUniqueId.removeInt(player.getUniqueId());
+        if (slot == -1) {
+            return;
+        }
+        this.slotsByEntityId.remove(this.entityIds[slot]);
+
+        final int last = --this.size;
+        if (slot != last) {
+            this.entityIds[slot] = this.entityIds[last];
+            this.uniqueIds[slot] = this.uniqueIds[last];
+            this.codes[slot] = this.codes[last];
+            this.slotsByEntityId.put(this.entityIds[slot], slot);
+            this.slotsByUniqueId.put(this.uniqueIds[slot], slot);
+        }
+        this.uniqueIds[last] = null;
+    }
+
+    /**
+     * Returns the number of participants with a slot.
+     *
+     * @return the slot count
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Stores the {@link PlayerState} of the {@link Player}, allocating a slot if needed.
+     *
+     * @param player the player
+     * @param state  the new state of the player
+     */
+    private void set(final Player player, final PlayerState state) {
+        int slot = this.slotsByEntityId.get(player.getEntityId());
+        if (slot == -1) {
+            slot = this.rebind(player);
+        }
+        if (slot == -1) {
+            slot = this.allocate(player);
+        }
+        this.codes[slot] = this.codeOf(state);
+    }
+
+    /**
+     * Binds the entity id of a reconnected {@link Player} to the slot of its {@link UUID}.
+     *
+     * @param player the player
+     * @return the slot of the player, or {@code -1} if the player never had a slot
+     */
+    private int rebind(final Player player) {
+        final int slot = this.slotsByUniqueId.getInt(player.getUniqueId());
+        if (slot == -1) {
+            return -1;
+        }
+
+        this.slotsByEntityId.remove(this.entityIds[slot]);
+        this.entityIds[slot] = player.getEntityId();
+        this.slotsByEntityId.put(player.getEntityId(), slot);
+        return slot;
+    }
+
+    /**
+     * Allocates a new slot for the {@link Player}.
+     *
+     * @param player the player
+     * @return the new slot
+     */
+    private int allocate(final Player player) {
+        if (this.size == this.codes.length) {
+            this.entityIds = Arrays.copyOf(this.entityIds, this.size * 2);
+            this.uniqueIds = Arrays.copyOf(this.uniqueIds, this.size * 2);
+            this.codes = Arrays.copyOf(this.codes, this.size * 2);
+        }
+
+        final int slot = this.size++;
+        this.entityIds[slot] = player.getEntityId();
+        this.uniqueIds[slot] = player.getUniqueId();
+        this.slotsByEntityId.put(player.getEntityId(), slot);
+        this.slotsByUniqueId.put(player.getUniqueId(), slot);
+        return slot;
+    }
+
+    /**
+     * Returns the code of the {@link PlayerState}, assigning a new code on first use.
+     *
+     * @param state the player state
+     * @return the code of the state
+     */
+    private byte codeOf(final PlayerState state) {
+        final int code = this.codesByState.getInt(state);
+        if (code != -1) {
+            return (byte) code;
+        }
+
+        if (this.stateCount == MAX_STATES) {
+            throw new IllegalStateException("More than " + MAX_STATES + " player states are not supported");
+        }
+        if (this.stateCount == this.states.length) {
+            this.states = Arrays.copyOf(this.states, this.stateCount * 2);
+        }
+        this.states[this.stateCount] = state;
+        this.codesByState.put(state, this.stateCount);
+        return (byte) this.stateCount++;
+    }
+
+    /**
+     * Updates the table when the state of a {@link Player} changes, before any other listener handles the change.
+     *
+     * @param event the PlayerStateChangeEvent that triggered the method
+     */
+    @EventHandler(priority = EventPriority.LOWEST, ignoreCancelled = true)
+    public void onPlayerStateChange(final PlayerStateChangeEvent event) {
+        // Ignore state changes of players belonging to another game
+        final Player player = event.getPlayer();
+        if (!this.participantFilter.test(player)) {
+            return;
+        }
+
+        this.pendingStates.put(player, this.getPlayerState(player));
+        this.set(player, event.getToState());
+    }
+
+    /**
+     * Restores the previous state of a {@link Player} if a listener cancelled the state change.
+     *
+     * @param event the PlayerStateChangeEvent that triggered the method
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerStateChangeResult(final PlayerStateChangeEvent event) {
+        final Player player = event.getPlayer();
+        if (!this.pendingStates.containsKey(player)) {
+            return;
+        }
+
+        final PlayerState previous = this.pendingStates.remove(player);
+        if (!event.isCancelled()) {
+            return;
+        }
+
+        if (previous == null) {
+            this.remove(player);
+        } else {
+            this.set(player, previous);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.mineplex.studio.example.survivalgames.game.mechanic;
+
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import java.util.Arrays;
+import lombok.Getter;
+
+/**
+ * The positions of all alive participants captured in a single tick, stored as parallel arrays.
+ * <p>
+ * Frames captured by the {@link ParticipantPositions} are reused two ticks later and must only be read on the main
+ * thread during the tick they were taken from. Other threads read a private copy taken through
+ * {@link ParticipantPositions#copyLatest(PositionFrame)}.
+ */
+public final class PositionFrame {
+    /**
+     * The initial capacity of the arrays.
+     */
+    private static final int INITIAL_CAPACITY = 32;
+
+    /**
+     * The index of every entity id.
+     */
+    private final Int2IntOpenHashMap indexes = new Int2IntOpenHashMap(INITIAL_CAPACITY);
+
+    /**
+     * The write version, odd while the frame is written.
+     */
+    volatile long version;
+
+    /**
+     * The tick the positions were captured in.
+     */
+    @Getter
+    long tick;
+
+    /**
+     * The number of captured participants.
+     */
+    int size;
+
+    /**
+     * The entity id of every participant.
+     */
+    int[] entityIds = new int[INITIAL_CAPACITY];
+
+    /**
+     * The id of the world of every participant, see {@link ParticipantPositions#getWorld(int)}.
+     */
+    int[] worldIds = new int[INITIAL_CAPACITY];
+
+    /**
+     * The x coordinate of every participant.
+     */
+    double[] xs = new double[INITIAL_CAPACITY];
+
+    /**
+     * The y coordinate of every participant.
+     */
+    double[] ys = new double[INITIAL_CAPACITY];
+
+    /**
+     * The z coordinate of every participant.
+     */
+    double[] zs = new double[INITIAL_CAPACITY];
+
+    /**
+     * Constructs an empty frame.
+     */
+    public PositionFrame() {
+        this.indexes.defaultReturnValue(-1);
+    }
+
+    /**
+     * Returns the number of captured participants.
+     *
+     * @return the participant count
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the index of the participant.
+     *
+     * @param entityId the entity id of the participant
+     * @return the index of the participant, or {@code -1} if the participant was not captured
+     */
+    public int indexOf(final int entityId) {
+        return this.indexes.get(entityId);
+    }
+
+    /**
+     * Returns the entity id of the participant.
+     *
+     * @param index the index of the participant
+     * @return the entity id
+     */
+    public int getEntityId(final int index) {
+        return this.entityIds[index];
+    }
+
+    /**
+     * Returns the world id of the participant.
+     *
+     * @param index the index of the participant
+     * @return the world id
+     */
+    public int getWorldId(final int index) {
+        return this.worldIds[index];
+    }
+
+    /**
+     * Returns the x coordinate of the participant.
+     *
+     * @param index the index of the participant
+     * @return the x coordinate
+     */
+    public double getX(final int index) {
+        return this.xs[index];
+    }
+
+    /**
+     * Returns the y coordinate of the participant.
+     *
+     * @param index the index of the participant
+     * @return the y coordinate
+     */
+    public double getY(final int index) {
+        return this.ys[index];
+    }
+
+    /**
+     * Returns the z coordinate of the participant.
+     *
+     * @param index the index of the participant
+     * @return the z coordinate
+     */
+    public double getZ(final int index) {
+        return this.zs[index];
+    }
+
+    /**
+     * Starts a new capture, growing the arrays to the capacity.
+     *
+     * @param tick     the current tick
+     * @param capacity the number of participants to capture
+     */
+    void reset(final long tick, final int capacity) {
+        if (capacity > this.xs.length) {
+            final int length = Math.max(capacity, this.xs.length * 2);
+            this.entityIds = Arrays.copyOf(this.entityIds, length);
+            this.worldIds = Arrays.copyOf(this.worldIds, length);
+            this.xs = Arrays.copyOf(this.xs, length);
+            this.ys = Arrays.copyOf(this.ys, length);
+            this.zs = Arrays.copyOf(this.zs, length);
+        }
+
+        this.tick = tick;
+        this.size = 0;
+        this.indexes.clear();
+    }
+
+    /**
+     * Appends a participant, the arrays have to be large enough.
+     *
+     * @param entityId the entity id of the participant
+     * @param worldId  the world id of the participant
+     * @param x        the x coordinate
+     * @param y        the y coordinate
+     * @param z        the z coordinate
+     */
+    void add(final int entityId, final int worldId, final double x, final double y, final double z) {
+        final int index = this.size++;
+        this.entityIds[index] = entityId;
+        this.worldIds[index] = worldId;
+        this.xs[index] = x;
+        this.ys[index] = y;
+        this.zs[index] = z;
+        this.indexes.put(entityId, index);
+    }
+
+    /**
+     * Copies the positions of the source frame into this frame.
+     * The source may be written concurrently, the copy is only consistent if the version of the source did not change.
+     *
+     * @param source the frame to copy
+     */
+    void copyFrom(final PositionFrame source) {
+        // The arrays of the source may be replaced while copying, never read past any of them
+        final int[] entityIds = source.entityIds;
+        final int[] worldIds = source.worldIds;
+        final double[] xs = source.xs;
+        final double[] ys = source.ys;
+        final double[] zs = source.zs;
+        final int size = Math.min(
+                source.size,
+                Math.min(
+                        Math.min(entityIds.length, worldIds.length),
+                        Math.min(xs.length, Math.min(ys.length, zs.length))));
+
+        this.reset(source.tick, size);
+        System.arraycopy(entityIds, 0, this.entityIds, 0, size);
+        System.arraycopy(worldIds, 0, this.worldIds, 0, size);
+        System.arraycopy(xs, 0, this.xs, 0, size);
+        System.arraycopy(ys, 0, this.ys, 0, size);
+        System.arraycopy(zs, 0, this.zs, 0, size);
+        this.size = size;
+    }
+
+    /**
+     * Rebuilds the entity id index after a copy.
+     */
+    void index() {
+        for (int i = 0; i < this.size; i++) {
+            this.indexes.put(this.entityIds[i], i);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.mineplex.studio.example.survivalgames.game.mechanic;
+
+import java.util.Arrays;
+import java.util.List;
+import lombok.Getter;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.persistence.PersistentDataType;
+
+/**
+ * Creates and reads tracking compass {@link ItemStack}.
+ * <p>
+ * A tracking compass is identified by its use count tag, which every tracking compass carries, including the compasses
+ * stored in the loot type files. Reading the tag goes through the read-only persistent data view of the
+ * {@link ItemStack} and never copies its meta. The compass of every use count is built once and cached as template,
+ * so creating a compass only copies the template.
+ */
+public final class TrackingCompassCodec {
+    /**
+     * Represents the key used for storing and retrieving information about usages of the tracking compass
+     * {@link ItemStack}.
+     */
+    static final NamespacedKey USAGE_KEY = new NamespacedKey("tracking_compass_mechanic", "usages");
+
+    /**
+     * The highest use count whose template is cached, compasses with more uses are built on every call.
+     */
+    private static final int MAX_CACHED_USES = 64;
+
+    /**
+     * The {@link Material} of the tracking compass {@link ItemStack}.
+     */
+    @Getter
+    private final Material material;
+
+    /**
+     * The cached template of every use count, {@code null} until first requested.
+     */
+    private ItemStack[] templates = new ItemStack[8];
+
+    /**
+     * Constructs a new codec.
+     *
+     * @param material the material of the tracking compass
+     */
+    public TrackingCompassCodec(final Material material) {
+        this.material = material;
+    }
+
+    /**
+     * Checks if the {@link ItemStack} is a tracking compass.
+     *
+     * @param itemStack the item stack to check
+     * @return {@code true} if the item stack is a tracking compass, {@code false} otherwise
+     */
+    public boolean isCompass(final ItemStack itemStack) {
+        return itemStack != null
+                && itemStack.getType() == this.material
+                && itemStack.getPersistentDataContainer().has(USAGE_KEY, PersistentDataType.INTEGER);
+    }
+
+    /**
+     * Retrieves the number of uses of a tracking compass.
+     *
+     * @param itemStack the tracking compass
+     * @return the number of uses, or 0 if the item stack is no tracking compass
+     */
+    public int getUses(final ItemStack itemStack) {
+        if (itemStack == null || itemStack.getType() != this.material) {
+            return 0;
+        }
+        return itemStack.getPersistentDataContainer().getOrDefault(USAGE_KEY, PersistentDataType.INTEGER, 0);
+    }
+
+    /**
+     * Creates a tracking compass with the number of uses.
+     *
+     * @param uses the number of uses
+     * @return a new tracking compass
+     */
+    public ItemStack create(final int uses) {
+        return this.template(uses).clone();
+    }
+
+    /**
+     * Returns the cached tracking compass with the number of uses.
+     * The template is shared and must not be modified, it may only be passed to methods copying it, e.g.
+     * {@link org.bukkit.inventory.Inventory#setItem(int, ItemStack)}.
+     *
+     * @param uses the number of uses
+     * @return the shared tracking compass
+     */
+    ItemStack template(final int uses) {
+        if (uses < 0 || uses > MAX_CACHED_USES) {
+            return this.build(uses);
+        }
+
+        if (uses >= this.templates.length) {
+            this.templates = Arrays.copyOf(this.templates, Math.min(MAX_CACHED_USES + 1, uses * 2));
+        }
+        ItemStack template = this.templates[uses];
+        if (template == null) {
+            template = this.build(uses);
+            this.templates[uses] = template;
+        }
+        return template;
+    }
+
+    /**
+     * Builds a tracking compass with the number of uses.
+     *
+     * @param uses the number of uses
+     * @return the built tracking compass
+     */
+    private ItemStack build(final int uses) {
+        final ItemStack itemStack = ItemStack.of(this.material);
+        itemStack.editMeta(itemMeta -> {
+            itemMeta.displayName(TrackingCompassMessageComponent.ITEM_NAME.apply());
+
+            itemMeta.lore(List.of(
+                    TrackingCompassMessageComponent.ITEM_LORE_0.apply(uses),
+                    Component.empty(),
+                    TrackingCompassMessageComponent.ITEM_LORE_1.apply(),
+                    TrackingCompassMessageComponent.ITEM_LORE_2.apply(),
+                    TrackingCompassMessageComponent.ITEM_LORE_3.apply(),
+                    TrackingCompassMessageComponent.ITEM_LORE_4.apply()));
+
+            itemMeta.getPersistentDataContainer().set(USAGE_KEY, PersistentDataType.INTEGER, uses);
+        });
+
+        return itemStack;
+    }
+}
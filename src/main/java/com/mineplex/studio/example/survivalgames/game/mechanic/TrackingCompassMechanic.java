@@ -1,57 +1,114 @@
 package com.mineplex.studio.example.survivalgames.game.mechanic;
 
+import com.mineplex.studio.example.survivalgames.modules.performance.PerformanceModule;
+import com.mineplex.studio.sdk.modules.MineplexModuleManager;
 import com.mineplex.studio.sdk.modules.game.MineplexGame;
+import com.mineplex.studio.sdk.modules.game.event.PlayerStateChangeEvent;
 import com.mineplex.studio.sdk.modules.game.mechanics.GameMechanic;
 import com.mineplex.studio.sdk.util.MinecraftTimeUnit;
 import it.unimi.dsi.fastutil.doubles.DoubleObjectPair;
-import java.util.List;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import java.util.Optional;
 import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
-import net.kyori.adventure.text.Component;
 import org.bukkit.*;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.HandlerList;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
 import org.bukkit.inventory.EquipmentSlot;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.inventory.meta.ItemMeta;
-import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.inventory.PlayerInventory;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
 
 /**
  * The {@link TrackingCompassMechanic} adds a new {@link org.bukkit.inventory.ItemStack} that can be used by the {@link Player} to locate other game participants.
+ * <p>
+ * The alive participants are kept in a {@link ChunkGrid}, updated on every move and state change, so the closest
+ * player is found by searching the chunks around the compass user instead of every player of the world.
+ * <p>
+ * With {@link this#liveTrackingEnabled} the compass no longer reacts to clicks. Instead, the targets of all compass
+ * holders are refreshed in one pass every {@link this#liveUpdateIntervalInTicks} and a use is consumed for every
+ * {@link this#liveUseWindowInTicks} of tracking. The compass target is only sent to the client once the target moved
+ * further than {@link this#liveTargetThreshold} from the last sent position.
  */
 @RequiredArgsConstructor
-public class TrackingCompassMechanic implements GameMechanic<MineplexGame> {
+public class TrackingCompassMechanic implements GameMechanic<MineplexGame>, CustomItemHandler {
     /**
-     * Represents the key used for storing and retrieving information about usages of the tracking compass {@link ItemStack}.
+     * The {@link JavaPlugin} the {@link GameMechanic} is created from.
      */
-    private static final NamespacedKey USAGE_KEY = new NamespacedKey("tracking_compass_mechanic", "usages");
+    private final JavaPlugin plugin;
 
     /**
-     * The {@link JavaPlugin} the {@link GameMechanic} is created from.
+     * The {@link CustomItemMechanic} routing the tracking compass interactions and clicks to this mechanic.
      */
-    private final JavaPlugin plugin;
+    private final CustomItemMechanic customItemMechanic;
+
+    /**
+     * The {@link ParticipantPositions} providing the positions of the live tracking targets.
+     */
+    private final ParticipantPositions participantPositions;
+
+    /**
+     * The filter deciding which {@link Player} belong to the game.
+     */
+    private final Predicate<Player> participantFilter;
+
+    /**
+     * The alive {@link Player} that can be targeted, bucketed by their chunk.
+     */
+    private final ChunkGrid<Player> targets = new ChunkGrid<>();
+
+    /**
+     * The reused {@link Location} the position of the compass user is read into.
+     */
+    private final Location location = new Location(null, 0, 0, 0);
+
+    /**
+     * The reused {@link Location} the position of a live tracking target is read into.
+     */
+    private final Location targetLocation = new Location(null, 0, 0, 0);
+
+    /**
+     * The live tracking state of every {@link Player} that held a compass during the current use window.
+     */
+    private final Reference2ObjectOpenHashMap<Player, LiveTracking> liveTracking = new Reference2ObjectOpenHashMap<>();
+
+    /**
+     * The repeating {@link BukkitTask} refreshing the live compass targets, or {@code null} if live tracking is off.
+     */
+    private BukkitTask liveTask;
 
     /**
      * The {@link MineplexGame} this ability is used in.
      */
     @Getter
+    @Setter(AccessLevel.PACKAGE)
     private MineplexGame game;
 
     /**
      * Represents the {@link Material} of the tracking compass {@link ItemStack}.
      */
     @Getter
-    @Setter
     @NonNull private Material itemMaterial = Material.COMPASS;
 
+    /**
+     * The {@link TrackingCompassCodec} creating and reading the tracking compass {@link ItemStack} of the
+     * {@link this#itemMaterial}.
+     */
+    private TrackingCompassCodec codec = new TrackingCompassCodec(this.itemMaterial);
+
     /**
      * The cooldown of the tracking compass item in ticks.
      */
@@ -67,6 +124,34 @@ public class TrackingCompassMechanic implements GameMechanic<MineplexGame> {
     @Setter
     private BiPredicate<Player, Player> playerToTargetPredicate = null;
 
+    /**
+     * {@code true} if compass holders are tracked continuously instead of on click, read during setup.
+     */
+    @Getter
+    @Setter
+    private boolean liveTrackingEnabled = false;
+
+    /**
+     * The interval between two refreshes of the live compass targets in ticks, read during setup.
+     */
+    @Getter
+    @Setter
+    private int liveUpdateIntervalInTicks = 10;
+
+    /**
+     * The ticks of live tracking a single use of the tracking compass lasts.
+     */
+    @Getter
+    @Setter
+    private int liveUseWindowInTicks = (int) MinecraftTimeUnit.SECONDS.toTicks(10);
+
+    /**
+     * The distance in blocks the target has to move before the compass target is sent again.
+     */
+    @Getter
+    @Setter
+    private double liveTargetThreshold = 4;
+
     /**
      * Method to be called when this mechanic is set up for a {@link MineplexGame}
      *
@@ -76,7 +161,25 @@ public class TrackingCompassMechanic implements GameMechanic<MineplexGame> {
     public void setup(@NonNull final MineplexGame game) {
         this.game = game;
 
-        Bukkit.getPluginManager().registerEvents(this, this.plugin);
+        // Track the players that are alive already
+        for (final Player player : game.getPlayerStates().keySet()) {
+            if (game.getPlayerState(player).isAlive()) {
+                this.track(player);
+            }
+        }
+
+        MineplexModuleManager.getRegisteredModule(PerformanceModule.class).registerEvents(this, game, state -> true);
+        this.customItemMechanic.register(this.itemMaterial, TrackingCompassCodec.USAGE_KEY, this);
+
+        if (this.liveTrackingEnabled) {
+            this.participantPositions.acquire();
+            this.liveTask = Bukkit.getScheduler()
+                    .runTaskTimer(
+                            this.plugin,
+                            this::refreshLiveTargets,
+                            this.liveUpdateIntervalInTicks,
+                            this.liveUpdateIntervalInTicks);
+        }
     }
 
     /**
@@ -85,21 +188,85 @@ public class TrackingCompassMechanic implements GameMechanic<MineplexGame> {
     @Override
     public void teardown() {
         HandlerList.unregisterAll(this);
+        this.customItemMechanic.unregister(this);
+        if (this.liveTask != null) {
+            this.liveTask.cancel();
+            this.liveTask = null;
+            this.participantPositions.release();
+        }
+        this.targets.clear();
+        this.liveTracking.clear();
+    }
+
+    /**
+     * Method to add a {@link Player} of the game to the targets once alive and remove it otherwise.
+     *
+     * @param event The PlayerStateChangeEvent triggered by the state change.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerStateChange(final PlayerStateChangeEvent event) {
+        if (!this.participantFilter.test(event.getPlayer())) {
+            return;
+        }
+
+        if (event.getToState().isAlive()) {
+            this.track(event.getPlayer());
+        } else {
+            this.targets.remove(event.getPlayer());
+            this.liveTracking.remove(event.getPlayer());
+        }
+    }
+
+    /**
+     * Method to move a tracked {@link Player} inside the targets.
+     *
+     * @param event The PlayerMoveEvent triggered by the movement.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerMove(final PlayerMoveEvent event) {
+        this.targets.move(event.getPlayer(), event.getTo().getX(), event.getTo().getZ());
+    }
+
+    /**
+     * Method to move a tracked {@link Player} inside the targets.
+     *
+     * @param event The PlayerTeleportEvent triggered by the teleport.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerTeleport(final PlayerTeleportEvent event) {
+        this.targets.move(event.getPlayer(), event.getTo().getX(), event.getTo().getZ());
+    }
+
+    /**
+     * Method to remove a {@link Player} from the targets once it left.
+     *
+     * @param event The PlayerQuitEvent triggered by the player leaving.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(final PlayerQuitEvent event) {
+        this.targets.remove(event.getPlayer());
+        this.liveTracking.remove(event.getPlayer());
     }
 
     /**
      * Method to handle {@link Player} interaction with compass {@link ItemStack}.
      *
-     * @param event The PlayerInteractEvent triggered by the player's interaction.
+     * @param event     The PlayerInteractEvent triggered by the player's interaction.
+     * @param itemStack The tracking compass used.
      */
-    @EventHandler
-    public void interactCompass(final PlayerInteractEvent event) {
+    @Override
+    public void onInteract(final PlayerInteractEvent event, final ItemStack itemStack) {
         final Player player = event.getPlayer();
         // Check if the player is in state where he can use the item
         if (!this.canUse(player)) {
             return;
         }
 
+        // Live compasses update themselves
+        if (this.liveTrackingEnabled) {
+            return;
+        }
+
         // Only trigger the mechanic on right click
         if (!event.getAction().isRightClick()) {
             return;
@@ -110,19 +277,12 @@ public class TrackingCompassMechanic implements GameMechanic<MineplexGame> {
             return;
         }
 
-        final ItemStack itemStack = event.getItem();
-        // TODO: Improve check. ItemStack::isSimilar(itemStack) is not an option here, since the lore contains the use
-        // count.
-        if (itemStack == null || itemStack.getType() != this.itemMaterial) {
-            return;
-        }
-
         if (player.hasCooldown(this.itemMaterial)) {
             return;
         }
 
         player.setCooldown(this.itemMaterial, this.cooldownInTicks);
-        final int uses = this.getUses(itemStack);
+        final int uses = this.codec.getUses(itemStack);
         this.findClosetPlayer(player)
                 .ifPresentOrElse(
                         target -> {
@@ -136,7 +296,7 @@ public class TrackingCompassMechanic implements GameMechanic<MineplexGame> {
                             if (newUses <= 0) {
                                 newItem = null;
                             } else {
-                                newItem = this.createTrackingCompass(newUses);
+                                newItem = this.codec.template(newUses);
                             }
 
                             player.getInventory().setItem(hand, newItem);
@@ -147,10 +307,11 @@ public class TrackingCompassMechanic implements GameMechanic<MineplexGame> {
     /**
      * Method to handle combining two compasses in the player's inventory.
      *
-     * @param event The InventoryClickEvent triggered by the player's inventory click.
+     * @param event  The InventoryClickEvent triggered by the player's inventory click.
+     * @param cursor The tracking compass on the cursor.
      */
-    @EventHandler
-    public void combineCompasses(final InventoryClickEvent event) {
+    @Override
+    public void onInventoryClick(final InventoryClickEvent event, final ItemStack cursor) {
         if (!(event.getWhoClicked() instanceof final Player player)) {
             return;
         }
@@ -160,21 +321,17 @@ public class TrackingCompassMechanic implements GameMechanic<MineplexGame> {
             return;
         }
 
-        final ItemStack cursor = event.getCursor();
         final ItemStack currentItem = event.getCurrentItem();
 
-        // Verify that both items are valid.
-        if (currentItem == null
-                || cursor.getType() != this.itemMaterial
-                || currentItem.getType() != this.itemMaterial) {
+        // Verify that the clicked item is a tracking compass as well.
+        if (!this.codec.isCompass(currentItem)) {
             return;
         }
 
-        final int usesOne = this.getUses(cursor);
-        final int usesTwo = this.getUses(currentItem);
-        final ItemStack newItemStack = this.createTrackingCompass(usesOne + usesTwo);
+        final int usesOne = this.codec.getUses(cursor);
+        final int usesTwo = this.codec.getUses(currentItem);
 
-        event.setCursor(newItemStack);
+        event.setCursor(this.codec.create(usesOne + usesTwo));
         event.setCurrentItem(null);
 
         TrackingCompassMessageComponent.COMBINE.send(player);
@@ -211,28 +368,99 @@ public class TrackingCompassMechanic implements GameMechanic<MineplexGame> {
      * @param player the player for whom to find the closest player.
      * @return an Optional containing a {@link DoubleObjectPair} representing the distance and the closest player, or an empty Optional if no closest player is found.
      */
-    private Optional<DoubleObjectPair<Player>> findClosetPlayer(final Player player) {
+    Optional<DoubleObjectPair<Player>> findClosetPlayer(final Player player) {
         final BiPredicate<Player, Player> predicate = this.createCombinedPredicate();
+        final World world = player.getWorld();
+        final Location position = player.getLocation(this.location);
+
+        // The predicate is only tested for players closer than the best match
+        final Player target = this.targets.nearest(
+                position.getX(),
+                position.getZ(),
+                other -> other.getWorld() == world && predicate.test(player, other));
+        if (target == null) {
+            return Optional.empty();
+        }
+
+        final double distance = Math.sqrt(this.targets.distanceSquared(target, position.getX(), position.getZ()));
+        return Optional.of(DoubleObjectPair.of(distance, target));
+    }
+
+    /**
+     * Refreshes the compass target of every alive {@link Player} holding a tracking compass in one pass.
+     */
+    private void refreshLiveTargets() {
+        final long tick = Bukkit.getCurrentTick();
+        this.targets.forEach(player -> this.refreshLiveTarget(player, tick));
+    }
+
+    /**
+     * Refreshes the compass target of the {@link Player} if it holds a tracking compass.
+     * A use is consumed whenever a new use window starts.
+     *
+     * @param player the alive player
+     * @param tick   the current tick
+     */
+    private void refreshLiveTarget(final Player player, final long tick) {
+        final PlayerInventory inventory = player.getInventory();
+        final EquipmentSlot hand;
+        final ItemStack mainHand = inventory.getItemInMainHand();
+        final ItemStack compass;
+        if (this.codec.isCompass(mainHand)) {
+            hand = EquipmentSlot.HAND;
+            compass = mainHand;
+        } else {
+            final ItemStack offHand = inventory.getItemInOffHand();
+            if (!this.codec.isCompass(offHand)) {
+                return;
+            }
+            hand = EquipmentSlot.OFF_HAND;
+            compass = offHand;
+        }
 
-        Player target = null;
-        double distance = Double.MAX_VALUE;
-        for (final Player other : player.getWorld().getPlayers()) {
-            if (!predicate.test(player, other)) {
-                continue;
+        LiveTracking tracking = this.liveTracking.get(player);
+        if (tracking == null || tick >= tracking.windowEnd) {
+            final int uses = this.codec.getUses(compass);
+            if (uses <= 0) {
+                return;
             }
 
-            final double playerDistance = player.getLocation().distance(other.getLocation());
-            if (distance > playerDistance) {
-                distance = playerDistance;
-                target = other;
+            inventory.setItem(hand, uses == 1 ? null : this.codec.template(uses - 1));
+            if (tracking == null) {
+                tracking = new LiveTracking();
+                this.liveTracking.put(player, tracking);
             }
+            tracking.windowEnd = tick + this.liveUseWindowInTicks;
         }
 
-        if (target == null) {
-            return Optional.empty();
+        final Optional<DoubleObjectPair<Player>> closest = this.findClosetPlayer(player);
+        if (closest.isEmpty()) {
+            return;
         }
 
-        return Optional.of(DoubleObjectPair.of(distance, target));
+        // Only send the compass target once the target moved noticeably
+        final Location target = this.participantPositions.getLocation(closest.get().right(), this.targetLocation);
+        final double dx = target.getX() - tracking.sentX;
+        final double dz = target.getZ() - tracking.sentZ;
+        if (tracking.sent && dx * dx + dz * dz <= this.liveTargetThreshold * this.liveTargetThreshold) {
+            return;
+        }
+
+        tracking.sent = true;
+        tracking.sentX = target.getX();
+        tracking.sentZ = target.getZ();
+        // The player keeps the compass target, so it must not be the reused location
+        player.setCompassTarget(target.clone());
+    }
+
+    /**
+     * Adds the {@link Player} to the targets at its current position.
+     *
+     * @param player the player to add
+     */
+    void track(final Player player) {
+        final Location position = player.getLocation(this.location);
+        this.targets.put(player, position.getX(), position.getZ());
     }
 
     /**
@@ -246,43 +474,33 @@ public class TrackingCompassMechanic implements GameMechanic<MineplexGame> {
     }
 
     /**
-     * Retrieves the number of uses of a given item stack.
+     * Creates a tracking compass item with the specified number of uses.
      *
-     * @param itemStack the item stack to get the uses from.
-     * @return the number of uses of the item stack, or 0 if the item stack does not have item meta.
+     * @param uses the number of uses for the tracking compass.
+     * @return the created tracking compass item.
      */
-    private int getUses(final ItemStack itemStack) {
-        if (!itemStack.hasItemMeta()) {
-            return 0;
-        }
-
-        final ItemMeta itemMeta = itemStack.getItemMeta();
-        return itemMeta.getPersistentDataContainer().getOrDefault(USAGE_KEY, PersistentDataType.INTEGER, 0);
+    public ItemStack createTrackingCompass(final int uses) {
+        return this.codec.create(uses);
     }
 
     /**
-     * Creates a tracking compass item with the specified number of uses.
+     * Sets the {@link Material} of the tracking compass {@link ItemStack}.
      *
-     * @param uses the number of uses for the tracking compass.
-     * @return the created tracking compass item.
+     * @param itemMaterial the material of the tracking compass
      */
-    public ItemStack createTrackingCompass(final int uses) {
-        final ItemStack itemStack = ItemStack.of(this.itemMaterial);
-        itemStack.editMeta(itemMeta -> {
-            itemMeta.displayName(TrackingCompassMessageComponent.ITEM_NAME.apply());
-
-            itemMeta.lore(List.of(
-                    TrackingCompassMessageComponent.ITEM_LORE_0.apply(uses),
-                    Component.empty(),
-                    TrackingCompassMessageComponent.ITEM_LORE_1.apply(),
-                    TrackingCompassMessageComponent.ITEM_LORE_2.apply(),
-                    TrackingCompassMessageComponent.ITEM_LORE_3.apply(),
-                    TrackingCompassMessageComponent.ITEM_LORE_4.apply()));
-
-            itemMeta.getPersistentDataContainer().set(USAGE_KEY, PersistentDataType.INTEGER, uses);
-        });
-
-        return itemStack;
+    public void setItemMaterial(@NonNull final Material itemMaterial) {
+        if (itemMaterial == this.itemMaterial) {
+            return;
+        }
+
+        this.itemMaterial = itemMaterial;
+        this.codec = new TrackingCompassCodec(itemMaterial);
+
+        // Route the new material once set up
+        if (this.game != null) {
+            this.customItemMechanic.unregister(this);
+            this.customItemMechanic.register(itemMaterial, TrackingCompassCodec.USAGE_KEY, this);
+        }
     }
 
     /**
@@ -294,4 +512,29 @@ public class TrackingCompassMechanic implements GameMechanic<MineplexGame> {
     public void setCooldown(final int cooldown, final MinecraftTimeUnit timeUnit) {
         this.setCooldownInTicks((int) timeUnit.toTicks(cooldown));
     }
+
+    /**
+     * The live tracking state of a single {@link Player}.
+     */
+    private static final class LiveTracking {
+        /**
+         * The tick the current use window ends at.
+         */
+        private long windowEnd;
+
+        /**
+         * {@code true} if a compass target was sent in the current game.
+         */
+        private boolean sent;
+
+        /**
+         * The x coordinate of the last sent compass target.
+         */
+        private double sentX;
+
+        /**
+         * The z coordinate of the last sent compass target.
+         */
+        private double sentZ;
+    }
 }
@@ -0,0 +1,171 @@
+package com.mineplex.studio.example.survivalgames.game.spawn;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.random.RandomGenerator;
+import lombok.Getter;
+import lombok.NonNull;
+import org.bukkit.Location;
+
+/**
+ * The {@link SpawnAllocator} assigns spawn {@link Location} to participants by greedy farthest-point selection.
+ * <p>
+ * The squared distances between all spawns are computed once on construction. Each allocation then picks the unused
+ * spawn that is farthest away from every spawn handed out so far, which only requires a single pass over the spawns.
+ * Once every spawn was handed out the allocator starts a new round, so spawns are only shared if there are more
+ * participants than spawns.
+ */
+public class SpawnAllocator {
+    /**
+     * The spawn {@link Location} this allocator picks from.
+     */
+    @Getter
+    private final List<Location> spawns;
+
+    /**
+     * The {@link RandomGenerator} used to pick the first spawn of every round.
+     */
+    private final RandomGenerator random;
+
+    /**
+     * The row-major matrix of squared distances between all spawns.
+     */
+    private final double[] distances;
+
+    /**
+     * The squared distance of each spawn to the closest spawn picked in the current round.
+     */
+    private final double[] closestPicked;
+
+    /**
+     * Whether a spawn was already picked in the current round.
+     */
+    private final boolean[] picked;
+
+    /**
+     * The number of spawns picked in the current round.
+     */
+    private int pickedCount;
+
+    /**
+     * Constructs a new {@link SpawnAllocator} and precomputes the spawn distance matrix.
+     *
+     * @param spawns the spawn locations to allocate, must not be empty
+     * @param random the random generator used to pick the first spawn of every round
+     */
+    public SpawnAllocator(@NonNull final List<Location> spawns, @NonNull final RandomGenerator random) {
+        if (spawns.isEmpty()) {
+            throw new IllegalArgumentException("At least one spawn location is required");
+        }
+
+        this.spawns = List.copyOf(spawns);
+        this.random = random;
+
+        final int size = this.spawns.size();
+        final double[] xs = new double[size];
+        final double[] ys = new double[size];
+        final double[] zs = new double[size];
+        for (int i = 0; i < size; i++) {
+            final Location spawn = this.spawns.get(i);
+            xs[i] = spawn.getX();
+            ys[i] = spawn.getY();
+            zs[i] = spawn.getZ();
+        }
+
+        // The matrix is symmetric, so we only need to calculate one half of it
+        this.distances = new double[size * size];
+        for (int i = 0; i < size; i++) {
+            for (int j = i + 1; j < size; j++) {
+                final double dx = xs[i] - xs[j];
+                final double dy = ys[i] - ys[j];
+                final double dz = zs[i] - zs[j];
+                final double distanceSquared = dx * dx + dy * dy + dz * dz;
+                this.distances[i * size + j] = distanceSquared;
+                this.distances[j * size + i] = distanceSquared;
+            }
+        }
+
+        this.closestPicked = new double[size];
+        this.picked = new boolean[size];
+        this.resetRound();
+    }
+
+    /**
+     * Resets the picked state, all spawns are available again afterward.
+     */
+    private void resetRound() {
+        Arrays.fill(this.closestPicked, Double.MAX_VALUE);
+        Arrays.fill(this.picked, false);
+        this.pickedCount = 0;
+    }
+
+    /**
+     * Picks the index of the next spawn.
+     * <p>
+     * The first spawn of a round is picked at random, every following spawn is the one with the largest distance to
+     * its closest already picked spawn.
+     *
+     * @return the index of the picked spawn inside {@link this#getSpawns()}
+     */
+    public int nextIndex() {
+        final int size = this.picked.length;
+        if (this.pickedCount == size) {
+            this.resetRound();
+        }
+
+        int best;
+        if (this.pickedCount == 0) {
+            best = this.random.nextInt(size);
+        } else {
+            // Start at a random offset so equally good spawns are not always resolved in the same order
+            final int offset = this.random.nextInt(size);
+            best = -1;
+            double bestDistance = -1;
+            for (int i = 0; i < size; i++) {
+                final int index = (offset + i) % size;
+                if (!this.picked[index] && this.closestPicked[index] > bestDistance) {
+                    best = index;
+                    bestDistance = this.closestPicked[index];
+                }
+            }
+        }
+
+        this.picked[best] = true;
+        this.pickedCount++;
+
+        // Update the closest picked distance of every spawn with the newly picked one
+        final int row = best * size;
+        for (int i = 0; i < size; i++) {
+            final double distanceSquared = this.distances[row + i];
+            if (distanceSquared < this.closestPicked[i]) {
+                this.closestPicked[i] = distanceSquared;
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * Picks the next spawn {@link Location}.
+     *
+     * @return a copy of the picked spawn location that can be safely modified
+     * @see #nextIndex()
+     */
+    public Location next() {
+        return this.spawns.get(this.nextIndex()).clone();
+    }
+
+    /**
+     * Picks the spawn indexes for the given amount of participants in one go.
+     *
+     * @param participants the number of participants to allocate spawns for
+     * @return the picked spawn indexes, one per participant
+     */
+    public int[] allocate(final int participants) {
+        final int[] result = new int[participants];
+        for (int i = 0; i < participants; i++) {
+            result[i] = this.nextIndex();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,278 @@
+package com.mineplex.studio.example.survivalgames.game.start;
+
+import com.mineplex.studio.example.survivalgames.game.SurvivalGames;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * The {@link MatchStartPipeline} moves all participants of a {@link SurvivalGames} into the game world without
+ * stalling the main thread.
+ * <p>
+ * The pipeline runs in three phases:
+ * <ol>
+ *     <li>Preload: all spawn chunks are loaded asynchronously during the PRE_START state and kept loaded until every
+ *     participant arrived.</li>
+ *     <li>Teleport: participants are cleaned up and teleported asynchronously in per-tick batches, limited by
+ *     {@link this#getTickBudgetMillis()}.</li>
+ *     <li>Finish: once every participant arrived the spawn chunks are released and the finish callback is run for
+ *     all of them at once.</li>
+ * </ol>
+ * The duration of every phase is logged once the pipeline is finished.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class MatchStartPipeline {
+    /**
+     * The {@link SurvivalGames} the pipeline is created from.
+     */
+    private final SurvivalGames game;
+
+    /**
+     * The chunk keys of all chunks the pipeline holds a plugin chunk ticket for.
+     */
+    private final LongSet ticketedChunks = new LongOpenHashSet();
+
+    /**
+     * The maximum time in milliseconds the pipeline may spend on teleporting participants per tick.
+     */
+    @Getter
+    @Setter
+    private long tickBudgetMillis = 5;
+
+    /**
+     * The {@link World} the spawn chunks were preloaded in.
+     */
+    private World preloadWorld;
+
+    /**
+     * The future completing once all spawn chunks are loaded.
+     */
+    private CompletableFuture<Void> preloadFuture = CompletableFuture.completedFuture(null);
+
+    /**
+     * The repeating {@link BukkitTask} teleporting the participants.
+     */
+    private BukkitTask teleportTask;
+
+    /**
+     * Whether the pipeline was started.
+     */
+    @Getter
+    private boolean started;
+
+    /**
+     * Whether the spawn chunks were released.
+     */
+    private boolean released;
+
+    /**
+     * Whether the pipeline was torn down.
+     */
+    private boolean torndown;
+
+    // Phase timings in nanoseconds
+    /**
+     * The duration of the chunk preload phase.
+     */
+    private long preloadNanos = -1;
+    /**
+     * The time the teleport phase started.
+     */
+    private long teleportStartNanos;
+    /**
+     * The duration until all teleports were dispatched.
+     */
+    private long dispatchNanos;
+    /**
+     * The number of ticks used to dispatch all teleports.
+     */
+    private int dispatchTicks;
+
+    /**
+     * Loads all chunks of the given spawn {@link Location} asynchronously and keeps them loaded until all participants
+     * arrived or {@link this#teardown()} is called.
+     *
+     * @param spawns the spawn locations to preload
+     */
+    public void preloadChunks(@NonNull final List<Location> spawns) {
+        if (spawns.isEmpty()) {
+            return;
+        }
+
+        final long start = System.nanoTime();
+        final World world = spawns.getFirst().getWorld();
+        final List<CompletableFuture<Chunk>> futures = new ArrayList<>();
+        final LongSet requested = new LongOpenHashSet();
+        for (final Location spawn : spawns) {
+            final int chunkX = spawn.getBlockX() >> 4;
+            final int chunkZ = spawn.getBlockZ() >> 4;
+            if (requested.add(Chunk.getChunkKey(chunkX, chunkZ))) {
+                futures.add(world.getChunkAtAsync(chunkX, chunkZ).thenApply(chunk -> {
+                    // The ticket needs to be added after the load, otherwise the chunk is loaded synchronously
+                    if (!this.released) {
+                        chunk.addPluginChunkTicket(this.game.getPlugin());
+                        this.ticketedChunks.add(chunk.getChunkKey());
+                    }
+                    return chunk;
+                }));
+            }
+        }
+
+        this.preloadWorld = world;
+        this.preloadFuture = CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .whenComplete((ignored, throwable) -> {
+                    this.preloadNanos = System.nanoTime() - start;
+                    if (throwable != null) {
+                        log.warn("Failed to preload spawn chunks", throwable);
+                    } else {
+                        log.debug("Preloaded {} spawn chunks", futures.size());
+                    }
+                });
+    }
+
+    /**
+     * Starts moving the participants to their spawn.
+     *
+     * @param participants the participants to move
+     * @param spawns       the spawn of each participant, in the same order as the participants
+     * @param onFinish     the callback run on the main thread with all participants that are still online once every
+     *                     participant arrived
+     */
+    public void start(
+            @NonNull final List<Player> participants,
+            @NonNull final List<Location> spawns,
+            @NonNull final Consumer<List<Player>> onFinish) {
+        if (participants.size() != spawns.size()) {
+            throw new IllegalArgumentException("Every participant requires a spawn location");
+        }
+        if (this.started) {
+            throw new IllegalStateException("The match start pipeline was already started");
+        }
+        this.started = true;
+
+        if (!this.preloadFuture.isDone()) {
+            log.warn("Spawn chunks are still loading, teleports will wait on the remaining chunks.");
+        }
+
+        this.teleportStartNanos = System.nanoTime();
+        if (participants.isEmpty()) {
+            this.finish(participants, onFinish);
+            return;
+        }
+
+        final List<CompletableFuture<Boolean>> arrivals = new ArrayList<>(participants.size());
+        final long budgetNanos = TimeUnit.MILLISECONDS.toNanos(this.tickBudgetMillis);
+
+        this.teleportTask = Bukkit.getScheduler().runTaskTimer(this.game.getPlugin(), () -> {
+            final long tickStart = System.nanoTime();
+            this.dispatchTicks++;
+
+            // Always move at least one participant per tick to guarantee progress
+            do {
+                final int index = arrivals.size();
+                final Player player = participants.get(index);
+                if (player.isOnline()) {
+                    // Reset hp, reset inventory, effects, etc...
+                    this.game.cleanupPlayer(player);
+                    arrivals.add(player.teleportAsync(spawns.get(index), PlayerTeleportEvent.TeleportCause.PLUGIN));
+                } else {
+                    arrivals.add(CompletableFuture.completedFuture(false));
+                }
+            } while (arrivals.size() < participants.size() && System.nanoTime() - tickStart < budgetNanos);
+
+            if (arrivals.size() < participants.size()) {
+                return;
+            }
+
+            this.dispatchNanos = System.nanoTime() - this.teleportStartNanos;
+            this.teleportTask.cancel();
+            this.teleportTask = null;
+
+            CompletableFuture.allOf(arrivals.toArray(CompletableFuture[]::new))
+                    .whenComplete((ignored, throwable) -> Bukkit.getScheduler()
+                            .runTask(this.game.getPlugin(), () -> this.finish(participants, onFinish)));
+        }, 0, 1);
+    }
+
+    /**
+     * Runs the finish callback and reports the phase timings.
+     *
+     * @param participants the participants that were moved
+     * @param onFinish     the finish callback
+     */
+    private void finish(final List<Player> participants, final Consumer<List<Player>> onFinish) {
+        if (this.torndown) {
+            return;
+        }
+
+        final long arrivalNanos = System.nanoTime() - this.teleportStartNanos;
+        // Every participant stands in its spawn chunk now, the chunks stay loaded through the players
+        this.releaseChunks();
+
+        final List<Player> arrived = new ArrayList<>(participants.size());
+        for (final Player player : participants) {
+            if (player.isOnline()) {
+                arrived.add(player);
+            }
+        }
+
+        final long finishStart = System.nanoTime();
+        onFinish.accept(arrived);
+        final long finishNanos = System.nanoTime() - finishStart;
+
+        log.info(
+                "Match start pipeline finished for {} participants. Preload: {} ms, Dispatch: {} ms over {} ticks, "
+                        + "Arrival: {} ms, Finish: {} ms",
+                arrived.size(),
+                this.preloadNanos < 0 ? "n/a" : TimeUnit.NANOSECONDS.toMillis(this.preloadNanos),
+                TimeUnit.NANOSECONDS.toMillis(this.dispatchNanos),
+                this.dispatchTicks,
+                TimeUnit.NANOSECONDS.toMillis(arrivalNanos),
+                TimeUnit.NANOSECONDS.toMillis(finishNanos));
+    }
+
+    /**
+     * Stops the pipeline and releases all preloaded chunks.
+     */
+    public void teardown() {
+        this.torndown = true;
+
+        if (this.teleportTask != null) {
+            this.teleportTask.cancel();
+            this.teleportTask = null;
+        }
+
+        this.releaseChunks();
+    }
+
+    /**
+     * Removes the plugin chunk tickets of all preloaded chunks.
+     */
+    private void releaseChunks() {
+        this.released = true;
+        if (this.preloadWorld != null) {
+            for (final long chunkKey : this.ticketedChunks) {
+                this.preloadWorld.removePluginChunkTicket(
+                        (int) chunkKey, (int) (chunkKey >> 32), this.game.getPlugin());
+            }
+        }
+        this.ticketedChunks.clear();
+    }
+}
@@ -0,0 +1,30 @@
+package com.mineplex.studio.example.survivalgames.game.world;
+
+import com.mineplex.studio.sdk.modules.game.mechanics.GameWorldSelectorMechanic;
+import com.mineplex.studio.sdk.modules.world.MineplexWorld;
+import lombok.Value;
+
+/**
+ * A {@link MineplexWorld} that was selected and loaded for a game by the {@link MapCatalog}.
+ */
+@Value
+public class LoadedMap {
+    /**
+     * The {@link GameWorldSelectorMechanic} that selected and loaded the {@link MineplexWorld}.
+     */
+    GameWorldSelectorMechanic selector;
+
+    /**
+     * The {@link MapMetadata} of the loaded {@link MineplexWorld}.
+     */
+    MapMetadata metadata;
+
+    /**
+     * Returns the loaded {@link MineplexWorld}.
+     *
+     * @return the loaded world
+     */
+    public MineplexWorld getWorld() {
+        return this.selector.getSelectedGameWorld();
+    }
+}
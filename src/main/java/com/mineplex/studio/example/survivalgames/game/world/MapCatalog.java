@@ -0,0 +1,199 @@
+package com.mineplex.studio.example.survivalgames.game.world;
+
+import com.mineplex.studio.sdk.modules.MineplexModuleManager;
+import com.mineplex.studio.sdk.modules.game.MineplexGame;
+import com.mineplex.studio.sdk.modules.game.MineplexGameMechanicFactory;
+import com.mineplex.studio.sdk.modules.game.mechanics.GameWorldSelectorMechanic;
+import com.mineplex.studio.sdk.modules.world.MineplexWorld;
+import com.mineplex.studio.sdk.modules.world.MineplexWorldModule;
+import com.mineplex.studio.sdk.modules.world.config.MineplexWorldConfig;
+import com.mineplex.studio.sdk.modules.world.config.WorldCreationConfig;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.java.JavaPlugin;
+
+/**
+ * The {@link MapCatalog} lists the world templates that can be played and caches the {@link MapMetadata} of every
+ * world template across all game cycles and arenas.
+ * <p>
+ * The data points of a {@link MineplexWorld} can only be read from a loaded world, so {@link this#warm(Executor)}
+ * creates a world of every template on the main thread, scans the data points of all of them in parallel and releases
+ * the worlds again. Games then take the {@link MapMetadata} of their template from the cache instead of scanning the
+ * data points during their setup.
+ * <p>
+ * Every game loads its map with {@link this#load(MineplexGame)} through its own {@link GameWorldSelectorMechanic},
+ * restricted to a template picked by this catalog, so the {@link MapMetadata} is taken from the cache by template name.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class MapCatalog {
+    /**
+     * The directory containing the world templates.
+     */
+    private static final Path TEMPLATE_DIRECTORY = Path.of("assets", "world-templates");
+
+    /**
+     * The file extension of the world templates.
+     */
+    private static final String TEMPLATE_EXTENSION = ".zip";
+
+    /**
+     * The {@link JavaPlugin} the release of the analysed worlds is scheduled for.
+     */
+    private final JavaPlugin plugin;
+
+    /**
+     * The {@link MineplexWorldModule} manages the creation and release of {@link MineplexWorld}.
+     */
+    private final MineplexWorldModule worldModule =
+            MineplexModuleManager.getRegisteredModule(MineplexWorldModule.class);
+
+    /**
+     * The {@link MineplexGameMechanicFactory} is responsible for constructing the {@link GameWorldSelectorMechanic}.
+     */
+    private final MineplexGameMechanicFactory gameMechanicFactory =
+            MineplexModuleManager.getRegisteredModule(MineplexGameMechanicFactory.class);
+
+    /**
+     * The cached {@link MapMetadata} by world template name.
+     */
+    private final Map<String, MapMetadata> metadataCache = new ConcurrentHashMap<>();
+
+    /**
+     * The filter deciding which world templates can be selected as a game map.
+     */
+    @Getter
+    @Setter
+    @NonNull private Predicate<String> filter = name -> !"lobby".equalsIgnoreCase(name);
+
+    /**
+     * Lists all world templates that pass the {@link this#filter}.
+     *
+     * @return the names of the available world templates
+     */
+    public List<String> getAvailableTemplates() {
+        if (!Files.isDirectory(TEMPLATE_DIRECTORY)) {
+            return List.of();
+        }
+
+        try (final Stream<Path> files = Files.list(TEMPLATE_DIRECTORY)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.toLowerCase(Locale.ENGLISH).endsWith(TEMPLATE_EXTENSION))
+                    .map(name -> name.substring(0, name.length() - TEMPLATE_EXTENSION.length()))
+                    .filter(this.filter)
+                    .sorted()
+                    .toList();
+        } catch (final IOException e) {
+            log.error("Failed to list world templates!", e);
+            return List.of();
+        }
+    }
+
+    /**
+     * Returns the cached {@link MapMetadata} of the world template, analysing the {@link MineplexWorld} on a miss.
+     *
+     * @param templateName the name of the world template the world was created from
+     * @param world        the world to analyse if the template was not analysed yet
+     * @return the metadata of the world template
+     */
+    public MapMetadata getMetadata(@NonNull final String templateName, @NonNull final MineplexWorld world) {
+        return this.metadataCache.computeIfAbsent(templateName, name -> MapMetadata.analyse(name, world));
+    }
+
+    /**
+     * Picks and loads a map for the game through a new {@link GameWorldSelectorMechanic} set up with the game.
+     * <p>
+     * The template is picked from the available templates and the selector is restricted to it, so the
+     * {@link MapMetadata} is shared by all games of the template. If no template can be listed, the selector picks
+     * from all templates passing the {@link this#filter} and the unknown template is analysed uncached.
+     *
+     * @param game the game the map is loaded for and the {@link GameWorldSelectorMechanic} is set up with
+     * @return the loaded map
+     */
+    public LoadedMap load(@NonNull final MineplexGame game) {
+        final List<String> templates = this.getAvailableTemplates();
+        final String template =
+                templates.isEmpty() ? null : templates.get(ThreadLocalRandom.current().nextInt(templates.size()));
+
+        final GameWorldSelectorMechanic selector = this.gameMechanicFactory.construct(GameWorldSelectorMechanic.class);
+        selector.setFilter(template == null ? this.filter : template::equals);
+        selector.setup(game);
+
+        final MineplexWorld world = selector.getSelectedGameWorld();
+        final MapMetadata metadata = template == null
+                ? MapMetadata.analyse(world.getMinecraftWorld().getName(), world)
+                : this.getMetadata(template, world);
+        return new LoadedMap(selector, metadata);
+    }
+
+    /**
+     * Releases a map loaded by this catalog.
+     *
+     * @param map the map to release
+     */
+    public void release(@NonNull final LoadedMap map) {
+        map.getSelector().teardown();
+    }
+
+    /**
+     * Analyses every available world template that is not cached yet.
+     * The worlds are created on the calling main thread, their data points are scanned in parallel on the executor and
+     * the worlds are released on the main thread once their scan completed.
+     *
+     * @param executor the executor scanning the data points
+     * @return a future completed once every template was analysed
+     */
+    public CompletableFuture<Void> warm(@NonNull final Executor executor) {
+        final long start = System.nanoTime();
+        final List<CompletableFuture<MapMetadata>> analyses = new ArrayList<>();
+        for (final String template : this.getAvailableTemplates()) {
+            if (this.metadataCache.containsKey(template)) {
+                continue;
+            }
+
+            final MineplexWorld world;
+            try {
+                world = this.worldModule.createMineplexWorld(
+                        MineplexWorldConfig.builder()
+                                .worldCreationConfig(WorldCreationConfig.builder()
+                                        .worldTemplate(template)
+                                        .build())
+                                .build(),
+                        null);
+            } catch (final RuntimeException e) {
+                log.warn("Failed to load world template {} for its analysis", template, e);
+                continue;
+            }
+
+            analyses.add(CompletableFuture.supplyAsync(() -> this.getMetadata(template, world), executor)
+                    .whenComplete((metadata, throwable) -> {
+                        if (throwable != null) {
+                            log.warn("Failed to analyse world template {}", template, throwable);
+                        }
+                        Bukkit.getScheduler().runTask(this.plugin, () -> this.worldModule.releaseWorld(world));
+                    }));
+        }
+
+        final int templates = analyses.size();
+        return CompletableFuture.allOf(analyses.toArray(CompletableFuture[]::new))
+                .whenComplete((ignored, throwable) -> log.info(
+                        "Analysed {} world templates in {} ms", templates, (System.nanoTime() - start) / 1_000_000));
+    }
+}
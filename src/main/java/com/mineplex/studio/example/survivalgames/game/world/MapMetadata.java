@@ -0,0 +1,237 @@
+package com.mineplex.studio.example.survivalgames.game.world;
+
+import com.mineplex.studio.sdk.modules.world.MineplexWorld;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.util.Vector;
+
+/**
+ * An immutable snapshot of all data points of a map that are required to set up a game.
+ * <p>
+ * The data points of a {@link MineplexWorld} are scanned through {@link this#analyse(String, MineplexWorld)} once per
+ * world template and cached by the {@link MapCatalog}. Positions are stored independent of any {@link World}, so the
+ * same snapshot is bound to every world created from the same world template.
+ */
+@Slf4j
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class MapMetadata {
+    /**
+     * The key for the {@link MineplexWorld} center data points.
+     */
+    public static final String CENTER_KEY = "CENTER";
+
+    /**
+     * The key for the {@link MineplexWorld} spawn data points.
+     */
+    public static final String SPAWN_KEY = "SPAWN";
+
+    /**
+     * The key for the {@link MineplexWorld} border data points.
+     */
+    public static final String BORDER_KEY = "WORLD_BORDER";
+
+    /**
+     * The keys for the {@link MineplexWorld} loot container data points.
+     */
+    public static final List<String> LOOT_KEYS = List.of("TIER-1", "TIER-2");
+
+    /**
+     * The fallback center position if no data point was found.
+     */
+    private static final Vector FALLBACK_CENTER = new Vector(0, 0, 0);
+
+    /**
+     * The fallback initial border size if no data point was found.
+     */
+    private static final int FALLBACK_BORDER_SIZE = 256;
+
+    /**
+     * The name of the map this snapshot was created from.
+     */
+    private final String mapName;
+
+    /**
+     * The center position of the map.
+     */
+    @Getter(AccessLevel.NONE)
+    private final Vector center;
+
+    /**
+     * The spawn positions of the map.
+     */
+    @Getter(AccessLevel.NONE)
+    private final List<Vector> spawns;
+
+    /**
+     * The initial border size, twice the longest axis distance between the center and a border data point.
+     */
+    private final double borderSize;
+
+    /**
+     * The loot container positions of the map by data point key.
+     */
+    @Getter(AccessLevel.NONE)
+    private final Map<String, List<Vector>> lootLocations;
+
+    /**
+     * The keys of all chunks containing at least one data point.
+     */
+    @Getter(AccessLevel.NONE)
+    private final long[] chunkFootprint;
+
+    /**
+     * Scans the data points of the {@link MineplexWorld} into a new snapshot.
+     *
+     * @param mapName the name of the map
+     * @param world   the world to scan
+     * @return the created snapshot
+     */
+    public static MapMetadata analyse(@NonNull final String mapName, @NonNull final MineplexWorld world) {
+        final long start = System.nanoTime();
+        final LongSet chunks = new LongLinkedOpenHashSet();
+
+        final List<Location> centers = world.getDataPoints(CENTER_KEY);
+        final Vector center;
+        if (centers.isEmpty()) {
+            log.warn("Missing {} data point key on {}, falling back to fallback value.", CENTER_KEY, mapName);
+            center = FALLBACK_CENTER.clone();
+        } else {
+            center = centers.getFirst().toVector();
+        }
+        addChunk(chunks, center);
+
+        final List<Vector> spawns = toVectors(world.getDataPoints(SPAWN_KEY), chunks);
+        if (spawns.isEmpty()) {
+            log.warn("Missing {} data point key on {}.", SPAWN_KEY, mapName);
+        }
+
+        final double borderSize;
+        final List<Location> borders = world.getDataPoints(BORDER_KEY);
+        if (borders.isEmpty()) {
+            log.warn("Missing {} data point key on {}, falling back to fallback value.", BORDER_KEY, mapName);
+            borderSize = FALLBACK_BORDER_SIZE;
+        } else {
+            double longestDistance = Long.MIN_VALUE;
+            for (final Location location : borders) {
+                longestDistance = Math.max(longestDistance, Math.abs(location.getX() - center.getX()));
+                longestDistance = Math.max(longestDistance, Math.abs(location.getZ() - center.getZ()));
+            }
+            borderSize = longestDistance * 2;
+        }
+
+        final Map<String, List<Vector>> lootLocations = new HashMap<>();
+        for (final String key : LOOT_KEYS) {
+            lootLocations.put(key, toVectors(world.getDataPoints(key), chunks));
+        }
+
+        final MapMetadata metadata = new MapMetadata(
+                mapName, center, spawns, borderSize, Map.copyOf(lootLocations), chunks.toLongArray());
+        log.info(
+                "Analysed map {} in {} ms: {} spawns, {} chunks",
+                mapName,
+                (System.nanoTime() - start) / 1_000_000,
+                spawns.size(),
+                metadata.chunkFootprint.length);
+        return metadata;
+    }
+
+    /**
+     * Converts the {@link Location} to world independent positions and records their chunks.
+     *
+     * @param locations the locations to convert
+     * @param chunks    the chunk keys to add the chunks of the locations to
+     * @return an immutable list of the positions
+     */
+    private static List<Vector> toVectors(final Collection<Location> locations, final LongSet chunks) {
+        final List<Vector> vectors = new ArrayList<>(locations.size());
+        for (final Location location : locations) {
+            final Vector vector = location.toVector();
+            vectors.add(vector);
+            addChunk(chunks, vector);
+        }
+        return List.copyOf(vectors);
+    }
+
+    /**
+     * Adds the key of the chunk containing the position.
+     *
+     * @param chunks   the chunk keys
+     * @param position the position
+     */
+    private static void addChunk(final LongSet chunks, final Vector position) {
+        chunks.add(Chunk.getChunkKey(position.getBlockX() >> 4, position.getBlockZ() >> 4));
+    }
+
+    /**
+     * Binds the positions to a {@link World}.
+     *
+     * @param vectors the positions to bind
+     * @param world   the world to bind to
+     * @return a new list of locations that can be safely modified
+     */
+    private static List<Location> toLocations(final List<Vector> vectors, final World world) {
+        final List<Location> locations = new ArrayList<>(vectors.size());
+        for (final Vector vector : vectors) {
+            locations.add(vector.toLocation(world));
+        }
+        return locations;
+    }
+
+    /**
+     * Returns the center of the map inside the {@link World}.
+     *
+     * @param world the world to bind the center to
+     * @return a new center location
+     */
+    public Location getCenter(final World world) {
+        return this.center.toLocation(world);
+    }
+
+    /**
+     * Returns the spawns of the map inside the {@link World}.
+     *
+     * @param world the world to bind the spawns to
+     * @return a new list of spawn locations
+     */
+    public List<Location> getSpawns(final World world) {
+        return toLocations(this.spawns, world);
+    }
+
+    /**
+     * Returns the loot container locations with the data point key inside the {@link World}.
+     *
+     * @param key   the loot data point key, one of {@link this#LOOT_KEYS}
+     * @param world the world to bind the locations to
+     * @return a new list of loot container locations
+     */
+    public List<Location> getLootLocations(final String key, final World world) {
+        final List<Vector> vectors = this.lootLocations.get(key);
+        if (vectors == null) {
+            throw new IllegalArgumentException("Unknown loot data point key " + key);
+        }
+        return toLocations(vectors, world);
+    }
+
+    /**
+     * Returns the keys of all chunks containing at least one data point.
+     *
+     * @return a copy of the chunk keys
+     */
+    public long[] getChunkFootprint() {
+        return this.chunkFootprint.clone();
+    }
+}
@@ -0,0 +1,189 @@
+package com.mineplex.studio.example.survivalgames.modules.arena;
+
+import com.mineplex.studio.example.survivalgames.game.SurvivalGames;
+import com.mineplex.studio.example.survivalgames.game.cycle.GameCyclePipeline;
+import com.mineplex.studio.sdk.modules.game.GameState;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bukkit.entity.Player;
+
+/**
+ * An {@link Arena} runs {@link SurvivalGames} for its own partition of {@link Player}, independent of all other arenas.
+ * Every game of an arena has its own world and mechanic set, the arena members stay assigned across games.
+ * <p>
+ * The members and the current game are read by the chat renderer off the main thread and are safe to read from any
+ * thread.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class Arena {
+    /**
+     * The {@link ArenaModule} managing this arena.
+     */
+    private final ArenaModule module;
+
+    /**
+     * The unique id of this arena.
+     */
+    @Getter
+    private final int id;
+
+    /**
+     * The {@link GameCyclePipeline} preparing the next game of this arena while the current game is ending.
+     */
+    private final GameCyclePipeline cyclePipeline;
+
+    /**
+     * The {@link Player} assigned to this arena.
+     */
+    private final Set<Player> members = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The currently running game of this arena.
+     */
+    @Getter
+    private volatile SurvivalGames game;
+
+    /**
+     * Returns an unmodifiable view of the {@link Player} assigned to this arena.
+     *
+     * @return the arena members
+     */
+    public Set<Player> getMembers() {
+        return Collections.unmodifiableSet(this.members);
+    }
+
+    /**
+     * Returns the number of {@link Player} assigned to this arena.
+     *
+     * @return the member count
+     */
+    public int getMemberCount() {
+        return this.members.size();
+    }
+
+    /**
+     * Checks if the {@link Player} is assigned to this arena.
+     *
+     * @param player the player to check
+     * @return {@code true} if the player is a member, {@code false} otherwise
+     */
+    public boolean isMember(final Player player) {
+        return this.members.contains(player);
+    }
+
+    /**
+     * Checks if new {@link Player} can join the current game as participants.
+     *
+     * @return {@code true} if the current game has not started moving its participants yet, {@code false} otherwise
+     */
+    public boolean isAcceptingPlayers() {
+        if (this.game == null) {
+            return false;
+        }
+
+        final GameState state = this.game.getGameState();
+        return !state.isInProgress()
+                && !state.isEnded()
+                && !this.game.getStartPipeline().isStarted();
+    }
+
+    /**
+     * Adds the {@link Player} to the current game if it still accepts players and the player is not alive in it yet.
+     *
+     * @param player the player to add, has to be a member of this arena
+     */
+    void join(final Player player) {
+        if (this.isAcceptingPlayers() && !this.game.getPlayerState(player).isAlive()) {
+            this.game.addPlayer(player, true);
+        }
+    }
+
+    /**
+     * Assigns the {@link Player} to this arena.
+     *
+     * @param player the player to assign
+     */
+    void addMember(final Player player) {
+        this.members.add(player);
+    }
+
+    /**
+     * Removes the {@link Player} from this arena.
+     *
+     * @param player the player to remove
+     */
+    void removeMember(final Player player) {
+        this.members.remove(player);
+    }
+
+    /**
+     * Creates a new game of this arena, used as the game factory of the {@link GameCyclePipeline}.
+     *
+     * @return the created game
+     */
+    SurvivalGames createGame() {
+        final SurvivalGames game =
+                new SurvivalGames(this.module.getPlugin(), this.module.getMapCatalog(), this.cyclePipeline);
+        game.setParticipantFilter(this::isMember);
+        // The GameCyclePipeline runs the starter after the handover, outside the game state change of the ended game
+        game.setNextGameStarter(this::cycle);
+        return game;
+    }
+
+    /**
+     * Sets up the next game of this arena, preferring the game the {@link GameCyclePipeline} prepared with its map.
+     */
+    void startNextGame() {
+        final SurvivalGames next = this.cyclePipeline.nextGame();
+
+        this.game = next;
+        next.setup();
+        log.info("Arena {} started a new game with {} members", this.id, this.members.size());
+    }
+
+    /**
+     * Stops the current game and starts the next game of this arena, or closes this arena if it is no longer needed.
+     */
+    public void restart() {
+        this.cycle();
+    }
+
+    /**
+     * Tears down the ended game and either starts the next game or closes this arena.
+     */
+    void cycle() {
+        this.stopGame();
+
+        if (this.module.shouldClose(this)) {
+            this.cyclePipeline.teardown();
+            this.module.close(this);
+            return;
+        }
+
+        this.startNextGame();
+    }
+
+    /**
+     * Tears down the current game of this arena.
+     */
+    void stopGame() {
+        this.cyclePipeline.cancelHandover();
+        if (this.game != null) {
+            this.game.teardown();
+            this.game = null;
+        }
+    }
+
+    /**
+     * Tears down the current game and releases the ended games and the prepared next game of this arena.
+     */
+    void shutdown() {
+        this.stopGame();
+        this.cyclePipeline.teardown();
+    }
+}
@@ -0,0 +1,259 @@
+package com.mineplex.studio.example.survivalgames.modules.arena;
+
+import com.mineplex.studio.example.survivalgames.game.SurvivalGames;
+import com.mineplex.studio.example.survivalgames.game.cycle.GameCyclePipeline;
+import com.mineplex.studio.example.survivalgames.game.loot.LootCatalog;
+import com.mineplex.studio.example.survivalgames.game.world.MapCatalog;
+import com.mineplex.studio.sdk.modules.MineplexModule;
+import com.mineplex.studio.sdk.modules.MineplexModuleImplementation;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.java.JavaPlugin;
+
+/**
+ * A {@link MineplexModule} running several {@link SurvivalGames} concurrently, each inside its own {@link Arena}.
+ * <p>
+ * Joining {@link Player} are placed into the least loaded arena that still accepts players. If every arena is full or
+ * already running, a new arena is opened as long as the server stays below {@link this#getMsptCeiling()} and
+ * {@link this#getMaxArenas()} is not reached. Arenas above {@link this#getMinArenas()} are closed once their game ended
+ * without any members left.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@MineplexModuleImplementation(ArenaModule.class)
+public class ArenaModule implements MineplexModule, Listener {
+    /**
+     * The {@link JavaPlugin} the {@link MineplexModule} is created from.
+     */
+    @Getter(AccessLevel.PACKAGE)
+    private final JavaPlugin plugin;
+
+    /**
+     * The {@link LootCatalog} shared by the games of all arenas.
+     */
+    private final LootCatalog lootCatalog;
+
+    /**
+     * The {@link MapCatalog} shared by the games of all arenas.
+     */
+    @Getter(AccessLevel.PACKAGE)
+    private final MapCatalog mapCatalog;
+
+    /**
+     * All open arenas, read by the chat renderer off the main thread.
+     */
+    private final List<Arena> arenas = new CopyOnWriteArrayList<>();
+
+    /**
+     * The number of arenas that are always kept open.
+     */
+    @Getter
+    @Setter
+    private int minArenas = 1;
+
+    /**
+     * The maximum number of arenas that can be open at the same time.
+     */
+    @Getter
+    @Setter
+    private int maxArenas = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * The number of {@link Player} an arena is filled with before another arena is preferred.
+     */
+    @Getter
+    @Setter
+    private int arenaCapacity = 24;
+
+    /**
+     * The average milliseconds per tick above which no additional arena is opened.
+     */
+    @Getter
+    @Setter
+    private double msptCeiling = 40;
+
+    /**
+     * The id of the next opened arena.
+     */
+    private int nextArenaId;
+
+    /**
+     * Method called to allocate any additional resources this module uses
+     */
+    @Override
+    public void setup() {
+        Bukkit.getPluginManager().registerEvents(this, this.plugin);
+
+        for (int i = 0; i < this.minArenas; i++) {
+            this.open(null);
+        }
+
+        // Assign all players that are already online, joining players are added by the game listeners
+        for (final Player player : Bukkit.getOnlinePlayers()) {
+            this.place(player).join(player);
+        }
+    }
+
+    /**
+     * Method called to release and cleanup any additional resources this module uses
+     */
+    @Override
+    public void teardown() {
+        HandlerList.unregisterAll(this);
+
+        for (final Arena arena : this.arenas) {
+            arena.shutdown();
+        }
+        this.arenas.clear();
+    }
+
+    /**
+     * Returns an unmodifiable view of all open arenas.
+     *
+     * @return the open arenas
+     */
+    public List<Arena> getArenas() {
+        return Collections.unmodifiableList(this.arenas);
+    }
+
+    /**
+     * Returns the {@link Arena} the {@link Player} is assigned to.
+     *
+     * @param player the player to look up
+     * @return the arena of the player, or an empty optional if the player is not assigned to any arena
+     */
+    public Optional<Arena> getArena(final Player player) {
+        for (final Arena arena : this.arenas) {
+            if (arena.isMember(player)) {
+                return Optional.of(arena);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the game of the {@link Arena} the {@link Player} is assigned to.
+     *
+     * @param player the player to look up
+     * @return the game of the player, or an empty optional if the player is not assigned to any running game
+     */
+    public Optional<SurvivalGames> getGame(final Player player) {
+        return this.getArena(player).map(Arena::getGame);
+    }
+
+    /**
+     * Opens a new {@link Arena} and starts its first game.
+     * <p>
+     * The listeners of the new game are registered during the join of the opening {@link Player}, so the game never
+     * sees that join. The opening player is therefore assigned before the game is set up and added to it right after.
+     *
+     * @param opener the player the arena is opened for, or {@code null}
+     * @return the opened arena
+     */
+    private Arena open(final Player opener) {
+        final GameCyclePipeline cyclePipeline = new GameCyclePipeline(this.plugin, this.lootCatalog);
+        final Arena arena = new Arena(this, this.nextArenaId++, cyclePipeline);
+        cyclePipeline.setGameFactory(arena::createGame);
+        this.arenas.add(arena);
+        if (opener != null) {
+            arena.addMember(opener);
+        }
+        arena.startNextGame();
+        if (opener != null) {
+            arena.join(opener);
+        }
+        log.info("Opened arena {} ({} open)", arena.getId(), this.arenas.size());
+        return arena;
+    }
+
+    /**
+     * Closes the {@link Arena}, its game has to be stopped already.
+     *
+     * @param arena the arena to close
+     */
+    void close(final Arena arena) {
+        this.arenas.remove(arena);
+        log.info("Closed arena {} ({} open)", arena.getId(), this.arenas.size());
+    }
+
+    /**
+     * Checks if the {@link Arena} should be closed instead of starting its next game.
+     *
+     * @param arena the arena to check
+     * @return {@code true} if the arena has no members and more than {@link this#minArenas} are open
+     */
+    boolean shouldClose(final Arena arena) {
+        return arena.getMemberCount() == 0 && this.arenas.size() > this.minArenas;
+    }
+
+    /**
+     * Checks if the server has enough headroom to open another {@link Arena}.
+     *
+     * @return {@code true} if another arena can be opened, {@code false} otherwise
+     */
+    private boolean canOpen() {
+        return this.arenas.size() < this.maxArenas && Bukkit.getAverageTickTime() < this.msptCeiling;
+    }
+
+    /**
+     * Places the {@link Player} into the least loaded {@link Arena}.
+     * Arenas accepting players and below {@link this#arenaCapacity} are preferred, then a new arena is opened if
+     * possible, otherwise the player joins the least loaded arena.
+     *
+     * @param player the player to place
+     * @return the arena the player was placed into
+     */
+    private Arena place(final Player player) {
+        final Comparator<Arena> byLoad = Comparator.comparingInt(Arena::getMemberCount);
+
+        final Arena arena = this.arenas.stream()
+                .filter(Arena::isAcceptingPlayers)
+                .filter(candidate -> candidate.getMemberCount() < this.arenaCapacity)
+                .min(byLoad)
+                .or(() -> this.canOpen() ? Optional.of(this.open(player)) : Optional.empty())
+                .or(() -> this.arenas.stream().min(byLoad))
+                .orElseGet(() -> this.open(player));
+
+        arena.addMember(player);
+        log.debug("Placed {} into arena {}", player.getName(), arena.getId());
+        return arena;
+    }
+
+    /**
+     * Event handler for the {@link PlayerJoinEvent} event.
+     * Places the joined {@link Player} into an {@link Arena} before the games handle the join.
+     *
+     * @param event The {@link PlayerJoinEvent} event
+     */
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onJoin(final PlayerJoinEvent event) {
+        this.place(event.getPlayer());
+    }
+
+    /**
+     * Event handler for the {@link PlayerQuitEvent} event.
+     * Removes the {@link Player} from its {@link Arena} after the games handled the quit.
+     *
+     * @param event The {@link PlayerQuitEvent} event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(final PlayerQuitEvent event) {
+        this.getArena(event.getPlayer()).ifPresent(arena -> arena.removeMember(event.getPlayer()));
+    }
+}
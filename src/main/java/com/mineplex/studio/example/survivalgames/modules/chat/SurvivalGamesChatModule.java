@@ -2,18 +2,23 @@ package com.mineplex.studio.example.survivalgames.modules.chat;
 
 import com.mineplex.studio.example.survivalgames.SurvivalGamesPlugin;
 import com.mineplex.studio.example.survivalgames.game.stat.SurvivalGamesStats;
+import com.mineplex.studio.example.survivalgames.modules.arena.ArenaModule;
 import com.mineplex.studio.example.survivalgames.modules.prefix.ChatPrefixModule;
 import com.mineplex.studio.sdk.modules.MineplexModule;
 import com.mineplex.studio.sdk.modules.MineplexModuleImplementation;
 import com.mineplex.studio.sdk.modules.MineplexModuleManager;
 import com.mineplex.studio.sdk.modules.chat.BuiltInChatChannel;
 import com.mineplex.studio.sdk.modules.chat.ChatModule;
+import com.mineplex.studio.sdk.modules.game.MineplexGame;
 import com.mineplex.studio.sdk.modules.game.MineplexGameModule;
 import com.mineplex.studio.sdk.modules.game.PlayerState;
 import com.mineplex.studio.sdk.modules.stats.StatsModule;
 import java.util.*;
 import java.util.function.BiConsumer;
 import java.util.function.Predicate;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.JoinConfiguration;
 import net.kyori.adventure.text.event.HoverEvent;
@@ -25,6 +30,8 @@ import org.bukkit.entity.Player;
  * for setting up the {@link com.mineplex.studio.example.survivalgames.game.SurvivalGames} chat system,
  * including adding prefixes and handling the rendering of chat messages.
  */
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
 @MineplexModuleImplementation(SurvivalGamesChatModule.class)
 public class SurvivalGamesChatModule implements MineplexModule {
     // Modules
@@ -36,6 +43,10 @@ public class SurvivalGamesChatModule implements MineplexModule {
      * The {@link ChatPrefixModule} is responsible for saving and accessing {@link Player} prefix.
      */
     private ChatPrefixModule prefixModule;
+    /**
+     * The {@link MineplexGameModule} is responsible for managing the {@link MineplexGame} of a single game cycle.
+     */
+    private MineplexGameModule gameModule;
 
     /**
      * Retrieve the user-specified prefix component for a player.
@@ -83,6 +94,20 @@ public class SurvivalGamesChatModule implements MineplexModule {
         return Component.join(JoinConfiguration.newlines(), hoverComponents);
     }
 
+    /**
+     * Retrieve the game the player takes part in.
+     * With {@link SurvivalGamesPlugin#MULTI_ARENA} the game is resolved through the arena of the player.
+     *
+     * @param player the player for which to retrieve the game
+     * @return the game of the player, or an empty optional if the player takes part in no game
+     */
+    private Optional<? extends MineplexGame> getGame(final Player player) {
+        if (SurvivalGamesPlugin.MULTI_ARENA) {
+            return MineplexModuleManager.getRegisteredModule(ArenaModule.class).getGame(player);
+        }
+        return this.gameModule.getCurrentGame();
+    }
+
     /**
      * Method called to allocate any additional resources this module uses
      */
@@ -91,29 +116,40 @@ public class SurvivalGamesChatModule implements MineplexModule {
         this.statsModule = MineplexModuleManager.getRegisteredModule(StatsModule.class);
         this.prefixModule = MineplexModuleManager.getRegisteredModule(ChatPrefixModule.class);
 
-        final MineplexGameModule gameModule = MineplexModuleManager.getRegisteredModule(MineplexGameModule.class);
+        this.gameModule = MineplexModuleManager.getRegisteredModule(MineplexGameModule.class);
         final ChatModule chatModule = MineplexModuleManager.getRegisteredModule(ChatModule.class);
         chatModule.setAudienceFunction(BuiltInChatChannel.GLOBAL, sender -> Set.copyOf(Bukkit.getOnlinePlayers()));
-        chatModule.setChatRenderer(BuiltInChatChannel.GLOBAL, (source, sourceDisplayName, message, viewer) -> {
-            final List<Component> components = new ArrayList<>(3);
-
-            // Dead player prefix
-            gameModule
-                    .getCurrentGame()
-                    .map(game -> game.getPlayerState(source))
-                    .filter(Predicate.not(PlayerState::isAlive))
-                    .ifPresent(g -> components.add(ChatMessageComponent.DEAD_PREFIX.apply()));
-
-            // Add stats hover message to player name
-            final Component displayName =
-                    sourceDisplayName.hoverEvent(HoverEvent.showText(this.getStatsHoverText(source)));
-            components.addAll(List.of(
-                    this.getUserSpecifiedPrefixComponent(source),
-                    Component.translatable("chat.type.text", displayName, message)));
-
-            // Construct new chat message from components
-            return Component.join(JoinConfiguration.noSeparators(), components);
-        });
+        chatModule.setChatRenderer(
+                BuiltInChatChannel.GLOBAL,
+                (source, sourceDisplayName, message, viewer) -> this.render(source, sourceDisplayName, message));
+    }
+
+    /**
+     * Renders the chat message of a player, the rendered message is the same for every viewer.
+     *
+     * @param source            the player who sent the message
+     * @param sourceDisplayName the display name of the player
+     * @param message           the sent message
+     * @return the rendered chat message
+     */
+    Component render(final Player source, final Component sourceDisplayName, final Component message) {
+        final List<Component> components = new ArrayList<>(3);
+
+        // Dead player prefix
+        this.getGame(source)
+                .map(game -> game.getPlayerState(source))
+                .filter(Predicate.not(PlayerState::isAlive))
+                .ifPresent(g -> components.add(ChatMessageComponent.DEAD_PREFIX.apply()));
+
+        // Add stats hover message to player name
+        final Component displayName =
+                sourceDisplayName.hoverEvent(HoverEvent.showText(this.getStatsHoverText(source)));
+        components.addAll(List.of(
+                this.getUserSpecifiedPrefixComponent(source),
+                Component.translatable("chat.type.text", displayName, message)));
+
+        // Construct new chat message from components
+        return Component.join(JoinConfiguration.noSeparators(), components);
     }
 
     /**
@@ -1,5 +1,8 @@
 package com.mineplex.studio.example.survivalgames.modules.manager;
 
+import com.mineplex.studio.example.survivalgames.SurvivalGamesPlugin;
+import com.mineplex.studio.example.survivalgames.modules.arena.Arena;
+import com.mineplex.studio.example.survivalgames.modules.arena.ArenaModule;
 import com.mineplex.studio.example.survivalgames.modules.manager.commands.GameCommand;
 import com.mineplex.studio.example.survivalgames.modules.manager.ui.GameGUI;
 import com.mineplex.studio.example.survivalgames.modules.worlddemo.WorldDemoModule;
@@ -14,6 +17,7 @@ import com.mineplex.studio.sdk.modules.game.MineplexGame;
 import com.mineplex.studio.sdk.modules.game.MineplexGameModule;
 import lombok.RequiredArgsConstructor;
 import org.bukkit.command.Command;
+import org.bukkit.entity.Player;
 
 /**
  * A demo {@link MineplexModule} showing a use case of {@link MineplexGUI} to stop the running game.
@@ -63,12 +67,24 @@ public class GameManagerModule implements MineplexModule {
     }
 
     /**
-     * Stops the currently running game.
+     * Stops the currently running game of the {@link Player}.
      * <p>
      * This method is used to stop the currently running game, if there is one.
      * If the game's state is {@link GameState#isInProgress}, it will forcefully start the next game.
+     * With {@link SurvivalGamesPlugin#MULTI_ARENA} only the game of the {@link Arena} of the player is stopped.
+     *
+     * @param player the player stopping the game
      */
-    public void stopGame() {
+    public void stopGame(final Player player) {
+        if (SurvivalGamesPlugin.MULTI_ARENA) {
+            MineplexModuleManager.getRegisteredModule(ArenaModule.class)
+                    .getArena(player)
+                    .filter(arena -> arena.getGame() != null
+                            && arena.getGame().getGameState().isInProgress())
+                    .ifPresent(Arena::restart);
+            return;
+        }
+
         this.gameModule
                 .getCurrentGame()
                 .filter(game -> game.getGameState().isInProgress())
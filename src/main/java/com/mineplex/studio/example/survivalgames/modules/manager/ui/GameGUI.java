@@ -42,7 +42,7 @@ public class GameGUI implements MineplexGUI {
                 .button2(GameGUIMessageComponent.GUI_CANCEL.renderBedrock(player))
                 .validResultHandler(response -> {
                     if (response.clickedFirst()) {
-                        this.module.stopGame();
+                        this.module.stopGame(player);
                     }
                 })
                 .build();
@@ -64,7 +64,7 @@ public class GameGUI implements MineplexGUI {
                 .addIngredient('C', new SimpleItem(display, click -> {
                     final Player pl = click.getPlayer();
                     pl.closeInventory();
-                    this.module.stopGame();
+                    this.module.stopGame(pl);
                 }))
                 .build();
 
@@ -0,0 +1,70 @@
+package com.mineplex.studio.example.survivalgames.modules.performance;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The recorded timings of a single event handler or runnable.
+ */
+@Getter
+@RequiredArgsConstructor
+public class HandlerStats {
+    /**
+     * The display name of the handler, e.g. {@code BorderMechanic#PlayerStateChangeEvent}.
+     */
+    private final String name;
+
+    /**
+     * The histogram of all call durations in nanoseconds.
+     */
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    /**
+     * The summed duration of all calls in nanoseconds.
+     */
+    private long totalNanos;
+
+    /**
+     * The longest call duration in nanoseconds.
+     */
+    private long maxNanos;
+
+    /**
+     * Records a call.
+     *
+     * @param nanos the call duration in nanoseconds
+     */
+    public void record(final long nanos) {
+        this.histogram.record(nanos);
+        this.totalNanos += nanos;
+        this.maxNanos = Math.max(this.maxNanos, nanos);
+    }
+
+    /**
+     * Returns the number of recorded calls.
+     *
+     * @return the call count
+     */
+    public long getCalls() {
+        return this.histogram.getTotalCount();
+    }
+
+    /**
+     * Returns the mean call duration.
+     *
+     * @return the mean call duration in nanoseconds, or {@code 0} if no call was recorded
+     */
+    public long getMeanNanos() {
+        final long calls = this.getCalls();
+        return calls == 0 ? 0 : this.totalNanos / calls;
+    }
+
+    /**
+     * Removes all recorded calls.
+     */
+    public void reset() {
+        this.histogram.reset();
+        this.totalNanos = 0;
+        this.maxNanos = 0;
+    }
+}
@@ -0,0 +1,133 @@
+package com.mineplex.studio.example.survivalgames.modules.performance;
+
+import java.util.Arrays;
+
+/**
+ * A fixed size log-linear latency histogram in the style of HdrHistogram.
+ * <p>
+ * Every power of two range is split into {@link this#SUB_BUCKETS} linear buckets, which bounds the relative error of
+ * every recorded value to about 6% over the full {@code long} range. All buckets are allocated once, recording a value
+ * is a few bit operations and an array increment without any allocation.
+ * <p>
+ * The histogram is not thread safe and is meant to be recorded and read on the main thread.
+ */
+public class LatencyHistogram {
+    /**
+     * The number of bits used for the linear buckets inside one power of two range.
+     */
+    private static final int SUB_BUCKET_BITS = 4;
+
+    /**
+     * The number of linear buckets inside one power of two range.
+     */
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * The total number of buckets required to cover all non-negative {@code long} values.
+     */
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    /**
+     * The number of recorded values per bucket.
+     */
+    private final long[] counts = new long[BUCKET_COUNT];
+
+    /**
+     * The total number of recorded values.
+     */
+    private long totalCount;
+
+    /**
+     * Returns the bucket index of the value.
+     *
+     * @param value the non-negative value
+     * @return the bucket index
+     */
+    static int bucketIndex(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) Math.max(value, 0);
+        }
+
+        final int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        final int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the highest value that falls into the bucket.
+     *
+     * @param index the bucket index
+     * @return the highest value of the bucket
+     */
+    static long bucketUpperBound(final int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+
+        final int shift = index / SUB_BUCKETS - 1;
+        final long lowerBound = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+
+    /**
+     * Records a value.
+     *
+     * @param value the value to record, negative values are recorded as zero
+     */
+    public void record(final long value) {
+        this.counts[bucketIndex(value)]++;
+        this.totalCount++;
+    }
+
+    /**
+     * Adds all values recorded by the other histogram to this histogram.
+     *
+     * @param other the histogram to add
+     */
+    public void add(final LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            this.counts[i] += other.counts[i];
+        }
+        this.totalCount += other.totalCount;
+    }
+
+    /**
+     * Returns the total number of recorded values.
+     *
+     * @return the recorded value count
+     */
+    public long getTotalCount() {
+        return this.totalCount;
+    }
+
+    /**
+     * Returns the value at the percentile.
+     * The returned value is the upper bound of the bucket containing the percentile.
+     *
+     * @param percentile the percentile between 0 and 100
+     * @return the value at the percentile, or {@code 0} if no value was recorded
+     */
+    public long getValueAtPercentile(final double percentile) {
+        if (this.totalCount == 0) {
+            return 0;
+        }
+
+        final long target = Math.max(1, (long) Math.ceil(this.totalCount * Math.min(percentile, 100) / 100));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += this.counts[i];
+            if (seen >= target) {
+                return bucketUpperBound(i);
+            }
+        }
+        return bucketUpperBound(BUCKET_COUNT - 1);
+    }
+
+    /**
+     * Removes all recorded values.
+     */
+    public void reset() {
+        Arrays.fill(this.counts, 0);
+        this.totalCount = 0;
+    }
+}
@@ -0,0 +1,200 @@
+package com.mineplex.studio.example.survivalgames.modules.performance;
+
+import com.mineplex.studio.example.survivalgames.modules.performance.commands.PerfCommand;
+import com.mineplex.studio.sdk.modules.MineplexModule;
+import com.mineplex.studio.sdk.modules.MineplexModuleImplementation;
+import com.mineplex.studio.sdk.modules.MineplexModuleManager;
+import com.mineplex.studio.sdk.modules.command.CommandModule;
+import com.mineplex.studio.sdk.modules.game.GameState;
+import com.mineplex.studio.sdk.modules.game.MineplexGame;
+import com.mineplex.studio.sdk.modules.game.mechanics.helper.GameStateListenerHelperMechanic;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.bukkit.Bukkit;
+import org.bukkit.command.Command;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.EventExecutor;
+import org.bukkit.plugin.java.JavaPlugin;
+
+/**
+ * A {@link MineplexModule} recording per handler call counts and latency histograms of the game mechanics.
+ * <p>
+ * Handlers are timed from their registration on. Runnables are wrapped through {@link this#timed(String, Runnable)}
+ * before they are registered at the {@link GameStateListenerHelperMechanic}. Listeners are registered through
+ * {@link this#registerEvents(Listener, MineplexGame, Predicate)} instead of the
+ * {@link GameStateListenerHelperMechanic}, which registers every handler with a {@link TimedEventExecutor} and only
+ * calls it in the active {@link GameState}.
+ * Listeners registering their own {@link EventExecutor} wrap it through {@link this#timed(String, EventExecutor)}.
+ * The recorded timings are shown by the {@code /sg perf} command.
+ */
+@RequiredArgsConstructor
+@MineplexModuleImplementation(PerformanceModule.class)
+public class PerformanceModule implements MineplexModule {
+    /**
+     * The {@link JavaPlugin} the timed listeners are registered for.
+     */
+    private final JavaPlugin plugin;
+
+    /**
+     * The recorded {@link HandlerStats} by handler name.
+     */
+    private final Map<String, HandlerStats> stats = new HashMap<>();
+
+    /**
+     * The {@link CommandModule} is responsible for registering and unregistering commands dynamically.
+     */
+    private CommandModule commandModule;
+
+    /**
+     * Command to show the recorded timings.
+     */
+    private Command command;
+
+    /**
+     * Method called to allocate any additional resources this module uses
+     */
+    @Override
+    public void setup() {
+        this.commandModule = MineplexModuleManager.getRegisteredModule(CommandModule.class);
+
+        // Setup command
+        this.command = new PerfCommand(this);
+        this.commandModule.register("sg", this.command);
+    }
+
+    /**
+     * Method called to release and cleanup any additional resources this module uses
+     */
+    @Override
+    public void teardown() {
+        this.commandModule.unregister(this.command);
+        this.command = null;
+        this.commandModule = null;
+    }
+
+    /**
+     * Wraps the {@link Runnable} to record its calls under the name.
+     *
+     * @param name     the handler name, e.g. {@code BorderMechanic#setupBorder}
+     * @param runnable the runnable to time
+     * @return the timed runnable
+     */
+    public Runnable timed(final String name, final Runnable runnable) {
+        final HandlerStats handlerStats = this.getStats(name);
+        return () -> {
+            final long start = System.nanoTime();
+            try {
+                runnable.run();
+            } finally {
+                handlerStats.record(System.nanoTime() - start);
+            }
+        };
+    }
+
+    /**
+     * Wraps the {@link EventExecutor} to record its synchronous calls under the name.
+     *
+     * @param name     the handler name, e.g. {@code ParticipantEventMechanic#EntityDamageEvent/MONITOR}
+     * @param executor the event executor to time
+     * @return the timed event executor
+     */
+    public EventExecutor timed(final String name, final EventExecutor executor) {
+        return new TimedEventExecutor(executor, this.getStats(name));
+    }
+
+    /**
+     * Registers all {@link EventHandler} methods of the listener like
+     * {@link org.bukkit.plugin.PluginManager#registerEvents(Listener, org.bukkit.plugin.Plugin)}, but with a
+     * {@link TimedEventExecutor} per handler. Like a listener registered at the
+     * {@link GameStateListenerHelperMechanic}, the handlers are only called while the {@link GameState} of the game
+     * matches the active states.
+     * <p>
+     * The listener stays registered until it is unregistered through {@link HandlerList#unregisterAll(Listener)}.
+     *
+     * @param listener     the listener to register
+     * @param game         the game whose state the handlers depend on
+     * @param activeStates the game states the handlers are called in
+     */
+    public void registerEvents(
+            @NonNull final Listener listener,
+            @NonNull final MineplexGame game,
+            @NonNull final Predicate<GameState> activeStates) {
+        for (Class<?> current = listener.getClass(); current != null; current = current.getSuperclass()) {
+            for (final Method method : current.getDeclaredMethods()) {
+                final EventHandler eventHandler = method.getAnnotation(EventHandler.class);
+                if (eventHandler == null
+                        || method.isBridge()
+                        || method.isSynthetic()
+                        || method.getParameterCount() != 1
+                        || !Event.class.isAssignableFrom(method.getParameterTypes()[0])) {
+                    continue;
+                }
+
+                final Class<? extends Event> eventClass =
+                        method.getParameterTypes()[0].asSubclass(Event.class);
+                final EventExecutor executor = this.timed(
+                        String.format(
+                                "%s#%s/%s",
+                                listener.getClass().getSimpleName(),
+                                eventClass.getSimpleName(),
+                                eventHandler.priority()),
+                        EventExecutor.create(method, eventClass));
+                Bukkit.getPluginManager()
+                        .registerEvent(
+                                eventClass,
+                                listener,
+                                eventHandler.priority(),
+                                (target, event) -> {
+                                    if (activeStates.test(game.getGameState())) {
+                                        executor.execute(target, event);
+                                    }
+                                },
+                                this.plugin,
+                                eventHandler.ignoreCancelled());
+            }
+        }
+    }
+
+    /**
+     * Returns all recorded {@link HandlerStats} with at least one call, sorted by their total time.
+     *
+     * @return the recorded handler stats
+     */
+    public List<HandlerStats> getRecordedStats() {
+        final List<HandlerStats> recorded = new ArrayList<>();
+        for (final HandlerStats handlerStats : this.stats.values()) {
+            if (handlerStats.getCalls() > 0) {
+                recorded.add(handlerStats);
+            }
+        }
+        recorded.sort(Comparator.comparingLong(HandlerStats::getTotalNanos).reversed());
+        return recorded;
+    }
+
+    /**
+     * Removes all recorded timings.
+     */
+    public void reset() {
+        this.stats.values().forEach(HandlerStats::reset);
+    }
+
+    /**
+     * Returns the {@link HandlerStats} with the name, creating them if needed.
+     *
+     * @param name the handler name
+     * @return the handler stats
+     */
+    private HandlerStats getStats(final String name) {
+        return this.stats.computeIfAbsent(name, HandlerStats::new);
+    }
+}
@@ -0,0 +1,44 @@
+package com.mineplex.studio.example.survivalgames.modules.performance;
+
+import lombok.RequiredArgsConstructor;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventException;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.EventExecutor;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An {@link EventExecutor} that times every synchronous call of the wrapped {@link EventExecutor}.
+ * <p>
+ * The executor is passed on registration, so the {@link org.bukkit.plugin.RegisteredListener} created by Bukkit is
+ * never replaced and unregistering the listener through {@link org.bukkit.event.HandlerList#unregisterAll(Listener)}
+ * works as usual.
+ * Asynchronous events are passed through untimed, since {@link HandlerStats} are only recorded on the main thread.
+ */
+@RequiredArgsConstructor
+class TimedEventExecutor implements EventExecutor {
+    /**
+     * The wrapped {@link EventExecutor}.
+     */
+    private final EventExecutor delegate;
+
+    /**
+     * The {@link HandlerStats} the calls are recorded to.
+     */
+    private final HandlerStats stats;
+
+    @Override
+    public void execute(@NotNull final Listener listener, @NotNull final Event event) throws EventException {
+        if (event.isAsynchronous()) {
+            this.delegate.execute(listener, event);
+            return;
+        }
+
+        final long start = System.nanoTime();
+        try {
+            this.delegate.execute(listener, event);
+        } finally {
+            this.stats.record(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.mineplex.studio.example.survivalgames.modules.performance.commands;
+
+import com.mineplex.studio.example.survivalgames.modules.performance.HandlerStats;
+import com.mineplex.studio.example.survivalgames.modules.performance.PerformanceModule;
+import java.util.List;
+import java.util.Locale;
+import net.kyori.adventure.text.Component;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents a {@link org.bukkit.command.Command} showing the handler timings recorded by the {@link PerformanceModule}.
+ */
+public class PerfCommand extends Command {
+    /**
+     * The name of the command.
+     */
+    private static final String COMMAND_NAME = "perf";
+    /**
+     * The syntax of the command.
+     */
+    private static final String COMMAND_SYNTAX = "[reset]";
+    /**
+     * The maximum number of handlers shown.
+     */
+    private static final int MAX_ENTRIES = 15;
+
+    // Modules
+    /**
+     * Performance module.
+     */
+    private final PerformanceModule module;
+
+    public PerfCommand(final PerformanceModule module) {
+        super(COMMAND_NAME, "", String.format("/%s %s", COMMAND_NAME, COMMAND_SYNTAX), List.of());
+
+        this.module = module;
+    }
+
+    /**
+     * Shows or resets the handler timings for a {@link Player}.
+     */
+    @Override
+    public boolean execute(
+            @NotNull final CommandSender commandSender, @NotNull final String s, @NotNull final String[] args) {
+        if (!(commandSender instanceof final Player player)) {
+            return false;
+        }
+
+        // Reset the timings
+        if (args.length > 0 && "reset".equalsIgnoreCase(args[0])) {
+            this.module.reset();
+            PerfCommandMessageComponent.PERF_RESET.send(player);
+            return true;
+        }
+
+        final List<HandlerStats> stats = this.module.getRecordedStats();
+        if (stats.isEmpty()) {
+            PerfCommandMessageComponent.PERF_EMPTY.send(player);
+            return true;
+        }
+
+        PerfCommandMessageComponent.PERF_HEADER.send(player, Component.text(stats.size()));
+        for (final HandlerStats handlerStats : stats.subList(0, Math.min(stats.size(), MAX_ENTRIES))) {
+            final String timings = String.format(
+                    Locale.ROOT,
+                    "%s/%s/%s/%s",
+                    toMillis(handlerStats.getMeanNanos()),
+                    toMillis(handlerStats.getHistogram().getValueAtPercentile(50)),
+                    toMillis(handlerStats.getHistogram().getValueAtPercentile(99)),
+                    toMillis(handlerStats.getMaxNanos()));
+            PerfCommandMessageComponent.PERF_ENTRY.send(
+                    player,
+                    Component.text(handlerStats.getName()),
+                    Component.text(handlerStats.getCalls()),
+                    Component.text(timings));
+        }
+        return true;
+    }
+
+    /**
+     * Formats nanoseconds as milliseconds.
+     *
+     * @param nanos the nanoseconds to format
+     * @return the formatted milliseconds
+     */
+    private static String toMillis(final long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000D);
+    }
+}
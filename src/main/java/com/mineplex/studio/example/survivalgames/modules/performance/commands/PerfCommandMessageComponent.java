@@ -0,0 +1,35 @@
+package com.mineplex.studio.example.survivalgames.modules.performance.commands;
+
+import com.mineplex.studio.sdk.modules.i18n.MineplexMessageComponent;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+
+/**
+ * This class contains all the message components for the Survival Games perf command.
+ */
+public class PerfCommandMessageComponent extends MineplexMessageComponent {
+    /**
+     * The message heading the handler timings.
+     */
+    public static final Args1<Component> PERF_HEADER =
+            count -> withCommandPrefix(Component.translatable("sg.module.performance.command.header")
+                    .color(NamedTextColor.GRAY)
+                    .arguments(element(count)));
+    /**
+     * The message for the timings of a single handler.
+     */
+    public static final Args3<Component, Component, Component> PERF_ENTRY =
+            (name, calls, timings) -> Component.translatable("sg.module.performance.command.entry")
+                    .color(NamedTextColor.GRAY)
+                    .arguments(element(name), element(calls), element(timings));
+    /**
+     * The message if no handler timings were recorded.
+     */
+    public static final Args0 PERF_EMPTY = () -> withCommandPrefix(
+            Component.translatable("sg.module.performance.command.empty").color(NamedTextColor.RED));
+    /**
+     * The message for resetting the handler timings.
+     */
+    public static final Args0 PERF_RESET = () -> withCommandPrefix(
+            Component.translatable("sg.module.performance.command.reset").color(NamedTextColor.GREEN));
+}
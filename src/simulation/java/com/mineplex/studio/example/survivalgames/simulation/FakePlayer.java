@@ -0,0 +1,112 @@
+package com.mineplex.studio.example.survivalgames.simulation;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * A scripted participant of a {@link SimulatedMatch}.
+ * <p>
+ * Fake players loot containers during the first phase of the match and hunt the closest player afterward, using their
+ * tracking compass whenever they have one.
+ */
+@Getter
+@RequiredArgsConstructor
+public class FakePlayer {
+    /**
+     * The maximum health of a player.
+     */
+    static final double MAX_HEALTH = 20;
+
+    /**
+     * The unique id of this player inside the match.
+     */
+    private final int id;
+
+    /**
+     * The current x coordinate.
+     */
+    double x;
+
+    /**
+     * The current z coordinate.
+     */
+    double z;
+
+    /**
+     * The current health.
+     */
+    double health = MAX_HEALTH;
+
+    /**
+     * The damage dealt per hit.
+     */
+    double damage = 1;
+
+    /**
+     * The number of looted items.
+     */
+    int lootedItems;
+
+    /**
+     * The remaining uses of the tracking compass, {@code 0} if the player has no compass.
+     */
+    int compassUses;
+
+    /**
+     * The index of the loot container this player walks to, or {@code -1} if none.
+     */
+    int containerTarget = -1;
+
+    /**
+     * The id of the player this player hunts, or {@code -1} if none.
+     */
+    int playerTarget = -1;
+
+    /**
+     * The tick this player can attack again.
+     */
+    long attackCooldownUntil;
+
+    /**
+     * Checks if this player is still alive.
+     *
+     * @return {@code true} if the health is above zero, {@code false} otherwise
+     */
+    public boolean isAlive() {
+        return this.health > 0;
+    }
+
+    /**
+     * Moves this player towards the position.
+     *
+     * @param targetX the target x coordinate
+     * @param targetZ the target z coordinate
+     * @param speed   the distance moved per tick
+     */
+    void moveTowards(final double targetX, final double targetZ, final double speed) {
+        final double dx = targetX - this.x;
+        final double dz = targetZ - this.z;
+        final double distance = Math.sqrt(dx * dx + dz * dz);
+        if (distance <= speed) {
+            this.x = targetX;
+            this.z = targetZ;
+            return;
+        }
+
+        this.x += dx / distance * speed;
+        this.z += dz / distance * speed;
+    }
+
+    /**
+     * Returns the squared horizontal distance to the position.
+     *
+     * @param targetX the target x coordinate
+     * @param targetZ the target z coordinate
+     * @return the squared distance
+     */
+    double distanceSquared(final double targetX, final double targetZ) {
+        final double dx = targetX - this.x;
+        final double dz = targetZ - this.z;
+        return dx * dx + dz * dz;
+    }
+}
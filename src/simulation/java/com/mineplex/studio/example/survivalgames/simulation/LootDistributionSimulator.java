@@ -0,0 +1,283 @@
+package com.mineplex.studio.example.survivalgames.simulation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mineplex.studio.example.survivalgames.game.loot.CompiledLootTable;
+import com.mineplex.studio.example.survivalgames.game.loot.LootConfig;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Entry point of the offline loot distribution simulator.
+ * <p>
+ * Rolls a large number of containers of every loot type with the same {@link CompiledLootTable} the game uses, spread
+ * over all cores through a {@link ForkJoinPool} with {@link SplittableRandom#split()} streams. Prints how often every
+ * item shows up, how many items every pool adds, how valuable the containers are and the container throughput. The
+ * results only depend on the seed, not on the parallelism, so the fingerprint of two runs can be compared to verify a
+ * loot table change did not move the distribution.
+ * <p>
+ * Arguments are passed as {@code key=value}: {@code containers} (100000000), {@code seed} (42), {@code parallelism}
+ * (all cores) and {@code tier} ({@code all}, {@code 1} or {@code 2}).
+ */
+public final class LootDistributionSimulator {
+    /**
+     * The number of value buckets, the last bucket holds every higher value.
+     */
+    private static final int VALUE_BUCKETS = 32;
+
+    /**
+     * The value of items useful in a fight, by item id. Unlisted items are worth nothing.
+     */
+    private static final Map<String, Integer> ITEM_VALUES = new HashMap<>();
+
+    static {
+        for (final String slot : List.of("helmet", "chestplate", "leggings", "boots")) {
+            ITEM_VALUES.put("leather_" + slot, 1);
+            ITEM_VALUES.put("golden_" + slot, 2);
+            ITEM_VALUES.put("chainmail_" + slot, 3);
+            ITEM_VALUES.put("iron_" + slot, 4);
+        }
+        ITEM_VALUES.put("wooden_sword", 2);
+        ITEM_VALUES.put("wooden_axe", 2);
+        ITEM_VALUES.put("stone_sword", 3);
+        ITEM_VALUES.put("stone_axe", 3);
+        ITEM_VALUES.put("iron_axe", 5);
+        ITEM_VALUES.put("bow", 4);
+        ITEM_VALUES.put("compass", 4);
+        ITEM_VALUES.put("diamond", 4);
+        ITEM_VALUES.put("iron_ingot", 2);
+        ITEM_VALUES.put("mushroom_stew", 2);
+        for (final String item : List.of(
+                "gold_ingot",
+                "arrow",
+                "experience_bottle",
+                "fishing_rod",
+                "porkchop",
+                "baked_potato",
+                "cooked_beef",
+                "cooked_chicken",
+                "apple")) {
+            ITEM_VALUES.put(item, 1);
+        }
+    }
+
+    private LootDistributionSimulator() {}
+
+    /**
+     * Runs the simulator.
+     *
+     * @param args the {@code key=value} arguments
+     * @throws IOException If an I/O error occurs while reading the loot type files.
+     */
+    public static void main(final String[] args) throws IOException {
+        final Map<String, String> options = new HashMap<>();
+        for (final String arg : args) {
+            final int separator = arg.indexOf('=');
+            if (separator > 0) {
+                options.put(arg.substring(0, separator).toLowerCase(Locale.ROOT), arg.substring(separator + 1));
+            }
+        }
+
+        final long containers = Long.parseLong(options.getOrDefault("containers", "100000000"));
+        final long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        final int parallelism = Integer.parseInt(options.getOrDefault(
+                "parallelism", String.valueOf(Runtime.getRuntime().availableProcessors())));
+        final String tier = options.getOrDefault("tier", "all");
+
+        final List<File> files = new ArrayList<>();
+        if (!"2".equals(tier)) {
+            files.add(LootConfig.TIER_ONE_FILE);
+        }
+        if (!"1".equals(tier)) {
+            files.add(LootConfig.TIER_TWO_FILE);
+        }
+
+        System.out.printf(
+                Locale.ROOT,
+                "Rolling %d containers per loot type on %d threads, seed %d%n",
+                containers,
+                parallelism,
+                seed);
+
+        final ObjectMapper objectMapper = new ObjectMapper();
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            long fingerprint = seed;
+            for (final File file : files) {
+                final JsonNode root = objectMapper.readTree(file);
+                final CompiledLootTable table = CompiledLootTable.fromJson(root);
+                final String[] labels = readLabels(root);
+                final int[] itemValues = new int[labels.length];
+                for (int item = 0; item < labels.length; item++) {
+                    itemValues[item] = ITEM_VALUES.getOrDefault(labels[item], 0);
+                }
+                final int[] itemPools = new int[table.getItemCount()];
+                for (int poolIndex = 0; poolIndex < table.getPoolCount(); poolIndex++) {
+                    final int end = poolIndex + 1 < table.getPoolCount()
+                            ? table.getPoolOffset(poolIndex + 1)
+                            : table.getItemCount();
+                    for (int item = table.getPoolOffset(poolIndex); item < end; item++) {
+                        itemPools[item] = poolIndex;
+                    }
+                }
+
+                // Warm up the JIT on a small unrelated run
+                pool.invoke(new LootDistributionTask(
+                        table, itemPools, itemValues, VALUE_BUCKETS, new SplittableRandom(~seed), 1 << 22));
+
+                final long start = System.nanoTime();
+                final LootTally tally = pool.invoke(new LootDistributionTask(
+                        table, itemPools, itemValues, VALUE_BUCKETS, new SplittableRandom(seed), containers));
+                final long nanos = System.nanoTime() - start;
+
+                report(root.path("name").asText(file.getName()), table, labels, itemValues, tally, nanos);
+                for (final long count : tally.itemRolls) {
+                    fingerprint = fingerprint * 31 + count;
+                }
+                for (final long count : tally.valueHistogram) {
+                    fingerprint = fingerprint * 31 + count;
+                }
+            }
+            System.out.printf(Locale.ROOT, "Fingerprint %016x%n", fingerprint);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Reads a label of every item of a loot type file from its NBT, in the order of the item indexes.
+     *
+     * @param root the root node of the loot type file
+     * @return the label of every item
+     * @throws IOException If the NBT of an item is invalid.
+     */
+    private static String[] readLabels(final JsonNode root) throws IOException {
+        final List<String> labels = new ArrayList<>();
+        for (final JsonNode pool : root.path("items")) {
+            for (final JsonNode item : pool.path("items")) {
+                final byte[] nbt = Base64.getDecoder()
+                        .decode(item.path("value").path("itemStack").path("nbt").asText());
+                final Object id = NbtReader.readCompressed(nbt).get("id");
+                labels.add(String.valueOf(id).replace("minecraft:", ""));
+            }
+        }
+        return labels.toArray(String[]::new);
+    }
+
+    /**
+     * Prints the report of a single loot type.
+     *
+     * @param name       the name of the loot type
+     * @param table      the rolled loot table
+     * @param labels     the label of every item
+     * @param itemValues the value of every item
+     * @param tally      the merged tally of all containers
+     * @param nanos      the time spent rolling in nanoseconds
+     */
+    private static void report(
+            final String name,
+            final CompiledLootTable table,
+            final String[] labels,
+            final int[] itemValues,
+            final LootTally tally,
+            final long nanos) {
+        final double containers = tally.containers;
+        System.out.printf(
+                Locale.ROOT,
+                "%s: %d containers in %.2f s, %.1f M containers/s, %.1f ns per container%n",
+                name,
+                tally.containers,
+                nanos / 1_000_000_000D,
+                containers / (nanos / 1_000D),
+                nanos / containers);
+
+        long items = 0;
+        final StringBuilder sizes = new StringBuilder();
+        for (int size = 0; size < tally.sizeHistogram.length; size++) {
+            items += size * tally.sizeHistogram[size];
+            if (tally.sizeHistogram[size] > 0) {
+                sizes.append(String.format(
+                        Locale.ROOT, " %d: %.2f%%", size, tally.sizeHistogram[size] * 100 / containers));
+            }
+        }
+        System.out.printf(Locale.ROOT, "  items per container: mean %.3f,%s%n", items / containers, sizes);
+
+        long value = 0;
+        for (int bucket = 0; bucket < VALUE_BUCKETS; bucket++) {
+            value += bucket * tally.valueHistogram[bucket];
+        }
+        System.out.printf(
+                Locale.ROOT,
+                "  value per container: mean %.3f, p10 %d, p50 %d, p90 %d, nothing useful %.4f%%%n",
+                value / containers,
+                valueAtPercentile(tally.valueHistogram, 10),
+                valueAtPercentile(tally.valueHistogram, 50),
+                valueAtPercentile(tally.valueHistogram, 90),
+                tally.valueHistogram[0] * 100 / containers);
+        for (int bucket = 0; bucket < VALUE_BUCKETS; bucket++) {
+            if (tally.valueHistogram[bucket] > 0) {
+                final double share = tally.valueHistogram[bucket] * 100 / containers;
+                System.out.printf(
+                        Locale.ROOT,
+                        "    %2d%s %7.3f%% %s%n",
+                        bucket,
+                        bucket == VALUE_BUCKETS - 1 ? "+" : " ",
+                        share,
+                        "#".repeat((int) Math.round(share)));
+            }
+        }
+
+        for (int poolIndex = 0; poolIndex < table.getPoolCount(); poolIndex++) {
+            System.out.printf(
+                    Locale.ROOT,
+                    "  pool %d: %.3f items per container, empty in %.4f%%%n",
+                    poolIndex,
+                    tally.poolItems[poolIndex] / containers,
+                    tally.poolEmpty[poolIndex] * 100 / containers);
+        }
+
+        for (int item = 0; item < labels.length; item++) {
+            System.out.printf(
+                    Locale.ROOT,
+                    "  item %2d %-22s value %d, in %7.3f%% of containers, %.4f rolls, %.4f amount%n",
+                    item,
+                    labels[item],
+                    itemValues[item],
+                    tally.itemContainers[item] * 100 / containers,
+                    tally.itemRolls[item] / containers,
+                    tally.itemAmount[item] / containers);
+        }
+    }
+
+    /**
+     * Returns the value bucket at the percentile.
+     *
+     * @param histogram  the value histogram
+     * @param percentile the percentile between 0 and 100
+     * @return the value at the percentile
+     */
+    private static int valueAtPercentile(final long[] histogram, final double percentile) {
+        long total = 0;
+        for (final long count : histogram) {
+            total += count;
+        }
+
+        final long target = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        long seen = 0;
+        for (int bucket = 0; bucket < histogram.length; bucket++) {
+            seen += histogram[bucket];
+            if (seen >= target) {
+                return bucket;
+            }
+        }
+        return histogram.length - 1;
+    }
+}
@@ -0,0 +1,145 @@
+package com.mineplex.studio.example.survivalgames.simulation;
+
+import com.mineplex.studio.example.survivalgames.game.loot.CompiledLootTable;
+import java.util.SplittableRandom;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Rolls a number of containers of a {@link CompiledLootTable} and tallies the results.
+ * <p>
+ * Large tasks are halved, the forked half rolls with a {@link SplittableRandom#split()} stream and the other half keeps
+ * the stream of the parent. The task tree only depends on the container count, so a run is reproducible for a seed no
+ * matter how many threads execute it.
+ */
+public final class LootDistributionTask extends RecursiveTask<LootTally> {
+    /**
+     * The number of containers a task rolls without splitting.
+     */
+    private static final long LEAF_CONTAINERS = 1 << 18;
+
+    /**
+     * The loot table to roll.
+     */
+    private final CompiledLootTable table;
+
+    /**
+     * The pool of every item.
+     */
+    private final int[] itemPools;
+
+    /**
+     * The value of every item.
+     */
+    private final int[] itemValues;
+
+    /**
+     * The number of value buckets.
+     */
+    private final int valueBuckets;
+
+    /**
+     * The random stream of this task.
+     */
+    private final SplittableRandom random;
+
+    /**
+     * The number of containers to roll.
+     */
+    private final long containers;
+
+    /**
+     * Constructs a new task.
+     *
+     * @param table        the loot table to roll
+     * @param itemPools    the pool of every item
+     * @param itemValues   the value of every item
+     * @param valueBuckets the number of value buckets
+     * @param random       the random stream of this task
+     * @param containers   the number of containers to roll
+     */
+    public LootDistributionTask(
+            final CompiledLootTable table,
+            final int[] itemPools,
+            final int[] itemValues,
+            final int valueBuckets,
+            final SplittableRandom random,
+            final long containers) {
+        this.table = table;
+        this.itemPools = itemPools;
+        this.itemValues = itemValues;
+        this.valueBuckets = valueBuckets;
+        this.random = random;
+        this.containers = containers;
+    }
+
+    @Override
+    protected LootTally compute() {
+        if (this.containers <= LEAF_CONTAINERS) {
+            return this.roll();
+        }
+
+        final long half = this.containers / 2;
+        final LootDistributionTask forked = new LootDistributionTask(
+                this.table, this.itemPools, this.itemValues, this.valueBuckets, this.random.split(), half);
+        forked.fork();
+        final LootTally tally = new LootDistributionTask(
+                        this.table,
+                        this.itemPools,
+                        this.itemValues,
+                        this.valueBuckets,
+                        this.random,
+                        this.containers - half)
+                .compute();
+        tally.add(forked.join());
+        return tally;
+    }
+
+    /**
+     * Rolls all containers of this task.
+     *
+     * @return the tally of the rolled containers
+     */
+    private LootTally roll() {
+        final int itemCount = this.table.getItemCount();
+        final int poolCount = this.table.getPoolCount();
+        final LootTally tally = new LootTally(itemCount, poolCount, this.valueBuckets, this.table.getMaxRolls());
+
+        final int[] items = new int[this.table.getMaxRolls()];
+        final int[] amounts = new int[this.table.getMaxRolls()];
+
+        // The container an item or pool was last seen in, avoids clearing per container arrays
+        final int[] itemSeen = new int[itemCount];
+        final int[] poolSeen = new int[poolCount];
+        int stamp = 0;
+
+        for (long container = 0; container < this.containers; container++) {
+            stamp++;
+            final int count = this.table.roll(this.random, items, amounts);
+            int value = 0;
+            for (int i = 0; i < count; i++) {
+                final int item = items[i];
+                tally.itemRolls[item]++;
+                tally.itemAmount[item] += amounts[i];
+                if (itemSeen[item] != stamp) {
+                    itemSeen[item] = stamp;
+                    tally.itemContainers[item]++;
+                    value += this.itemValues[item];
+                }
+
+                final int pool = this.itemPools[item];
+                tally.poolItems[pool]++;
+                poolSeen[pool] = stamp;
+            }
+
+            for (int pool = 0; pool < poolCount; pool++) {
+                if (poolSeen[pool] != stamp) {
+                    tally.poolEmpty[pool]++;
+                }
+            }
+            tally.valueHistogram[Math.min(value, this.valueBuckets - 1)]++;
+            tally.sizeHistogram[count]++;
+        }
+        tally.containers = this.containers;
+        return tally;
+    }
+}
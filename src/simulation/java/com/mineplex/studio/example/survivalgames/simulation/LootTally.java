@@ -0,0 +1,92 @@
+package com.mineplex.studio.example.survivalgames.simulation;
+
+/**
+ * The counters of a {@link LootDistributionTask}, merged over all tasks of a run.
+ */
+public final class LootTally {
+    /**
+     * The number of rolled containers.
+     */
+    long containers;
+
+    /**
+     * The number of containers holding every item at least once.
+     */
+    final long[] itemContainers;
+
+    /**
+     * The number of rolls of every item.
+     */
+    final long[] itemRolls;
+
+    /**
+     * The summed amount of every item.
+     */
+    final long[] itemAmount;
+
+    /**
+     * The number of items every pool added over all containers.
+     */
+    final long[] poolItems;
+
+    /**
+     * The number of containers every pool added no item to.
+     */
+    final long[] poolEmpty;
+
+    /**
+     * The number of containers by their value, the last bucket holds every higher value.
+     */
+    final long[] valueHistogram;
+
+    /**
+     * The number of containers by their rolled item count.
+     */
+    final long[] sizeHistogram;
+
+    /**
+     * Constructs a new empty tally.
+     *
+     * @param items    the number of items
+     * @param pools    the number of pools
+     * @param values   the number of value buckets
+     * @param maxRolls the maximum number of items per container
+     */
+    LootTally(final int items, final int pools, final int values, final int maxRolls) {
+        this.itemContainers = new long[items];
+        this.itemRolls = new long[items];
+        this.itemAmount = new long[items];
+        this.poolItems = new long[pools];
+        this.poolEmpty = new long[pools];
+        this.valueHistogram = new long[values];
+        this.sizeHistogram = new long[maxRolls + 1];
+    }
+
+    /**
+     * Adds all counters of the other tally to this tally.
+     *
+     * @param other the tally to add
+     */
+    void add(final LootTally other) {
+        this.containers += other.containers;
+        add(this.itemContainers, other.itemContainers);
+        add(this.itemRolls, other.itemRolls);
+        add(this.itemAmount, other.itemAmount);
+        add(this.poolItems, other.poolItems);
+        add(this.poolEmpty, other.poolEmpty);
+        add(this.valueHistogram, other.valueHistogram);
+        add(this.sizeHistogram, other.sizeHistogram);
+    }
+
+    /**
+     * Adds the counters element wise.
+     *
+     * @param target the counters to add to
+     * @param source the counters to add
+     */
+    private static void add(final long[] target, final long[] source) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] += source[i];
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.mineplex.studio.example.survivalgames.simulation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mineplex.studio.example.survivalgames.game.loot.CompiledLootTable;
+import com.mineplex.studio.example.survivalgames.game.loot.CompiledLootType;
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * A loot tier of a {@link SimulatedMatch}, rolled by the same {@link CompiledLootTable} the game compiles from the loot
+ * type file.
+ * <p>
+ * The items are only rolled as indexes, the item stacks themselves are not required to simulate how many items a
+ * container hands out.
+ *
+ * @param table       the compiled loot table of the tier
+ * @param refillTicks the refill time of a container in ticks
+ * @param weaponItems the number of items of the first pool, which contains the weapons in both tiers
+ */
+public record LootTier(CompiledLootTable table, long refillTicks, int weaponItems) {
+    /**
+     * Reads and compiles a loot tier from a loot type file.
+     *
+     * @param objectMapper the object mapper to read the file with
+     * @param file         the loot type file
+     * @return the compiled loot tier
+     * @throws IOException If an I/O error occurs while reading the file.
+     */
+    public static LootTier read(final ObjectMapper objectMapper, final File file) throws IOException {
+        final JsonNode root = objectMapper.readTree(file);
+        final CompiledLootTable table = CompiledLootTable.fromJson(root);
+        final int weaponItems = table.getPoolCount() > 1 ? table.getPoolOffset(1) : table.getItemCount();
+        return new LootTier(table, CompiledLootType.readRefillTicks(root), weaponItems);
+    }
+
+    /**
+     * Checks if the rolled item is a weapon.
+     *
+     * @param item the rolled item index
+     * @return {@code true} if the item is part of the first pool, {@code false} otherwise
+     */
+    public boolean isWeapon(final int item) {
+        return item < this.weaponItems;
+    }
+}
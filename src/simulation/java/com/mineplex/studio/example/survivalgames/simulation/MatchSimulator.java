@@ -0,0 +1,134 @@
+package com.mineplex.studio.example.survivalgames.simulation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mineplex.studio.example.survivalgames.game.loot.LootConfig;
+import com.mineplex.studio.example.survivalgames.modules.performance.LatencyHistogram;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Entry point of the headless SurvivalGames match simulator.
+ * <p>
+ * Plays a number of {@link SimulatedMatch} with scripted {@link FakePlayer} and prints the per phase timings, the
+ * milliseconds per simulated tick and the allocation rate of every match. All matches are derived from a single seed,
+ * so two runs with the same arguments play the exact same matches and end with the same fingerprint.
+ * <p>
+ * The simulator does not boot {@link com.mineplex.studio.example.survivalgames.game.SurvivalGames} or its mechanics,
+ * it plays a model of a match on top of the server independent game code: the
+ * {@link com.mineplex.studio.example.survivalgames.game.spawn.SpawnAllocator}, the
+ * {@link com.mineplex.studio.example.survivalgames.game.loot.CompiledLootTable} of the shipped loot tier files, the
+ * {@link com.mineplex.studio.example.survivalgames.game.loot.LootRefillScheduler} and the
+ * {@link com.mineplex.studio.example.survivalgames.game.mechanic.ChunkGrid} of the tracking compass. The reported
+ * timings measure the model and these data structures, they are no server MSPT, and are meant to compare runs of the
+ * simulator, e.g. to spot scaling regressions in the modelled player count.
+ * <p>
+ * Arguments are passed as {@code key=value}: {@code players} (100), {@code matches} (3), {@code containers} (400),
+ * {@code seed} (42) and {@code warmup} (1).
+ */
+public final class MatchSimulator {
+    private MatchSimulator() {}
+
+    /**
+     * Runs the simulator.
+     *
+     * @param args the {@code key=value} arguments
+     * @throws IOException If an I/O error occurs while reading the loot type files.
+     */
+    public static void main(final String[] args) throws IOException {
+        final Map<String, String> options = new HashMap<>();
+        for (final String arg : args) {
+            final int separator = arg.indexOf('=');
+            if (separator > 0) {
+                options.put(arg.substring(0, separator).toLowerCase(Locale.ROOT), arg.substring(separator + 1));
+            }
+        }
+
+        final int players = Integer.parseInt(options.getOrDefault("players", "100"));
+        final int matches = Integer.parseInt(options.getOrDefault("matches", "3"));
+        final int containers = Integer.parseInt(options.getOrDefault("containers", "400"));
+        final long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        final int warmup = Integer.parseInt(options.getOrDefault("warmup", "1"));
+
+        final ObjectMapper objectMapper = new ObjectMapper();
+        final LootTier tierOne = LootTier.read(objectMapper, LootConfig.TIER_ONE_FILE);
+        final LootTier tierTwo = LootTier.read(objectMapper, LootConfig.TIER_TWO_FILE);
+
+        System.out.printf(
+                Locale.ROOT,
+                "Simulating %d matches with %d players, %d containers, seed %d%n",
+                matches,
+                players,
+                containers,
+                seed);
+
+        // Warm up the JIT with matches from an unrelated seed
+        final SplittableRandom warmupSeeds = new SplittableRandom(~seed);
+        for (int i = 0; i < warmup; i++) {
+            new SimulatedMatch(warmupSeeds.nextLong(), players, containers, tierOne, tierTwo).run();
+        }
+
+        final SplittableRandom seeds = new SplittableRandom(seed);
+        final LatencyHistogram allTicks = new LatencyHistogram();
+        long fingerprint = seed;
+        for (int i = 0; i < matches; i++) {
+            final SimulatedMatch match = new SimulatedMatch(seeds.nextLong(), players, containers, tierOne, tierTwo);
+            match.run();
+            report(i, match);
+
+            fingerprint = fingerprint * 31 + match.getTick();
+            fingerprint = fingerprint * 31 + match.getWinner();
+            fingerprint = fingerprint * 31 + match.getKills();
+            fingerprint = fingerprint * 31 + match.getContainersOpened();
+            allTicks.add(match.getTickHistogram());
+        }
+
+        System.out.printf(
+                Locale.ROOT,
+                "Overall simulated tick p50 %.3f ms, p99 %.3f ms, fingerprint %016x%n",
+                allTicks.getValueAtPercentile(50) / 1_000_000D,
+                allTicks.getValueAtPercentile(99) / 1_000_000D,
+                fingerprint);
+    }
+
+    /**
+     * Prints the report of a single match.
+     *
+     * @param index the index of the match
+     * @param match the finished match
+     */
+    private static void report(final int index, final SimulatedMatch match) {
+        final LatencyHistogram ticks = match.getTickHistogram();
+        final long startedNanos = match.getPhaseNanos().get(SimulatedMatch.Phase.STARTED);
+
+        System.out.printf(
+                Locale.ROOT,
+                "Match %d: %d ticks, winner %s, %d kills, %d containers opened, %d compass uses%n",
+                index,
+                match.getTick(),
+                match.getWinner() == -1 ? "none" : "#" + match.getWinner(),
+                match.getKills(),
+                match.getContainersOpened(),
+                match.getCompassUses());
+        final StringBuilder phases = new StringBuilder("  phases:");
+        for (final SimulatedMatch.Phase phase : SimulatedMatch.Phase.values()) {
+            phases.append(String.format(
+                    Locale.ROOT, " %s %.3f ms", phase, match.getPhaseNanos().get(phase) / 1_000_000D));
+        }
+        System.out.println(phases);
+        System.out.printf(
+                Locale.ROOT,
+                "  simulated tick ms: mean %.4f, p50 %.4f, p99 %.4f, max %.4f%n",
+                ticks.getTotalCount() == 0 ? 0 : startedNanos / 1_000_000D / ticks.getTotalCount(),
+                ticks.getValueAtPercentile(50) / 1_000_000D,
+                ticks.getValueAtPercentile(99) / 1_000_000D,
+                ticks.getValueAtPercentile(100) / 1_000_000D);
+        System.out.printf(
+                Locale.ROOT,
+                "  allocation: %d bytes per tick, %.1f MB/s%n",
+                ticks.getTotalCount() == 0 ? 0 : match.getAllocatedBytes() / ticks.getTotalCount(),
+                startedNanos == 0 ? 0 : match.getAllocatedBytes() / (startedNanos / 1_000_000_000D) / (1024 * 1024));
+    }
+}
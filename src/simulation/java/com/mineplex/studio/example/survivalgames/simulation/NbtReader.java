@@ -0,0 +1,99 @@
+package com.mineplex.studio.example.survivalgames.simulation;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * A minimal reader of the gzip compressed NBT the loot type files store for every item.
+ * <p>
+ * Compounds are read as {@link Map}, lists as {@link List}, arrays as primitive arrays and all other tags as their boxed
+ * value. This is enough to label the items of a loot type without a running server.
+ */
+public final class NbtReader {
+    private NbtReader() {}
+
+    /**
+     * Reads the root compound of gzip compressed NBT.
+     *
+     * @param compressed the gzip compressed NBT
+     * @return the root compound
+     * @throws IOException If the data is no valid NBT.
+     */
+    public static Map<String, Object> readCompressed(final byte[] compressed) throws IOException {
+        try (final DataInputStream input =
+                new DataInputStream(new GZIPInputStream(new ByteArrayInputStream(compressed)))) {
+            final byte type = input.readByte();
+            if (type != 10) {
+                throw new IOException("Expected a root compound but got tag type " + type);
+            }
+            input.readUTF();
+
+            @SuppressWarnings("unchecked")
+            final Map<String, Object> root = (Map<String, Object>) readPayload(input, type);
+            return root;
+        }
+    }
+
+    /**
+     * Reads the payload of a tag.
+     *
+     * @param input the input positioned at the payload
+     * @param type  the tag type
+     * @return the read value
+     * @throws IOException If the data is no valid NBT.
+     */
+    private static Object readPayload(final DataInputStream input, final byte type) throws IOException {
+        return switch (type) {
+            case 1 -> input.readByte();
+            case 2 -> input.readShort();
+            case 3 -> input.readInt();
+            case 4 -> input.readLong();
+            case 5 -> input.readFloat();
+            case 6 -> input.readDouble();
+            case 7 -> {
+                final byte[] values = new byte[input.readInt()];
+                input.readFully(values);
+                yield values;
+            }
+            case 8 -> input.readUTF();
+            case 9 -> {
+                final byte elementType = input.readByte();
+                final int size = input.readInt();
+                final List<Object> values = new ArrayList<>(Math.max(size, 0));
+                for (int i = 0; i < size; i++) {
+                    values.add(readPayload(input, elementType));
+                }
+                yield values;
+            }
+            case 10 -> {
+                final Map<String, Object> values = new HashMap<>();
+                byte childType;
+                while ((childType = input.readByte()) != 0) {
+                    values.put(input.readUTF(), readPayload(input, childType));
+                }
+                yield values;
+            }
+            case 11 -> {
+                final int[] values = new int[input.readInt()];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = input.readInt();
+                }
+                yield values;
+            }
+            case 12 -> {
+                final long[] values = new long[input.readInt()];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = input.readLong();
+                }
+                yield values;
+            }
+            default -> throw new IOException("Unknown tag type " + type);
+        };
+    }
+}
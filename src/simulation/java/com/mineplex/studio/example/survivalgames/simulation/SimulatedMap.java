@@ -0,0 +1,98 @@
+package com.mineplex.studio.example.survivalgames.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import lombok.Getter;
+import org.bukkit.Location;
+
+/**
+ * A generated map layout resembling the data points of a SurvivalGames map.
+ * <p>
+ * The spawns are placed on a ring around the center and the loot containers are scattered inside the border. The
+ * {@link Location} have no world, which is sufficient for the allocation and distance math of the game.
+ */
+@Getter
+public class SimulatedMap {
+    /**
+     * The minimum number of spawns, matching the spawn pads of the shipped maps.
+     */
+    private static final int MIN_SPAWNS = 24;
+
+    /**
+     * The radius of the spawn ring around the center.
+     */
+    private static final double SPAWN_RADIUS = 30;
+
+    /**
+     * The share of loot containers that are tier two containers.
+     */
+    private static final double TIER_TWO_SHARE = 0.2;
+
+    /**
+     * The spawn locations.
+     */
+    private final List<Location> spawns;
+
+    /**
+     * The x coordinate of every loot container.
+     */
+    private final double[] containerX;
+
+    /**
+     * The z coordinate of every loot container.
+     */
+    private final double[] containerZ;
+
+    /**
+     * Whether a loot container is a tier two container.
+     */
+    private final boolean[] containerTierTwo;
+
+    /**
+     * The initial border radius.
+     */
+    private final double borderRadius;
+
+    /**
+     * Generates a new map.
+     *
+     * @param random       the random generator to place the containers with
+     * @param players      the number of players the map is generated for
+     * @param containers   the number of loot containers
+     * @param borderRadius the initial border radius
+     */
+    public SimulatedMap(
+            final SplittableRandom random, final int players, final int containers, final double borderRadius) {
+        final int spawnCount = Math.max(MIN_SPAWNS, players);
+        final List<Location> spawns = new ArrayList<>(spawnCount);
+        for (int i = 0; i < spawnCount; i++) {
+            final double angle = 2 * Math.PI * i / spawnCount;
+            spawns.add(new Location(null, Math.cos(angle) * SPAWN_RADIUS, 64, Math.sin(angle) * SPAWN_RADIUS));
+        }
+        this.spawns = List.copyOf(spawns);
+
+        this.containerX = new double[containers];
+        this.containerZ = new double[containers];
+        this.containerTierTwo = new boolean[containers];
+        for (int i = 0; i < containers; i++) {
+            // Uniformly distributed inside the border circle
+            final double radius = Math.sqrt(random.nextDouble()) * borderRadius;
+            final double angle = random.nextDouble(2 * Math.PI);
+            this.containerX[i] = Math.cos(angle) * radius;
+            this.containerZ[i] = Math.sin(angle) * radius;
+            this.containerTierTwo[i] = random.nextDouble() < TIER_TWO_SHARE;
+        }
+
+        this.borderRadius = borderRadius;
+    }
+
+    /**
+     * Returns the number of loot containers.
+     *
+     * @return the loot container count
+     */
+    public int getContainerCount() {
+        return this.containerX.length;
+    }
+}
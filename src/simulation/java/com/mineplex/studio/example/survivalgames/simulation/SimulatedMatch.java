@@ -0,0 +1,462 @@
+package com.mineplex.studio.example.survivalgames.simulation;
+
+import com.mineplex.studio.example.survivalgames.game.loot.CompiledLootTable;
+import com.mineplex.studio.example.survivalgames.game.loot.LootRefillScheduler;
+import com.mineplex.studio.example.survivalgames.game.loot.SurvivalGamesLootMechanic;
+import com.mineplex.studio.example.survivalgames.game.mechanic.ChunkGrid;
+import com.mineplex.studio.example.survivalgames.game.mechanic.TrackingCompassMechanic;
+import com.mineplex.studio.example.survivalgames.game.spawn.SpawnAllocator;
+import com.mineplex.studio.example.survivalgames.modules.performance.LatencyHistogram;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import lombok.Getter;
+import org.bukkit.Location;
+
+/**
+ * A single headless model of a SurvivalGames match played by {@link FakePlayer}.
+ * <p>
+ * The match models the game states of the game, PREPARING, PRE_START, STARTED and ENDED, and records the time spent
+ * in every modelled state. While STARTED, every simulated tick is timed into a {@link LatencyHistogram} and the bytes
+ * allocated by the match thread are recorded.
+ * <p>
+ * The scripted decisions, fighting and the border are modelled here, while the data structures of the game run for
+ * real: spawns are allocated by the {@link SpawnAllocator}, containers are rolled by the {@link CompiledLootTable} of
+ * the shipped loot type files and refilled by the {@link LootRefillScheduler} with the limits of the
+ * {@link SurvivalGamesLootMechanic}, and the closest player is found through the {@link ChunkGrid} the
+ * {@link TrackingCompassMechanic} tracks the alive players in. The mechanics themselves are not booted, so the recorded
+ * timings cover this model and the real data structures it drives.
+ */
+@Getter
+public class SimulatedMatch {
+    /**
+     * The modelled game states of a match.
+     */
+    public enum Phase {
+        PREPARING,
+        PRE_START,
+        STARTED,
+        ENDED
+    }
+
+    /**
+     * The number of ticks players spend looting before they start hunting.
+     */
+    private static final int LOOT_PHASE_TICKS = 1200;
+
+    /**
+     * The number of ticks until the border reached its minimum radius.
+     */
+    private static final int BORDER_SHRINK_TICKS = 12_000;
+
+    /**
+     * The minimum radius of the border.
+     */
+    private static final double MIN_BORDER_RADIUS = 10;
+
+    /**
+     * The damage per tick dealt to players outside the border.
+     */
+    private static final double BORDER_DAMAGE = 0.5;
+
+    /**
+     * The number of ticks after which the match is ended without a winner.
+     */
+    private static final int MAX_TICKS = 36_000;
+
+    /**
+     * The distance a player moves per tick.
+     */
+    private static final double SPEED = 0.2;
+
+    /**
+     * The squared distance a player can attack from.
+     */
+    private static final double ATTACK_REACH_SQUARED = 3 * 3;
+
+    /**
+     * The number of ticks between two attacks of a player.
+     */
+    private static final int ATTACK_COOLDOWN_TICKS = 10;
+
+    /**
+     * The squared distance a player can open a loot container from.
+     */
+    private static final double LOOT_REACH_SQUARED = 2 * 2;
+
+    /**
+     * The number of random loot containers a looting player picks the closest one from.
+     */
+    private static final int CONTAINER_SAMPLES = 8;
+
+    /**
+     * The chance of a rolled item being a tracking compass.
+     */
+    private static final double COMPASS_CHANCE = 0.02;
+
+    /**
+     * The number of uses of a tracking compass.
+     */
+    private static final int COMPASS_USES = 5;
+
+    /**
+     * The number of ticks between two tracking compass uses of a player.
+     */
+    private static final int COMPASS_INTERVAL_TICKS = 100;
+
+    /**
+     * The random generator driving every decision of this match.
+     */
+    private final SplittableRandom random;
+
+    /**
+     * The number of participants.
+     */
+    private final int participants;
+
+    /**
+     * The number of loot containers.
+     */
+    private final int containers;
+
+    /**
+     * The tier one loot.
+     */
+    private final LootTier tierOne;
+
+    /**
+     * The tier two loot.
+     */
+    private final LootTier tierTwo;
+
+    /**
+     * The time spent in every phase in nanoseconds.
+     */
+    private final Map<Phase, Long> phaseNanos = new EnumMap<>(Phase.class);
+
+    /**
+     * The duration of every STARTED tick in nanoseconds.
+     */
+    private final LatencyHistogram tickHistogram = new LatencyHistogram();
+
+    /**
+     * The buffer receiving the rolled items of a container.
+     */
+    private final int[] rolled;
+
+    /**
+     * The buffer receiving the rolled amounts of a container.
+     */
+    private final int[] amounts;
+
+    /**
+     * The alive players by position, searched for the closest player like the tracking compass does.
+     */
+    private final ChunkGrid<FakePlayer> positions = new ChunkGrid<>();
+
+    /**
+     * The generated map.
+     */
+    private SimulatedMap map;
+
+    /**
+     * All players by id.
+     */
+    private FakePlayer[] players;
+
+    /**
+     * The ids of all alive players, only the first {@link this#aliveCount} entries are in use.
+     */
+    private int[] alive;
+
+    /**
+     * The number of alive players.
+     */
+    private int aliveCount;
+
+    /**
+     * Whether every loot container is filled.
+     */
+    private boolean[] filled;
+
+    /**
+     * The scheduler refilling the opened loot containers.
+     */
+    private LootRefillScheduler refillScheduler;
+
+    /**
+     * The current tick.
+     */
+    private long tick;
+
+    /**
+     * The bytes allocated by the match thread while STARTED.
+     */
+    private long allocatedBytes;
+
+    /**
+     * The number of opened loot containers.
+     */
+    private long containersOpened;
+
+    /**
+     * The number of tracking compass uses.
+     */
+    private long compassUses;
+
+    /**
+     * The number of kills.
+     */
+    private long kills;
+
+    /**
+     * The id of the winner, or {@code -1} if the match ended without a winner.
+     */
+    private int winner = -1;
+
+    /**
+     * Constructs a new match.
+     *
+     * @param seed         the seed of the match
+     * @param participants the number of participants
+     * @param containers   the number of loot containers
+     * @param tierOne      the tier one loot
+     * @param tierTwo      the tier two loot
+     */
+    public SimulatedMatch(
+            final long seed,
+            final int participants,
+            final int containers,
+            final LootTier tierOne,
+            final LootTier tierTwo) {
+        this.random = new SplittableRandom(seed);
+        this.participants = participants;
+        this.containers = containers;
+        this.tierOne = tierOne;
+        this.tierTwo = tierTwo;
+
+        final int maxRolls = Math.max(tierOne.table().getMaxRolls(), tierTwo.table().getMaxRolls());
+        this.rolled = new int[maxRolls];
+        this.amounts = new int[maxRolls];
+    }
+
+    /**
+     * Plays the match from PREPARING till ENDED.
+     */
+    public void run() {
+        long start = System.nanoTime();
+        this.map = new SimulatedMap(this.random, this.participants, this.containers, 80 + this.participants);
+        this.filled = new boolean[this.map.getContainerCount()];
+        Arrays.fill(this.filled, true);
+        this.refillScheduler =
+                new LootRefillScheduler(this.random.split(), SurvivalGamesLootMechanic.MAX_REFILLS_PER_TICK, 0);
+        start = this.finishPhase(Phase.PREPARING, start);
+
+        // Every fake player joins during PRE_START
+        this.players = new FakePlayer[this.participants];
+        this.alive = new int[this.participants];
+        for (int id = 0; id < this.participants; id++) {
+            this.players[id] = new FakePlayer(id);
+            this.alive[this.aliveCount++] = id;
+        }
+        start = this.finishPhase(Phase.PRE_START, start);
+
+        final SpawnAllocator allocator = new SpawnAllocator(this.map.getSpawns(), this.random.split());
+        for (final FakePlayer player : this.players) {
+            final Location spawn = allocator.next();
+            player.x = spawn.getX();
+            player.z = spawn.getZ();
+            this.positions.put(player, player.x, player.z);
+        }
+
+        final com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        while (this.aliveCount > 1 && this.tick < MAX_TICKS) {
+            final long tickStart = System.nanoTime();
+            this.tick();
+            this.tickHistogram.record(System.nanoTime() - tickStart);
+            this.tick++;
+        }
+        this.allocatedBytes = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        start = this.finishPhase(Phase.STARTED, start);
+
+        if (this.aliveCount == 1) {
+            this.winner = this.alive[0];
+        }
+        this.finishPhase(Phase.ENDED, start);
+    }
+
+    /**
+     * Records the duration of the phase.
+     *
+     * @param phase the finished phase
+     * @param start the start of the phase in nanoseconds
+     * @return the start of the next phase in nanoseconds
+     */
+    private long finishPhase(final Phase phase, final long start) {
+        final long now = System.nanoTime();
+        this.phaseNanos.put(phase, now - start);
+        return now;
+    }
+
+    /**
+     * Simulates a single tick of the STARTED phase.
+     */
+    private void tick() {
+        this.refillScheduler.tick(this.tick, container -> this.filled[(int) container] = true);
+
+        final double borderRadius = Math.max(
+                MIN_BORDER_RADIUS, this.map.getBorderRadius() * (1 - (double) this.tick / BORDER_SHRINK_TICKS));
+        final double borderRadiusSquared = borderRadius * borderRadius;
+
+        for (int i = 0; i < this.aliveCount; i++) {
+            final FakePlayer player = this.players[this.alive[i]];
+            if (!player.isAlive()) {
+                continue;
+            }
+
+            final FakePlayer nearest = this.findNearest(player);
+            if (nearest != null) {
+                this.fight(player, nearest);
+            }
+
+            if (this.tick < LOOT_PHASE_TICKS) {
+                this.loot(player);
+            } else {
+                this.hunt(player, nearest);
+            }
+            this.positions.move(player, player.x, player.z);
+
+            if (player.distanceSquared(0, 0) > borderRadiusSquared) {
+                player.health -= BORDER_DAMAGE;
+            }
+        }
+
+        // Remove the dead players while keeping the alive ids dense
+        for (int i = this.aliveCount - 1; i >= 0; i--) {
+            final FakePlayer player = this.players[this.alive[i]];
+            if (!player.isAlive()) {
+                this.positions.remove(player);
+                this.alive[i] = this.alive[--this.aliveCount];
+            }
+        }
+    }
+
+    /**
+     * Finds the closest alive player through the {@link ChunkGrid}, the same query the tracking compass performs.
+     *
+     * @param player the player to search from
+     * @return the closest other alive player, or {@code null} if there is none
+     */
+    private FakePlayer findNearest(final FakePlayer player) {
+        return this.positions.nearest(player.x, player.z, other -> other != player && other.isAlive());
+    }
+
+    /**
+     * Attacks the target if it is in reach and the attack cooldown is over.
+     *
+     * @param player the attacking player
+     * @param target the attacked player
+     */
+    private void fight(final FakePlayer player, final FakePlayer target) {
+        if (player.attackCooldownUntil > this.tick
+                || player.distanceSquared(target.x, target.z) > ATTACK_REACH_SQUARED) {
+            return;
+        }
+
+        player.attackCooldownUntil = this.tick + ATTACK_COOLDOWN_TICKS;
+        target.health -= player.damage;
+        if (!target.isAlive()) {
+            this.kills++;
+        }
+    }
+
+    /**
+     * Walks to a filled loot container and opens it once in reach.
+     *
+     * @param player the looting player
+     */
+    private void loot(final FakePlayer player) {
+        if (player.containerTarget == -1 || !this.filled[player.containerTarget]) {
+            player.containerTarget = this.pickContainer(player);
+        }
+
+        final int container = player.containerTarget;
+        final double containerX = this.map.getContainerX()[container];
+        final double containerZ = this.map.getContainerZ()[container];
+        player.moveTowards(containerX, containerZ, SPEED);
+        if (player.distanceSquared(containerX, containerZ) > LOOT_REACH_SQUARED) {
+            return;
+        }
+
+        // Open the container
+        final boolean tierTwo = this.map.getContainerTierTwo()[container];
+        final LootTier tier = tierTwo ? this.tierTwo : this.tierOne;
+        this.filled[container] = false;
+        this.refillScheduler.schedule(
+                container,
+                this.tick + tier.refillTicks(),
+                SurvivalGamesLootMechanic.getRefillJitterTicks(tier.refillTicks()));
+        this.containersOpened++;
+        player.containerTarget = -1;
+
+        final int count = tier.table().roll(this.random, this.rolled, this.amounts);
+        for (int i = 0; i < count; i++) {
+            player.lootedItems += this.amounts[i];
+            if (tier.isWeapon(this.rolled[i])) {
+                player.damage = Math.max(player.damage, tierTwo ? 6 : 4);
+            }
+            if (this.random.nextDouble() < COMPASS_CHANCE) {
+                player.compassUses += COMPASS_USES;
+            }
+        }
+    }
+
+    /**
+     * Picks the closest of a few random loot containers.
+     *
+     * @param player the looting player
+     * @return the index of the picked container
+     */
+    private int pickContainer(final FakePlayer player) {
+        int best = this.random.nextInt(this.filled.length);
+        double bestDistance = Double.MAX_VALUE;
+        for (int i = 0; i < CONTAINER_SAMPLES; i++) {
+            final int candidate = this.random.nextInt(this.filled.length);
+            final double distance =
+                    player.distanceSquared(this.map.getContainerX()[candidate], this.map.getContainerZ()[candidate]);
+            if (this.filled[candidate] && distance < bestDistance) {
+                best = candidate;
+                bestDistance = distance;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Walks towards the hunted player, updating the target through the tracking compass if available.
+     *
+     * @param player  the hunting player
+     * @param nearest the closest other alive player, or {@code null} if there is none
+     */
+    private void hunt(final FakePlayer player, final FakePlayer nearest) {
+        if (nearest == null) {
+            return;
+        }
+
+        if (player.compassUses > 0 && (this.tick + player.getId()) % COMPASS_INTERVAL_TICKS == 0) {
+            player.compassUses--;
+            player.playerTarget = nearest.getId();
+            this.compassUses++;
+        }
+
+        FakePlayer target = nearest;
+        if (player.playerTarget != -1 && this.players[player.playerTarget].isAlive()) {
+            target = this.players[player.playerTarget];
+        }
+        player.moveTowards(target.x, target.z, SPEED);
+    }
+}